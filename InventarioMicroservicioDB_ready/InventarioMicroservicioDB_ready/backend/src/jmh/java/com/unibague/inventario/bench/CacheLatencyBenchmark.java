@@ -0,0 +1,100 @@
+package com.unibague.inventario.bench;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.unibague.inventario.InventarioDbApplication;
+import com.unibague.inventario.config.CacheConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Latencia de las lecturas por clave con y sin la caché de
+ * {@link CacheConfig}. El modo {@code SampleTime} informa los percentiles
+ * (p0.50, p0.99, p0.999) de cada llamada.
+ *
+ * <p>Los datos son los sintéticos de {@code inventario.dataset.*}
+ * ({@value #PROVEEDORES} proveedores, {@value #SEMILLAS} semillas) y, como
+ * en el tráfico real, las consultas se concentran en {@value #CALIENTES}
+ * claves. Sin caché se usa la misma configuración con
+ * {@code expireAfterWrite=0s}: cada lectura pasa por el proxy y falla, así
+ * que solo cambia el acierto. La tasa de aciertos se imprime al terminar
+ * cada fork para comprobar qué se midió. Con {@code -t N} se mide con
+ * lectores concurrentes.</p>
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CacheLatencyBenchmark {
+
+    static final int PROVEEDORES = 500;
+    static final int SEMILLAS = 50_000;
+    static final int CALIENTES = 300;
+
+    private static final String SPEC = "maximumSize=10000,expireAfterWrite=%s,recordStats";
+
+    @Param({"true", "false"})
+    public boolean cache;
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mvc;
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(InventarioDbApplication.class)
+                .properties("server.port=0",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN")
+                // Como argumentos: properties() no se impone a application.properties
+                .run("--inventario.dataset.proveedores=" + PROVEEDORES,
+                        "--inventario.dataset.semillas=" + SEMILLAS,
+                        "--spring.cache.caffeine.spec=" + SPEC.formatted(cache ? "60s" : "0s"));
+        mvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        CacheManager caches = context.getBean(CacheManager.class);
+        for (String nombre : new String[] {CacheConfig.SEMILLAS, CacheConfig.PROVEEDORES}) {
+            Cache<?, ?> nativa = (Cache<?, ?>) caches.getCache(nombre).getNativeCache();
+            System.out.printf("%ncaché %s (%s): tasa de aciertos %.3f%n",
+                    nombre, cache ? "activa" : "desactivada", nativa.stats().hitRate());
+        }
+        context.close();
+    }
+
+    @Benchmark
+    public MvcResult getSemilla() throws Exception {
+        int i = ThreadLocalRandom.current().nextInt(CALIENTES);
+        return mvc.perform(get("/api/v1/semillas/" + String.format("G%09d", i))).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult getProveedor() throws Exception {
+        int i = ThreadLocalRandom.current().nextInt(CALIENTES);
+        return mvc.perform(get("/api/v1/proveedores/" + (700_000_000 + i))).andReturn();
+    }
+}
@@ -0,0 +1,163 @@
+package com.unibague.inventario.bench;
+
+import com.unibague.inventario.InventarioDbApplication;
+import com.unibague.inventario.dto.SemillaRequest;
+import com.unibague.inventario.service.CreateSemillasBatchService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/**
+ * Recorrido completo de cada endpoint con MockMvc: enlace de parámetros,
+ * servicio, BD H2, mapeo y serialización, sin la capa de red.
+ *
+ * <p>Arranca la aplicación una vez por fork con {@value #SEMILLAS} semillas
+ * repartidas entre los dos proveedores de ejemplo. Las escrituras se eligen
+ * para que el estado no crezca: el movimiento de stock alterna +1/-1, el
+ * PUT reenvía el mismo cuerpo y el alta se deshace en la misma
+ * invocación.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EndpointBenchmark {
+
+    static final int SEMILLAS = 2_000;
+
+    private static final String SEMILLA_JSON = """
+            {"codigo":"%s","nombre":"Maíz amarillo","precio":1200.0,"stock":50,"tipoSemilla":"Cereal",
+             "porcentajeGerminacion":92.5,"proveedorNit":"900123456","fechaIngreso":"2025-03-01T10:15:30"}""";
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mvc;
+    private final AtomicLong secuencia = new AtomicLong();
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(InventarioDbApplication.class)
+                .properties("server.port=0",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN")
+                .run();
+        mvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+
+        List<SemillaRequest> lote = new ArrayList<>(SEMILLAS);
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        for (int i = 0; i < SEMILLAS; i++) {
+            SemillaRequest r = new SemillaRequest();
+            r.setCodigo(String.format("B%05d", i));
+            r.setNombre((i % 2 == 0 ? "Maíz " : "Frijol ") + i);
+            r.setPrecio(1000.0 + i);
+            r.setStock(10 + i % 90);
+            r.setTipoSemilla(i % 2 == 0 ? "Cereal" : "Leguminosa");
+            r.setPorcentajeGerminacion(70.0 + i % 30);
+            r.setProveedorNit(i % 3 == 0 ? "900654321" : "900123456");
+            r.setFechaIngreso(base.plusHours(i));
+            lote.add(r);
+        }
+        context.getBean(CreateSemillasBatchService.class).createAll(lote);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MvcResult getSemilla() throws Exception {
+        return mvc.perform(get("/api/v1/semillas/B00042")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult listSemillas() throws Exception {
+        return mvc.perform(get("/api/v1/semillas").param("limit", "50")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult listSemillasFiltradas() throws Exception {
+        return mvc.perform(get("/api/v1/semillas")
+                .param("tipo", "Cereal")
+                .param("desde", "2025-01-10T00:00:00")
+                .param("sort", "fechaIngreso")
+                .param("limit", "50")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult sugerenciasSemillas() throws Exception {
+        return mvc.perform(get("/api/v1/semillas/sugerencias").param("q", "maiz 1")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult analytics() throws Exception {
+        return mvc.perform(get("/api/v1/semillas/analytics").param("agrupar", "tipo,mes")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult getProveedor() throws Exception {
+        return mvc.perform(get("/api/v1/proveedores/900123456")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult listProveedores() throws Exception {
+        return mvc.perform(get("/api/v1/proveedores").param("ciudad", "bogota").param("activo", "true")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult topProveedores() throws Exception {
+        return mvc.perform(get("/api/v1/proveedores/top").param("n", "5")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult ajustarStock() throws Exception {
+        String delta = (secuencia.incrementAndGet() % 2 == 0) ? "-1" : "1";
+        return mvc.perform(patch("/api/v1/semillas/B00007/stock")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"delta\":" + delta + "}")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult actualizarSemilla() throws Exception {
+        return mvc.perform(put("/api/v1/semillas/B00011")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(SEMILLA_JSON.formatted("B00011"))).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult crearYEliminarSemilla() throws Exception {
+        String codigo = "N" + secuencia.incrementAndGet();
+        mvc.perform(post("/api/v1/semillas")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(SEMILLA_JSON.formatted(codigo))).andReturn();
+        return mvc.perform(delete("/api/v1/semillas/" + codigo)).andReturn();
+    }
+}
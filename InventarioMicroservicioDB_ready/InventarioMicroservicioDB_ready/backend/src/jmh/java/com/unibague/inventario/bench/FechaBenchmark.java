@@ -0,0 +1,47 @@
+package com.unibague.inventario.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lectura y escritura de fechas ISO-8601: los filtros {@code desde}/{@code hasta}
+ * y los cursores se interpretan con {@code LocalDateTime.parse}, y cada fila
+ * de respuesta formatea su fecha con {@code toString}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FechaBenchmark {
+
+    private final String filtro = "2025-03-01T10:15:30";
+    private final String cursor = "2025-03-01T10:15:30.123456";
+    private final LocalDateTime fecha = LocalDateTime.of(2025, 3, 1, 10, 15, 30, 123_456_000);
+
+    @Benchmark
+    public LocalDateTime parseFiltro() {
+        return LocalDateTime.parse(filtro);
+    }
+
+    @Benchmark
+    public LocalDateTime parseCursor() {
+        return LocalDateTime.parse(cursor);
+    }
+
+    @Benchmark
+    public String formatear() {
+        return fecha.toString();
+    }
+}
@@ -0,0 +1,127 @@
+package com.unibague.inventario.bench;
+
+import com.unibague.inventario.InventarioDbApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Listado de proveedores con los filtros ciudad/activo/nombre sobre
+ * cantidades realistas de proveedores (parámetro {@code proveedores}, con
+ * {@value #SEMILLAS_POR_PROVEEDOR} semillas sintéticas por proveedor para
+ * que el resumen de cada página tenga datos).
+ *
+ * <p>Como en {@link FiltrosSemillasBenchmark}, cada caso comprueba antes
+ * con {@code EXPLAIN} que la consulta del listado usa su índice y aborta si
+ * no; con activo fijo exige además que el orden salga del índice. Solo con
+ * la ciudad no hay índice que dé el orden por NIT y se ordenan las filas de
+ * la ciudad. La búsqueda por nombre ({@code like '%x%'} sobre {@code nombre_norm})
+ * no puede usar índice y no se comprueba: se mide para ver cuánto cuesta el
+ * recorrido completo a cada escala.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FiltrosProveedoresBenchmark {
+
+    static final int SEMILLAS_POR_PROVEEDOR = 10;
+
+    private static final String SELECT = "select p1_0.nit from proveedores p1_0 where ";
+
+    /**
+     * Parámetros del listado, consulta equivalente, índice esperado
+     * ({@code null}: sin índice) y si el orden debe salir del índice.
+     */
+    private record Caso(Map<String, String> params, String sql, String indice, boolean ordenado) {}
+
+    private static final Map<String, Caso> CASOS = Map.of(
+            "ciudadActivo", new Caso(
+                    Map.of("ciudad", "Bogotá", "activo", "true"),
+                    "p1_0.ciudad_norm = 'bogota' and p1_0.activo = true"
+                            + " order by p1_0.ciudad_norm, p1_0.activo, p1_0.nit",
+                    "IDX_PROVEEDORES_CIUDAD_ACTIVO", true),
+            "ciudad", new Caso(
+                    Map.of("ciudad", "MONTERÍA"),
+                    "p1_0.ciudad_norm = 'monteria' order by p1_0.nit",
+                    "IDX_PROVEEDORES_CIUDAD_ACTIVO", false),
+            "inactivos", new Caso(
+                    Map.of("activo", "false"),
+                    "p1_0.activo = false order by p1_0.activo, p1_0.nit",
+                    "IDX_PROVEEDORES_ACTIVO", true),
+            "nombre", new Caso(
+                    Map.of("nombre", "norte", "activo", "true"),
+                    "p1_0.nombre_norm like '%norte%' and p1_0.activo = true order by p1_0.activo, p1_0.nit",
+                    null, false));
+
+    /** Proveedores registrados: una cooperativa regional y un distribuidor nacional. */
+    @Param({"2000", "20000"})
+    public int proveedores;
+
+    @Param({"ciudadActivo", "ciudad", "inactivos", "nombre"})
+    public String filtro;
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mvc;
+    private MockHttpServletRequestBuilder peticion;
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(InventarioDbApplication.class)
+                .properties("server.port=0",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN")
+                // Como argumentos: properties() no se impone a application.properties
+                .run("--inventario.dataset.proveedores=" + proveedores,
+                        "--inventario.dataset.semillas=" + proveedores * SEMILLAS_POR_PROVEEDOR);
+        mvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+
+        Caso caso = CASOS.get(filtro);
+        String plan = context.getBean(JdbcTemplate.class).queryForObject(
+                "explain " + SELECT + caso.sql() + " fetch first 51 rows only", String.class);
+        System.out.printf("%nPlan de '%s' con %d proveedores:%n%s%n", filtro, proveedores, plan);
+        if (caso.indice() != null && !plan.contains(caso.indice())) {
+            throw new IllegalStateException("El plan de '" + filtro + "' no usa " + caso.indice());
+        }
+        if (caso.ordenado() && !plan.contains("index sorted")) {
+            throw new IllegalStateException("El plan de '" + filtro + "' ordena las filas en vez de leerlas del índice");
+        }
+
+        peticion = get("/api/v1/proveedores").param("limit", "50");
+        caso.params().forEach((k, v) -> peticion.param(k, v));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MvcResult listar() throws Exception {
+        return mvc.perform(peticion).andReturn();
+    }
+}
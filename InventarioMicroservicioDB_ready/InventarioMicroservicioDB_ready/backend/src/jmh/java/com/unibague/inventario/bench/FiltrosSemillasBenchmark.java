@@ -0,0 +1,140 @@
+package com.unibague.inventario.bench;
+
+import com.unibague.inventario.InventarioDbApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Listado de semillas con filtros combinados sobre un conjunto grande
+ * ({@value #SEMILLAS} semillas sintéticas de {@code inventario.dataset.*}).
+ *
+ * <p>Antes de medir, cada caso ejecuta {@code EXPLAIN} sobre la misma
+ * consulta que genera el listado (predicados, orden y {@code fetch first})
+ * y aborta si el plan no usa el índice de {@code V2__indices.sql} que le
+ * corresponde; el plan se imprime para poder revisarlo. Cada caso es un
+ * fork con su propia carga de datos (alrededor de un minuto y medio); se
+ * elige uno con {@code -p filtro=tipo}.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FiltrosSemillasBenchmark {
+
+    static final int PROVEEDORES = 2_000;
+    static final int SEMILLAS = 500_000;
+
+    private static final String SELECT = "select s1_0.codigo from semillas s1_0 where ";
+
+    /** Parámetros del listado, consulta equivalente e índice que debe aparecer en su plan. */
+    private record Caso(Map<String, String> params, String sql, String indice) {}
+
+    private static final Map<String, Caso> CASOS = Map.of(
+            "tipo", new Caso(
+                    Map.of("tipo", "Aromática"),
+                    "s1_0.tipo_semilla = 'Aromática' order by s1_0.tipo_semilla, s1_0.codigo",
+                    "IDX_SEMILLAS_TIPO"),
+            "proveedorDesde", new Caso(
+                    Map.of("proveedorNit", "700000100", "desde", "2025-01-01T00:00:00"),
+                    "s1_0.proveedor_nit = '700000100' and s1_0.fecha_ingreso >= timestamp '2025-01-01 00:00:00'"
+                            + " order by s1_0.fecha_ingreso desc, s1_0.codigo desc",
+                    "IDX_SEMILLAS_PROVEEDOR_FECHA"),
+            "germinacion", new Caso(
+                    Map.of("germinacionMin", "98", "sort", "porcentajeGerminacion"),
+                    "s1_0.porcentaje_germinacion >= 98 order by s1_0.porcentaje_germinacion, s1_0.codigo",
+                    "IDX_SEMILLAS_GERMINACION"),
+            "germinacionDefecto", new Caso(
+                    Map.of("germinacionMin", "90"),
+                    "s1_0.porcentaje_germinacion >= 90"
+                            + " order by s1_0.porcentaje_germinacion desc, s1_0.codigo desc",
+                    "IDX_SEMILLAS_GERMINACION_DESC"),
+            "precio", new Caso(
+                    Map.of("precioMin", "15000", "precioMax", "20000", "sort", "precio"),
+                    "s1_0.precio between 15000 and 20000 order by s1_0.precio, s1_0.codigo",
+                    "IDX_SEMILLAS_PRECIO"),
+            "fecha", new Caso(
+                    Map.of("desde", "2025-06-01T00:00:00", "sort", "fechaIngreso"),
+                    "s1_0.fecha_ingreso >= timestamp '2025-06-01 00:00:00' order by s1_0.fecha_ingreso, s1_0.codigo",
+                    "IDX_SEMILLAS_FECHA_INGRESO"),
+            "fechaDefecto", new Caso(
+                    Map.of("desde", "2025-06-01T00:00:00"),
+                    "s1_0.fecha_ingreso >= timestamp '2025-06-01 00:00:00'"
+                            + " order by s1_0.fecha_ingreso desc, s1_0.codigo desc",
+                    "IDX_SEMILLAS_FECHA_INGRESO_DESC"),
+            "agotadas", new Caso(
+                    Map.of("stockMax", "0", "sort", "stock"),
+                    "s1_0.stock <= 0 order by s1_0.stock, s1_0.codigo",
+                    "IDX_SEMILLAS_STOCK"),
+            "combinado", new Caso(
+                    Map.of("tipo", "Hortaliza", "germinacionMin", "95", "desde", "2025-01-01T00:00:00"),
+                    "s1_0.tipo_semilla = 'Hortaliza' and s1_0.porcentaje_germinacion >= 95"
+                            + " and s1_0.fecha_ingreso >= timestamp '2025-01-01 00:00:00'"
+                            + " order by s1_0.porcentaje_germinacion desc, s1_0.codigo desc",
+                    "IDX_SEMILLAS_TIPO"));
+
+    @Param({"tipo", "proveedorDesde", "germinacion", "germinacionDefecto", "precio", "fecha", "fechaDefecto",
+            "agotadas", "combinado"})
+    public String filtro;
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mvc;
+    private MockHttpServletRequestBuilder peticion;
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(InventarioDbApplication.class)
+                .properties("server.port=0",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN")
+                // Como argumentos: properties() no se impone a application.properties
+                .run("--inventario.dataset.proveedores=" + PROVEEDORES,
+                        "--inventario.dataset.semillas=" + SEMILLAS);
+        mvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+
+        Caso caso = CASOS.get(filtro);
+        String plan = context.getBean(JdbcTemplate.class).queryForObject(
+                "explain " + SELECT + caso.sql() + " fetch first 51 rows only", String.class);
+        System.out.printf("%nPlan de '%s':%n%s%n", filtro, plan);
+        if (!plan.contains(caso.indice())) {
+            throw new IllegalStateException("El plan de '" + filtro + "' no usa " + caso.indice());
+        }
+
+        peticion = get("/api/v1/semillas").param("limit", "50");
+        caso.params().forEach((k, v) -> peticion.param(k, v));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MvcResult listar() throws Exception {
+        return mvc.perform(peticion).andReturn();
+    }
+}
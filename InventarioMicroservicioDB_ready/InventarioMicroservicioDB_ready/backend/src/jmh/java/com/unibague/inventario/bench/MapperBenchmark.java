@@ -0,0 +1,64 @@
+package com.unibague.inventario.bench;
+
+import com.unibague.inventario.dto.ProveedorResponse;
+import com.unibague.inventario.dto.SemillaResponse;
+import com.unibague.inventario.entity.Proveedor;
+import com.unibague.inventario.entity.ResumenProveedor;
+import com.unibague.inventario.entity.Semilla;
+import com.unibague.inventario.mapper.ProveedorMapper;
+import com.unibague.inventario.mapper.SemillaMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversión entidad → respuesta, que se ejecuta por cada fila de un listado.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private Semilla semilla;
+    private Proveedor proveedor;
+    private ResumenProveedor resumen;
+
+    @Setup
+    public void setup() {
+        proveedor = new Proveedor("900123456", "AgroUni", "Bogotá", "3001234567",
+                LocalDateTime.of(2025, 1, 15, 8, 30), true);
+        proveedor.setVersion(3L);
+        semilla = new Semilla("S001", "Maíz amarillo", 1200.0, 50, "Cereal", 92.5,
+                LocalDateTime.of(2025, 3, 1, 10, 15, 30), proveedor);
+        semilla.setVersion(7L);
+        resumen = new ResumenProveedor(proveedor.getNit());
+    }
+
+    @Benchmark
+    public SemillaResponse semillaToResponse() {
+        return SemillaMapper.toResponse(semilla);
+    }
+
+    @Benchmark
+    public ProveedorResponse proveedorToResponse() {
+        return ProveedorMapper.toResponse(proveedor);
+    }
+
+    @Benchmark
+    public ProveedorResponse proveedorConResumen() {
+        return ProveedorMapper.toResponse(proveedor, resumen);
+    }
+}
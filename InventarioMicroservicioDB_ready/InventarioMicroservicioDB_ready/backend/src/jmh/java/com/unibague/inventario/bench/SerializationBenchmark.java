@@ -0,0 +1,78 @@
+package com.unibague.inventario.bench;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.unibague.inventario.dto.SemillaResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialización JSON de una página de semillas (listado) y de las mismas
+ * filas como NDJSON (exportación), con un ObjectMapper configurado como el
+ * de la aplicación.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    /** Tamaño por defecto y máximo de una página del listado. */
+    @Param({"50", "500"})
+    public int filas;
+
+    private ObjectMapper objectMapper;
+    private List<SemillaResponse> pagina;
+
+    @Setup
+    public void setup() {
+        // Igual que la autoconfiguración de Spring Boot con spring.jackson.time-zone=UTC
+        objectMapper = Jackson2ObjectMapperBuilder.json().timeZone("UTC").build();
+        pagina = new ArrayList<>(filas);
+        LocalDateTime fecha = LocalDateTime.of(2025, 3, 1, 10, 15, 30);
+        for (int i = 0; i < filas; i++) {
+            SemillaResponse r = new SemillaResponse(String.format("S%05d", i), "Maíz amarillo " + i,
+                    1200.0 + i, 50 + i, (i % 2 == 0) ? "Cereal" : "Leguminosa", 80.0 + (i % 20),
+                    "900123456", fecha.plusMinutes(i).toString());
+            r.setVersion((long) i);
+            pagina.add(r);
+        }
+    }
+
+    @Benchmark
+    public byte[] lista() throws IOException {
+        return objectMapper.writeValueAsBytes(pagina);
+    }
+
+    @Benchmark
+    public void ndjson() throws IOException {
+        try (SequenceWriter seq = objectMapper.writer()
+                .withRootValueSeparator("\n")
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .writeValues(OutputStream.nullOutputStream())) {
+            for (SemillaResponse r : pagina) {
+                seq.write(r);
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.unibague.inventario.bench;
+
+import com.unibague.inventario.InventarioDbApplication;
+import com.unibague.inventario.dto.SemillaRequest;
+import com.unibague.inventario.dto.StockResponse;
+import com.unibague.inventario.service.AdjustStockService;
+import com.unibague.inventario.service.CreateSemillasBatchService;
+import com.unibague.inventario.service.HotStockCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Movimientos de stock concurrentes sobre un mismo código: contadores en
+ * memoria ({@link HotStockCounters}) frente a la actualización directa de la
+ * fila, que serializa a todos los hilos en su bloqueo.
+ *
+ * <p>Cada hilo alterna +1/-1 sobre una existencia inicial de
+ * {@value #STOCK} unidades, así que ningún movimiento se rechaza por falta de
+ * stock. Con contadores el volcado programado sigue activo, de modo que la
+ * medida incluye su coste. El número de hilos se cambia con {@code -t} y las
+ * franjas con {@code -p stripes=N}.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StockContentionBenchmark {
+
+    static final String CODIGO = "H00001";
+    static final int STOCK = 1_000_000;
+
+    /** {@code false}: UPDATE por movimiento; {@code true}: contador en memoria. */
+    @Param({"false", "true"})
+    public boolean hotCounters;
+
+    /** Franjas del contador; 0 = una por núcleo. */
+    @Param({"0"})
+    public int stripes;
+
+    private ConfigurableApplicationContext context;
+    private AdjustStockService adjustService;
+
+    @State(Scope.Thread)
+    public static class Signo {
+        int n;
+    }
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(InventarioDbApplication.class)
+                .properties("server.port=0",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN")
+                // Como argumentos: properties() solo fija valores por defecto
+                // y application.properties deja los contadores desactivados
+                .run("--inventario.stock.hot-counters.enabled=" + hotCounters,
+                        "--inventario.stock.hot-counters.codigos=" + CODIGO,
+                        "--inventario.stock.hot-counters.stripes=" + stripes);
+        adjustService = context.getBean(AdjustStockService.class);
+        if (context.getBean(HotStockCounters.class).isHot(CODIGO) != hotCounters) {
+            throw new IllegalStateException("La configuración de contadores no se aplicó");
+        }
+
+        SemillaRequest r = new SemillaRequest();
+        r.setCodigo(CODIGO);
+        r.setNombre("Maíz caliente");
+        r.setPrecio(1200.0);
+        r.setStock(STOCK);
+        r.setTipoSemilla("Cereal");
+        r.setPorcentajeGerminacion(90.0);
+        r.setProveedorNit("900123456");
+        r.setFechaIngreso(LocalDateTime.of(2025, 1, 1, 0, 0));
+        context.getBean(CreateSemillasBatchService.class).createAll(List.of(r));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public StockResponse ajustarStock(Signo signo) {
+        return adjustService.adjust(CODIGO, (++signo.n & 1) == 0 ? -1 : 1);
+    }
+}
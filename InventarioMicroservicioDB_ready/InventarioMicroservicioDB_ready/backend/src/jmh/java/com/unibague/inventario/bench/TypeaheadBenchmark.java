@@ -0,0 +1,77 @@
+package com.unibague.inventario.bench;
+
+import com.unibague.inventario.dto.SugerenciaResponse;
+import com.unibague.inventario.service.SearchNombresService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latencia del autocompletado ({@link SearchNombresService}) sobre
+ * {@value #NOMBRES} nombres, sin BD: fuera de una transacción el índice se
+ * actualiza en el acto.
+ *
+ * <p>Los nombres siguen el estilo del catálogo ("Maíz amarillo ICA-1234"):
+ * pocos cultivos y variedades que se repiten mucho y un código de lote que
+ * los distingue, de modo que las consultas de una o dos letras y las
+ * palabras frecuentes encuentran cientos de miles de candidatos. Las
+ * consultas cubren cada camino del índice: palabra corta (uno o dos
+ * caracteres), trigramas de prefijo, varias palabras y subcadena en medio
+ * de una palabra. {@code SampleTime} informa p0.50, p0.99 y p0.999.</p>
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class TypeaheadBenchmark {
+
+    static final int NOMBRES = 1_000_000;
+
+    private static final String[] CULTIVOS = {"Maíz", "Arroz", "Trigo", "Cebada", "Sorgo", "Tomate",
+            "Cebolla", "Zanahoria", "Lechuga", "Pimentón", "Frijol", "Arveja", "Lenteja", "Alfalfa",
+            "Soya", "Girasol", "Papaya", "Maracuyá", "Lulo", "Tomate de árbol", "Albahaca", "Cilantro"};
+    private static final String[] VARIEDADES = {"amarillo", "rojo", "criollo", "híbrido", "mejorado",
+            "orgánico", "premium", "blanco", "dulce", "precoz"};
+    private static final String[] CASAS = {"ICA", "AGS", "FNC", "SV", "CORPOICA"};
+
+    @Param({"m", "ma", "mai", "maiz am", "criollo", "oll", "tomate de arbol"})
+    public String q;
+
+    private SearchNombresService search;
+
+    @Setup
+    public void setup() {
+        // Sin JdbcTemplate: el benchmark no llama a cargar()
+        search = new SearchNombresService(null);
+        SplittableRandom rnd = new SplittableRandom(42);
+        for (int i = 0; i < NOMBRES; i++) {
+            String nombre = CULTIVOS[rnd.nextInt(CULTIVOS.length)] + " "
+                    + VARIEDADES[rnd.nextInt(VARIEDADES.length)] + " "
+                    + CASAS[rnd.nextInt(CASAS.length)] + "-" + rnd.nextInt(10_000);
+            search.semillaGuardada(String.format("G%09d", i), nombre);
+        }
+        // Una consulta sin resultados mediría solo el descarte
+        if (search.sugerirSemillas(q, 10).size() < 10) {
+            throw new IllegalStateException("La consulta '" + q + "' no llena la página de sugerencias");
+        }
+    }
+
+    @Benchmark
+    public List<SugerenciaResponse> sugerir() {
+        return search.sugerirSemillas(q, 10);
+    }
+}
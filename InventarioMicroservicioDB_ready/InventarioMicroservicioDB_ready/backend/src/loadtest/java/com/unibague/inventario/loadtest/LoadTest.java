@@ -0,0 +1,392 @@
+package com.unibague.inventario.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unibague.inventario.loadtest.LoadTestConfig.Operacion;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Prueba de carga de extremo a extremo con modelo abierto.
+ *
+ * <p>Arranca la aplicación en otra JVM (o usa {@code url=}), siembra
+ * proveedores y semillas de forma determinista a partir de {@code seed} y
+ * lanza la mezcla de operaciones a un ritmo fijo: la petición {@code i} se
+ * programa para {@code inicio + i / rate} y se envía sin esperar a las
+ * anteriores. La latencia se mide desde ese instante programado, no desde
+ * el envío real, así que las esperas que provoca un servidor lento quedan
+ * dentro de los percentiles (omisión coordinada).</p>
+ *
+ * <p>Escribe p50/p95/p99/máximo, peticiones y tasa de error por operación
+ * en un JSON ({@code out=}) y los muestra por consola.</p>
+ */
+public final class LoadTest {
+
+    private static final String[] CIUDADES = {"Bogotá", "Medellín", "Cali", "Ibagué", "Barranquilla"};
+    private static final String[] TIPOS = {"Cereal", "Leguminosa", "Hortaliza", "Frutal"};
+    private static final String[] NOMBRES = {"Maíz", "Frijol", "Arroz", "Tomate", "Lulo", "Café", "Papa", "Trigo"};
+    private static final LocalDateTime FECHA_BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final int LOTE = 1000;
+
+    private final LoadTestConfig cfg;
+    private final HttpClient http;
+    private final ObjectMapper json = new ObjectMapper();
+
+    private final Map<Operacion, Histogram> latencias = new EnumMap<>(Operacion.class);
+    private final Map<Operacion, LongAdder> peticiones = new EnumMap<>(Operacion.class);
+    private final Map<Operacion, LongAdder> errores = new EnumMap<>(Operacion.class);
+    private final Map<String, LongAdder> causas = new ConcurrentHashMap<>();
+    private final AtomicInteger enCurso = new AtomicInteger();
+    private final AtomicLong altas = new AtomicLong();
+    private final String ejecucion = Long.toString(System.currentTimeMillis() % 1_000_000, 36);
+
+    private LoadTest(LoadTestConfig cfg) {
+        this.cfg = cfg;
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        long maxMicros = TimeUnit.SECONDS.toMicros(cfg.timeout() * 2L);
+        for (Operacion op : Operacion.values()) {
+            latencias.put(op, new ConcurrentHistogram(maxMicros, 3));
+            peticiones.put(op, new LongAdder());
+            errores.put(op, new LongAdder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig cfg = LoadTestConfig.parse(args);
+        Process app = (cfg.url() == null) ? lanzarAplicacion(cfg) : null;
+        try {
+            LoadTest t = new LoadTest(cfg);
+            if (app != null) {
+                // Lista = cargas de arranque (datos sintéticos, resúmenes, índices) terminadas
+                t.esperarDisponible(URI.create("http://localhost:" + cfg.port() + "/actuator/health/readiness"));
+            }
+            t.esperarDisponible(URI.create(cfg.baseEscritura() + "/proveedores/900123456"));
+            t.esperarDisponible(URI.create(cfg.baseLectura() + "/proveedores/900123456"));
+            t.sembrar();
+            t.ejecutar();
+            t.informar();
+        } finally {
+            if (app != null) {
+                app.destroy();
+                if (!app.waitFor(20, TimeUnit.SECONDS)) {
+                    app.destroyForcibly();
+                }
+            }
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // Aplicación bajo prueba
+
+    private static Process lanzarAplicacion(LoadTestConfig cfg) throws IOException {
+        List<String> args = new ArrayList<>(List.of(
+                "--management.endpoint.health.probes.enabled=true",
+                "--inventario.reactive.enabled=" + cfg.target().equals("reactive"),
+                "--inventario.reactive.port=" + (cfg.port() + 1)));
+        args.addAll(separar(cfg.appArgs()));
+        Path log = cfg.out().toAbsolutePath().getParent().resolve("aplicacion.log");
+        System.out.println("Arrancando la aplicación (registro en " + log + ")");
+        return lanzarAplicacion(cfg.port(), cfg.jvmArgs(), args, log);
+    }
+
+    /**
+     * Arranca la aplicación en otra JVM con el classpath de la prueba, sin
+     * SQL en consola, y redirige su salida a {@code log}.
+     */
+    static Process lanzarAplicacion(int port, String jvmArgs, List<String> appArgs, Path log) throws IOException {
+        List<String> cmd = new ArrayList<>();
+        cmd.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        cmd.addAll(separar(jvmArgs));
+        cmd.addAll(List.of("-cp", System.getProperty("java.class.path"),
+                "com.unibague.inventario.InventarioDbApplication",
+                "--server.port=" + port,
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN"));
+        cmd.addAll(appArgs);
+        Files.createDirectories(log.getParent());
+        return new ProcessBuilder(cmd)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+    }
+
+    static List<String> separar(String args) {
+        List<String> l = new ArrayList<>();
+        for (String a : args.trim().split("\\s+")) {
+            if (!a.isEmpty()) l.add(a);
+        }
+        return l;
+    }
+
+    private void esperarDisponible(URI uri) throws InterruptedException {
+        HttpRequest req = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(2)).build();
+        long limite = System.nanoTime() + TimeUnit.MINUTES.toNanos(10);
+        while (System.nanoTime() < limite) {
+            try {
+                if (http.send(req, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException ex) {
+                // todavía arrancando
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException("La API no respondió en " + uri);
+    }
+
+    // ------------------------------------------------------------------
+    // Datos iniciales (deterministas según la semilla)
+
+    private void sembrar() throws IOException, InterruptedException {
+        Random rnd = new Random(cfg.seed());
+        for (int i = 0; i < cfg.proveedores(); i++) {
+            Map<String, Object> p = new LinkedHashMap<>();
+            p.put("nit", nit(i));
+            p.put("nombre", "Proveedor " + NOMBRES[i % NOMBRES.length] + " " + i);
+            p.put("ciudad", CIUDADES[i % CIUDADES.length]);
+            p.put("telefono", String.format("300%07d", i));
+            p.put("fechaRegistro", FECHA_BASE.minusDays(i).toString());
+            p.put("activo", i % 5 != 0);
+            // 409 si ya existe (url= contra una instancia sembrada): se acepta
+            enviar(HttpRequest.newBuilder(URI.create(cfg.baseEscritura() + "/proveedores")), "POST", p);
+        }
+        for (int desde = 0; desde < cfg.semillas(); desde += LOTE) {
+            List<Map<String, Object>> lote = new ArrayList<>();
+            for (int i = desde; i < Math.min(desde + LOTE, cfg.semillas()); i++) {
+                lote.add(semilla(codigoSembrado(i), rnd));
+            }
+            HttpResponse<Void> r = enviar(
+                    HttpRequest.newBuilder(URI.create(cfg.baseEscritura() + "/semillas/batch")), "POST", lote);
+            if (r.statusCode() != 200) {
+                throw new IllegalStateException("La siembra de semillas respondió " + r.statusCode());
+            }
+        }
+        System.out.printf("Sembrados %d proveedores y %d semillas%n", cfg.proveedores(), cfg.semillas());
+    }
+
+    private HttpResponse<Void> enviar(HttpRequest.Builder b, String metodo, Object cuerpo)
+            throws IOException, InterruptedException {
+        HttpRequest req = b.header("Content-Type", "application/json")
+                .method(metodo, HttpRequest.BodyPublishers.ofByteArray(json.writeValueAsBytes(cuerpo)))
+                .build();
+        return http.send(req, HttpResponse.BodyHandlers.discarding());
+    }
+
+    private Map<String, Object> semilla(String codigo, Random rnd) {
+        Map<String, Object> s = new LinkedHashMap<>();
+        s.put("codigo", codigo);
+        s.put("nombre", NOMBRES[rnd.nextInt(NOMBRES.length)] + " " + codigo);
+        s.put("precio", 500 + rnd.nextInt(5000));
+        s.put("stock", rnd.nextInt(200));
+        s.put("tipoSemilla", TIPOS[rnd.nextInt(TIPOS.length)]);
+        s.put("porcentajeGerminacion", 50 + rnd.nextInt(51));
+        s.put("proveedorNit", nit(rnd.nextInt(cfg.proveedores())));
+        s.put("fechaIngreso", FECHA_BASE.plusHours(rnd.nextInt(24 * 365)).toString());
+        return s;
+    }
+
+    private static String nit(int i) {
+        return String.format("800%06d", i);
+    }
+
+    private static String codigoSembrado(int i) {
+        return String.format("LT%06d", i);
+    }
+
+    // ------------------------------------------------------------------
+    // Generación de carga
+
+    private void ejecutar() throws InterruptedException {
+        Operacion[] porPeso = expandirMezcla();
+        Random rnd = new Random(cfg.seed() + 1);
+        long intervalo = TimeUnit.SECONDS.toNanos(1) / cfg.rate();
+        long inicio = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+        long finCalentamiento = inicio + TimeUnit.SECONDS.toNanos(cfg.warmup());
+        long fin = finCalentamiento + TimeUnit.SECONDS.toNanos(cfg.duration());
+        System.out.printf("Carga: %d pet/s durante %d s (+%d s de calentamiento) contra %s%n",
+                cfg.rate(), cfg.duration(), cfg.warmup(), cfg.target());
+
+        for (long i = 0; ; i++) {
+            long programada = inicio + i * intervalo;
+            if (programada >= fin) {
+                break;
+            }
+            long espera = programada - System.nanoTime();
+            if (espera > 0) {
+                LockSupport.parkNanos(espera);
+            }
+            Operacion op = porPeso[rnd.nextInt(porPeso.length)];
+            HttpRequest req = peticion(op, rnd);
+            boolean medir = programada >= finCalentamiento;
+            if (enCurso.get() >= cfg.maxInFlight()) {
+                // El servidor no da abasto: se cuenta como error sin enviar
+                if (medir) registrar(op, programada, "pendientes>" + cfg.maxInFlight());
+                continue;
+            }
+            enCurso.incrementAndGet();
+            CompletableFuture<HttpResponse<Void>> f = http.sendAsync(req, HttpResponse.BodyHandlers.discarding());
+            f.whenComplete((r, ex) -> {
+                enCurso.decrementAndGet();
+                if (medir) {
+                    String causa = (ex != null) ? ex.getClass().getSimpleName()
+                            : (r.statusCode() >= 400 ? "HTTP " + r.statusCode() : null);
+                    registrar(op, programada, causa);
+                }
+            });
+        }
+
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(cfg.timeout());
+        while (enCurso.get() > 0 && System.nanoTime() < limite) {
+            Thread.sleep(50);
+        }
+    }
+
+    private void registrar(Operacion op, long programada, String causa) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - programada);
+        Histogram h = latencias.get(op);
+        h.recordValue(Math.min(micros, h.getHighestTrackableValue()));
+        peticiones.get(op).increment();
+        if (causa != null) {
+            errores.get(op).increment();
+            causas.computeIfAbsent(op.name().toLowerCase() + " " + causa, k -> new LongAdder()).increment();
+        }
+    }
+
+    private Operacion[] expandirMezcla() {
+        List<Operacion> l = new ArrayList<>();
+        cfg.mix().forEach((op, peso) -> {
+            for (int i = 0; i < peso; i++) l.add(op);
+        });
+        return l.toArray(Operacion[]::new);
+    }
+
+    private HttpRequest peticion(Operacion op, Random rnd) {
+        Duration timeout = Duration.ofSeconds(cfg.timeout());
+        String lectura = cfg.baseLectura();
+        String escritura = cfg.baseEscritura();
+        try {
+            return switch (op) {
+                case CREATE -> {
+                    String codigo = "LN" + ejecucion + altas.incrementAndGet();
+                    yield HttpRequest.newBuilder(URI.create(escritura + "/semillas")).timeout(timeout)
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofByteArray(json.writeValueAsBytes(semilla(codigo, rnd))))
+                            .build();
+                }
+                case GET -> HttpRequest.newBuilder(URI.create(lectura + "/semillas/"
+                        + codigoSembrado(rnd.nextInt(cfg.semillas())))).timeout(timeout).build();
+                case UPDATE -> {
+                    String codigo = codigoSembrado(rnd.nextInt(cfg.semillas()));
+                    yield HttpRequest.newBuilder(URI.create(escritura + "/semillas/" + codigo)).timeout(timeout)
+                            .header("Content-Type", "application/json")
+                            .PUT(HttpRequest.BodyPublishers.ofByteArray(json.writeValueAsBytes(semilla(codigo, rnd))))
+                            .build();
+                }
+                case LIST -> HttpRequest.newBuilder(URI.create(lectura + "/semillas?limit=50&tipo="
+                        + TIPOS[rnd.nextInt(TIPOS.length)]
+                        + (rnd.nextBoolean() ? "&germinacionMin=" + (50 + rnd.nextInt(40)) : "")))
+                        .timeout(timeout).build();
+                case TOP2 -> HttpRequest.newBuilder(URI.create(lectura + "/proveedores/"
+                        + nit(rnd.nextInt(cfg.proveedores())) + "/top2")).timeout(timeout).build();
+            };
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // Resultado
+
+    private void informar() throws IOException {
+        Map<String, Object> operaciones = new LinkedHashMap<>();
+        Histogram total = new Histogram(latencias.get(Operacion.GET).getHighestTrackableValue(), 3);
+        long totalPeticiones = 0;
+        long totalErrores = 0;
+        System.out.printf("%n%-8s %9s %8s %9s %9s %9s %9s%n", "op", "peticiones", "error%", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        for (Operacion op : cfg.mix().keySet()) {
+            Histogram h = latencias.get(op);
+            long n = peticiones.get(op).sum();
+            long e = errores.get(op).sum();
+            total.add(h);
+            totalPeticiones += n;
+            totalErrores += e;
+            operaciones.put(op.name().toLowerCase(), resumen(h, n, e));
+            imprimir(op.name().toLowerCase(), h, n, e);
+        }
+        imprimir("total", total, totalPeticiones, totalErrores);
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("target", cfg.target());
+        config.put("rate", cfg.rate());
+        config.put("durationSeconds", cfg.duration());
+        config.put("warmupSeconds", cfg.warmup());
+        config.put("mix", cfg.mix());
+        config.put("seed", cfg.seed());
+        config.put("semillas", cfg.semillas());
+        config.put("proveedores", cfg.proveedores());
+        config.put("url", cfg.url() != null ? cfg.url() : "local:" + cfg.port());
+
+        Map<String, Object> salida = new LinkedHashMap<>();
+        salida.put("fecha", LocalDateTime.now().toString());
+        salida.put("config", config);
+        salida.put("tasaLograda", totalPeticiones / (double) cfg.duration());
+        salida.put("operaciones", operaciones);
+        salida.put("total", resumen(total, totalPeticiones, totalErrores));
+        Map<String, Long> porCausa = new LinkedHashMap<>();
+        causas.entrySet().stream().sorted(Map.Entry.comparingByKey())
+                .forEach(c -> porCausa.put(c.getKey(), c.getValue().sum()));
+        salida.put("errores", porCausa);
+
+        Files.createDirectories(cfg.out().toAbsolutePath().getParent());
+        json.writerWithDefaultPrettyPrinter().writeValue(cfg.out().toFile(), salida);
+        System.out.println("\nResultado en " + cfg.out().toAbsolutePath());
+    }
+
+    private static Map<String, Object> resumen(Histogram h, long n, long e) {
+        Map<String, Object> r = new LinkedHashMap<>();
+        r.put("peticiones", n);
+        r.put("errores", e);
+        r.put("tasaError", n > 0 ? e / (double) n : 0.0);
+        r.put("p50Ms", ms(h.getValueAtPercentile(50)));
+        r.put("p95Ms", ms(h.getValueAtPercentile(95)));
+        r.put("p99Ms", ms(h.getValueAtPercentile(99)));
+        r.put("maxMs", ms(h.getMaxValue()));
+        return r;
+    }
+
+    private static void imprimir(String nombre, Histogram h, long n, long e) {
+        System.out.printf("%-8s %9d %7.2f%% %9.2f %9.2f %9.2f %9.2f%n", nombre, n,
+                n > 0 ? 100.0 * e / n : 0.0,
+                ms(h.getValueAtPercentile(50)), ms(h.getValueAtPercentile(95)),
+                ms(h.getValueAtPercentile(99)), ms(h.getMaxValue()));
+    }
+
+    private static double ms(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,136 @@
+package com.unibague.inventario.loadtest;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Parámetros de una ejecución de la prueba de carga, leídos como
+ * {@code clave=valor} desde la línea de comandos.
+ *
+ * <pre>
+ * url=            API ya en marcha (http://host:puerto); vacío = arrancar la aplicación
+ * port=18080      puerto de la aplicación arrancada por la prueba
+ * target=mvc      mvc | reactive (las lecturas van a la API reactiva, puerto + 1;
+ *                 requiere compilar con -Preactive)
+ * rate=200        peticiones por segundo (llegadas a ritmo fijo)
+ * duration=60     segundos medidos
+ * warmup=10       segundos previos cuyas muestras se descartan
+ * mix=create=5,get=50,update=10,list=25,top2=10
+ * seed=42         semilla del generador (datos y secuencia de operaciones)
+ * semillas=5000   semillas sembradas antes de medir
+ * proveedores=50  proveedores sembrados antes de medir
+ * timeout=10      segundos máximos por petición
+ * maxInFlight=5000 peticiones pendientes a partir de las cuales se cuentan como error
+ * jvmArgs=-Xmx512m opciones de la JVM de la aplicación arrancada
+ * appArgs=        argumentos extra de la aplicación (p. ej. --spring.profiles.active=file)
+ * out=target/loadtest/resultado-{target}.json
+ * </pre>
+ */
+record LoadTestConfig(String url,
+                      int port,
+                      String target,
+                      int rate,
+                      int duration,
+                      int warmup,
+                      Map<Operacion, Integer> mix,
+                      long seed,
+                      int semillas,
+                      int proveedores,
+                      int timeout,
+                      int maxInFlight,
+                      String jvmArgs,
+                      String appArgs,
+                      Path out) {
+
+    private static final Set<String> CLAVES = Set.of("url", "port", "target", "rate", "duration", "warmup",
+            "mix", "seed", "semillas", "proveedores", "timeout", "maxInFlight", "jvmArgs", "appArgs", "out");
+
+    static LoadTestConfig parse(String[] args) {
+        Map<String, String> v = new HashMap<>();
+        for (String a : args) {
+            int eq = a.indexOf('=');
+            if (eq <= 0 || !CLAVES.contains(a.substring(0, eq))) {
+                throw new IllegalArgumentException("Argumento no reconocido: '" + a + "'. Claves válidas: " + CLAVES);
+            }
+            v.put(a.substring(0, eq), a.substring(eq + 1));
+        }
+        String target = v.getOrDefault("target", "mvc");
+        if (!target.equals("mvc") && !target.equals("reactive")) {
+            throw new IllegalArgumentException("target debe ser mvc o reactive: " + target);
+        }
+        String url = v.getOrDefault("url", "");
+        return new LoadTestConfig(
+                url.isBlank() ? null : url.replaceAll("/+$", ""),
+                entero(v, "port", 18080),
+                target,
+                entero(v, "rate", 200),
+                entero(v, "duration", 60),
+                entero(v, "warmup", 10),
+                mezcla(v.getOrDefault("mix", "create=5,get=50,update=10,list=25,top2=10")),
+                Long.parseLong(v.getOrDefault("seed", "42")),
+                entero(v, "semillas", 5000),
+                entero(v, "proveedores", 50),
+                entero(v, "timeout", 10),
+                entero(v, "maxInFlight", 5000),
+                v.getOrDefault("jvmArgs", "-Xmx512m"),
+                v.getOrDefault("appArgs", ""),
+                Path.of(v.getOrDefault("out", "target/loadtest/resultado-" + target + ".json")));
+    }
+
+    /** URL base de las escrituras (siempre la API MVC). */
+    String baseEscritura() {
+        return (url != null ? url : "http://localhost:" + port) + "/api/v1";
+    }
+
+    /** URL base de las lecturas según {@code target}. */
+    String baseLectura() {
+        if (target.equals("mvc")) {
+            return baseEscritura();
+        }
+        if (url != null) {
+            throw new IllegalArgumentException("target=reactive requiere que la prueba arranque la aplicación (sin url)");
+        }
+        try {
+            Class.forName("com.unibague.inventario.reactive.ReactiveReadServer");
+        } catch (ClassNotFoundException ex) {
+            throw new IllegalArgumentException("target=reactive requiere compilar con el perfil reactive (-Pload,reactive)");
+        }
+        return "http://localhost:" + (port + 1) + "/api/v1";
+    }
+
+    private static int entero(Map<String, String> v, String clave, int defecto) {
+        String s = v.get(clave);
+        if (s == null) return defecto;
+        int n = Integer.parseInt(s);
+        if (n < 0 || (n == 0 && !clave.equals("warmup"))) {
+            throw new IllegalArgumentException(clave + " debe ser positivo: " + s);
+        }
+        return n;
+    }
+
+    private static Map<Operacion, Integer> mezcla(String s) {
+        Map<Operacion, Integer> mix = new EnumMap<>(Operacion.class);
+        Arrays.stream(s.split(",")).map(String::trim).filter(p -> !p.isEmpty()).forEach(p -> {
+            String[] kv = p.split("=");
+            if (kv.length != 2) {
+                throw new IllegalArgumentException("Elemento de mix inválido: '" + p + "' (use operacion=peso)");
+            }
+            int peso = Integer.parseInt(kv[1].trim());
+            if (peso < 0) {
+                throw new IllegalArgumentException("Peso negativo en mix: '" + p + "'");
+            }
+            mix.put(Operacion.valueOf(kv[0].trim().toUpperCase()), peso);
+        });
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("La mezcla no tiene ninguna operación con peso");
+        }
+        return mix;
+    }
+
+    /** Operaciones de la mezcla. */
+    enum Operacion { CREATE, GET, UPDATE, LIST, TOP2 }
+}
@@ -0,0 +1,240 @@
+package com.unibague.inventario.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Compara H2 en memoria con H2 en disco (perfil {@code file}): tiempo hasta
+ * estar lista y latencia con carga sostenida.
+ *
+ * <p>Con el mismo conjunto de datos sintéticos ({@code inventario.dataset.*})
+ * mide, desde que se lanza la JVM hasta que {@code /actuator/health/readiness}
+ * responde 200 (después de cargar los datos y reconstruir resúmenes e
+ * índices):</p>
+ * <ol>
+ *   <li>memoria: cada arranque vuelve a generar los datos;</li>
+ *   <li>disco, primer arranque: genera los datos y los escribe;</li>
+ *   <li>disco, reinicio: los datos ya están (y el fichero se compactó al
+ *       cerrar); después se pide una copia en caliente
+ *       ({@code POST /api/v1/snapshots});</li>
+ *   <li>disco con {@code nioMapped}, reinicio;</li>
+ *   <li>disco, restauración: se borra la base y se recupera de la copia.</li>
+ * </ol>
+ * <p>Después lanza {@link LoadTest} en cada modo con el mismo ritmo y
+ * mezcla ({@code carga=false} lo omite). Argumentos {@code clave=valor}:</p>
+ *
+ * <pre>
+ * semillas=100000 proveedores=1000 port=18090 rate=100 duration=30 warmup=10
+ * jvmArgs=-Xmx512m dir=target/loadtest/h2 carga=true out=target/loadtest/reinicio.json
+ * </pre>
+ */
+public final class RestartBenchmark {
+
+    private static final Set<String> CLAVES = Set.of("semillas", "proveedores", "port", "rate", "duration",
+            "warmup", "jvmArgs", "dir", "carga", "out");
+
+    private final Map<String, String> cfg;
+    private final int port;
+    private final Path dir;
+    private final Path salida;
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(2))
+            .build();
+    private final Map<String, Object> arranques = new LinkedHashMap<>();
+
+    private RestartBenchmark(Map<String, String> cfg) {
+        this.cfg = cfg;
+        this.port = Integer.parseInt(cfg.getOrDefault("port", "18090"));
+        this.dir = Path.of(cfg.getOrDefault("dir", "target/loadtest/h2")).toAbsolutePath();
+        this.salida = Path.of(cfg.getOrDefault("out", "target/loadtest/reinicio.json")).toAbsolutePath();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> cfg = new HashMap<>();
+        for (String a : args) {
+            int eq = a.indexOf('=');
+            if (eq <= 0 || !CLAVES.contains(a.substring(0, eq))) {
+                throw new IllegalArgumentException("Argumento no reconocido: '" + a + "'. Claves válidas: " + CLAVES);
+            }
+            cfg.put(a.substring(0, eq), a.substring(eq + 1));
+        }
+        new RestartBenchmark(cfg).ejecutar();
+    }
+
+    private void ejecutar() throws Exception {
+        borrar(dir);
+        Path base = dir.resolve("reinicio");
+
+        medir("memoria", List.of());
+        medir("disco, primer arranque", disco(base, "file"));
+        medir("disco, reinicio", disco(base, "file"), () -> {
+            long t0 = System.nanoTime();
+            HttpResponse<String> r = http.send(HttpRequest.newBuilder(URI.create(api() + "/snapshots"))
+                    .POST(HttpRequest.BodyPublishers.noBody()).build(), HttpResponse.BodyHandlers.ofString());
+            if (r.statusCode() != 201) {
+                throw new IllegalStateException("La copia respondió " + r.statusCode() + ": " + r.body());
+            }
+            arranques.put("copia en caliente", segundos(System.nanoTime() - t0));
+        });
+        medir("disco nioMapped, reinicio", disco(base, "nioMapped"));
+        Files.delete(base.resolve("inventario.mv.db"));
+        medir("disco, restauración de la copia", disco(base, "file"));
+
+        System.out.printf("%n%-34s %10s%n", "arranque hasta lista", "segundos");
+        arranques.forEach((k, v) -> System.out.printf("%-34s %10.2f%n", k, (Double) v));
+
+        Map<String, Object> resultado = new LinkedHashMap<>();
+        resultado.put("fecha", LocalDateTime.now().toString());
+        resultado.put("semillas", semillas());
+        resultado.put("proveedores", proveedores());
+        resultado.put("arranqueSegundos", arranques);
+        resultado.put("tamanoBaseKb", Files.size(base.resolve("inventario.mv.db")) / 1024);
+
+        if (Boolean.parseBoolean(cfg.getOrDefault("carga", "true"))) {
+            Map<String, Object> carga = new LinkedHashMap<>();
+            carga.put("memoria", cargar("memoria", List.of()));
+            carga.put("disco", cargar("disco", disco(dir.resolve("carga-file"), "file")));
+            carga.put("disco nioMapped", cargar("nioMapped", disco(dir.resolve("carga-niomapped"), "nioMapped")));
+            resultado.put("carga", carga);
+        }
+
+        Files.createDirectories(salida.getParent());
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(salida.toFile(), resultado);
+        System.out.println("\nResultado en " + salida);
+    }
+
+    // ------------------------------------------------------------------
+    // Arranques
+
+    private void medir(String modo, List<String> appArgs) throws Exception {
+        medir(modo, appArgs, () -> { });
+    }
+
+    private void medir(String modo, List<String> appArgs, Accion conLaAplicacion) throws Exception {
+        List<String> args = new ArrayList<>(appArgs);
+        args.addAll(datos());
+        args.add("--management.endpoint.health.probes.enabled=true");
+        Path log = salida.getParent().resolve("reinicio-" + arranques.size() + ".log");
+        System.out.printf("%s (registro en %s)%n", modo, log);
+        long t0 = System.nanoTime();
+        Process app = LoadTest.lanzarAplicacion(port, cfg.getOrDefault("jvmArgs", "-Xmx512m"), args, log);
+        try {
+            esperarLista(app);
+            arranques.put(modo, segundos(System.nanoTime() - t0));
+            conLaAplicacion.ejecutar();
+        } finally {
+            detener(app);
+        }
+    }
+
+    private void esperarLista(Process app) throws InterruptedException {
+        HttpRequest req = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/health/readiness"))
+                .timeout(Duration.ofSeconds(2)).build();
+        long limite = System.nanoTime() + TimeUnit.MINUTES.toNanos(10);
+        while (System.nanoTime() < limite) {
+            if (!app.isAlive()) {
+                throw new IllegalStateException("La aplicación terminó al arrancar (código " + app.exitValue() + ")");
+            }
+            try {
+                if (http.send(req, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException ex) {
+                // todavía arrancando
+            }
+            Thread.sleep(100);
+        }
+        throw new IllegalStateException("La aplicación no estuvo lista en 10 minutos");
+    }
+
+    private static void detener(Process app) throws InterruptedException {
+        // destroy() envía SIGTERM: Spring cierra el pool y H2 guarda el MVStore
+        app.destroy();
+        if (!app.waitFor(60, TimeUnit.SECONDS)) {
+            app.destroyForcibly().waitFor();
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // Carga sostenida
+
+    private Object cargar(String modo, List<String> appArgs) throws Exception {
+        List<String> args = new ArrayList<>(appArgs);
+        args.addAll(datos());
+        Path out = salida.getParent().resolve("carga-" + modo.replace(' ', '-') + ".json");
+        System.out.printf("%nCarga sostenida, %s%n", modo);
+        LoadTest.main(new String[]{
+                "port=" + port,
+                "rate=" + cfg.getOrDefault("rate", "100"),
+                "duration=" + cfg.getOrDefault("duration", "30"),
+                "warmup=" + cfg.getOrDefault("warmup", "10"),
+                "jvmArgs=" + cfg.getOrDefault("jvmArgs", "-Xmx512m"),
+                "appArgs=" + String.join(" ", args),
+                "out=" + out});
+        return new ObjectMapper().readValue(out.toFile(), Map.class).get("total");
+    }
+
+    // ------------------------------------------------------------------
+
+    private List<String> disco(Path base, String sistema) {
+        return List.of("--spring.profiles.active=file",
+                "--inventario.h2.dir=" + base,
+                "--inventario.h2.file-system=" + sistema);
+    }
+
+    private List<String> datos() {
+        return List.of("--inventario.dataset.semillas=" + semillas(),
+                "--inventario.dataset.proveedores=" + proveedores());
+    }
+
+    private int semillas() {
+        return Integer.parseInt(cfg.getOrDefault("semillas", "100000"));
+    }
+
+    private int proveedores() {
+        return Integer.parseInt(cfg.getOrDefault("proveedores", "1000"));
+    }
+
+    private String api() {
+        return "http://localhost:" + port + "/api/v1";
+    }
+
+    private static double segundos(long nanos) {
+        return Math.round(nanos / 10_000_000.0) / 100.0;
+    }
+
+    private static void borrar(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> s = Files.walk(dir)) {
+            for (Path p : s.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(p);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Accion {
+        void ejecutar() throws Exception;
+    }
+}
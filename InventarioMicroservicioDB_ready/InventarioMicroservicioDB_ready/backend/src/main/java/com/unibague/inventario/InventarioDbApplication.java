@@ -4,9 +4,11 @@ import com.unibague.inventario.entity.Proveedor;
 import com.unibague.inventario.entity.Semilla;
 import com.unibague.inventario.repository.ProveedorRepository;
 import com.unibague.inventario.repository.SemillaRepository;
+import com.unibague.inventario.service.DatasetSintetico;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
 import org.springframework.context.annotation.Bean;
 
 import java.time.LocalDateTime;
@@ -16,8 +18,13 @@ import java.time.LocalDateTime;
  * datos de ejemplo en la base de datos para facilitar las pruebas. El
  * sufijo 'Db' diferencia este prototipo del anterior que almacenaba los
  * datos en memoria.
+ *
+ * <p>La autoconfiguración de R2DBC se excluye: con el perfil Maven
+ * {@code reactive} un {@code ConnectionFactory} global desactivaría el
+ * {@code DataSource} de JPA. La API de lectura reactiva crea su propio pool
+ * (ver {@code ReactiveReadServer}).</p>
  */
-@SpringBootApplication
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
 public class InventarioDbApplication {
 
     public static void main(String[] args) {
@@ -63,4 +70,13 @@ public class InventarioDbApplication {
             }
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * Carga los datos sintéticos de {@code inventario.dataset.*} (pruebas de
+     * rendimiento); por defecto no genera nada.
+     */
+    @Bean
+    public CommandLineRunner datasetLoader(DatasetSintetico dataset) {
+        return args -> dataset.cargar();
+    }
+}
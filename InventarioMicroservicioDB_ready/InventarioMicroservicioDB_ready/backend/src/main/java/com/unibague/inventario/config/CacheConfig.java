@@ -0,0 +1,64 @@
+package com.unibague.inventario.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Caché en proceso para las lecturas por clave primaria.
+ *
+ * <p>Los nombres, el tamaño y la expiración se toman de
+ * {@code spring.cache.cache-names} y {@code spring.cache.caffeine.spec}.
+ * El gestor es transaccional: las invalidaciones hechas dentro de una
+ * transacción se aplican después del commit, para que una lectura
+ * concurrente no vuelva a cachear el valor anterior.</p>
+ *
+ * <p>Las cachés son asíncronas: una carga en curso ({@code Cache.get(clave,
+ * cargador)}) ocupa la entrada con un futuro y la consulta a la BD se hace
+ * fuera del bloqueo interno de Caffeine. Con cachés síncronas el cargador
+ * retiene ese bloqueo mientras espera conexión, y una escritura que ya
+ * tiene conexión y va a invalidar una clave vecina queda esperándolo: con el
+ * pool agotado, ninguna de las dos avanza. Caffeine crea el futuro dentro
+ * del bloqueo, así que el cargador debe correr en otro hilo ({@code
+ * cache-carga-*}); quien consulta espera el futuro sin bloquear la entrada,
+ * y una invalidación durante la carga descarta su resultado.</p>
+ *
+ * <p>Ese ejecutor tiene tantos hilos como conexiones el pool de Hikari: un
+ * hilo más solo esperaría conexión, y con un pool ilimitado una ráfaga de
+ * fallos en claves distintas crearía un hilo por clave. Las cargas
+ * sobrantes esperan en la cola del ejecutor.</p>
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    public static final String SEMILLAS = "semillas";
+    public static final String PROVEEDORES = "proveedores";
+
+    @Bean
+    public CacheManager cacheManager(CacheProperties properties,
+                                     @Value("${spring.datasource.hikari.maximum-pool-size:10}") int conexiones) {
+        CaffeineCacheManager caffeine = new CaffeineCacheManager();
+        CustomizableThreadFactory hilos = new CustomizableThreadFactory("cache-carga-");
+        hilos.setDaemon(true);
+        ExecutorService cargas = Executors.newFixedThreadPool(conexiones, hilos);
+        caffeine.setCaffeine(Caffeine.from(properties.getCaffeine().getSpec())
+                // las sentencias de la carga cuentan para la petición que la pidió
+                .executor(tarea -> cargas.execute(SqlAccounting.propagar(tarea))));
+        caffeine.setAsyncCacheMode(true);
+        caffeine.setCacheNames(properties.getCacheNames());
+        return new TransactionAwareCacheManagerProxy(caffeine);
+    }
+}
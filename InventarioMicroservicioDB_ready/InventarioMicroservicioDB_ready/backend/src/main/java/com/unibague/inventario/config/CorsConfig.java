@@ -30,8 +30,11 @@ public class CorsConfig {
             public void addCorsMappings(CorsRegistry registry) {
                 registry.addMapping("/**")
                         .allowedOrigins("*")
-                        .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
-                        .allowedHeaders("*");
+                        .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
+                        .allowedHeaders("*")
+                        // cabeceras de paginación por cursor y de sentencias SQL legibles desde JS
+                        .exposedHeaders("X-Next-Cursor", "X-Total-Count", "ETag",
+                                SqlAccountingFilter.SQL_COUNT, SqlAccountingFilter.SQL_TIME_MS);
             }
         };
     }
@@ -0,0 +1,45 @@
+package com.unibague.inventario.config;
+
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Envuelve el {@code DataSource} con datasource-proxy para que los
+ * {@link QueryExecutionListener} declarados como beans (contabilidad por
+ * petición, registro de consultas lentas) vean cada sentencia, su duración
+ * y sus parámetros.
+ *
+ * <p>Si no hay ningún oyente activo, el {@code DataSource} se deja tal
+ * cual. El proxy envuelve el pool Hikari, así que sus métricas y la
+ * configuración de {@code spring.datasource.*} no cambian.</p>
+ */
+@Configuration
+public class DataSourceProxyConfig {
+
+    @Bean
+    public static BeanPostProcessor dataSourceProxy(ObjectProvider<QueryExecutionListener> oyentes) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource ds) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                List<QueryExecutionListener> activos = oyentes.orderedStream().toList();
+                if (activos.isEmpty()) {
+                    return bean;
+                }
+                ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(ds).name(beanName);
+                activos.forEach(builder::listener);
+                return builder.build();
+            }
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package com.unibague.inventario.config;
+
+import com.unibague.inventario.service.SnapshotsH2Job;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+import java.nio.file.Path;
+
+/**
+ * Base H2 en disco (perfil {@code file}, ver
+ * {@code application-file.properties}).
+ *
+ * <p>Antes de crear ningún bean, y por tanto antes de abrir la base,
+ * restaura la última copia de {@code inventario.h2.snapshots.dir} según
+ * {@code inventario.h2.restore}: por defecto solo si el fichero de la base
+ * no existe (máquina nueva o base borrada).</p>
+ */
+@Configuration
+@Profile("file")
+public class H2FileConfig {
+
+    @Bean
+    public static BeanFactoryPostProcessor restaurarCopiaH2(Environment env) {
+        return beanFactory -> SnapshotsH2Job.restaurar(
+                Path.of(env.getRequiredProperty("inventario.h2.dir")),
+                Path.of(env.getRequiredProperty("inventario.h2.snapshots.dir")),
+                env.getProperty("inventario.h2.restore", "if-missing"));
+    }
+}
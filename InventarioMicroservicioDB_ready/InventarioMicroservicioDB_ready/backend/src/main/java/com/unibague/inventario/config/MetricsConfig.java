@@ -0,0 +1,45 @@
+package com.unibague.inventario.config;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Métricas de la API (Actuator + Micrometer, exportadas en
+ * {@code /actuator/prometheus}).
+ *
+ * <p>Spring Boot ya publica los temporizadores de peticiones HTTP, de los
+ * métodos de repositorio ({@code spring.data.repository.invocations}), del
+ * pool Hikari, de Hibernate, de las cachés y de la JVM; los histogramas de
+ * percentiles se activan en {@code application.properties}. Aquí solo se
+ * añade a {@code http.server.requests} la etiqueta {@code handler}
+ * ({@code Controlador#metodo}), para distinguir endpoints que comparten
+ * plantilla de URI pero no método Java.</p>
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public ServerRequestObservationConvention handlerObservationConvention() {
+        return new DefaultServerRequestObservationConvention() {
+            @Override
+            public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+                return super.getLowCardinalityKeyValues(context).and(handler(context));
+            }
+        };
+    }
+
+    private static KeyValue handler(ServerRequestObservationContext context) {
+        Object handler = context.getCarrier().getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod method) {
+            return KeyValue.of("handler", method.getBeanType().getSimpleName() + "#" + method.getMethod().getName());
+        }
+        return KeyValue.of("handler", "none");
+    }
+}
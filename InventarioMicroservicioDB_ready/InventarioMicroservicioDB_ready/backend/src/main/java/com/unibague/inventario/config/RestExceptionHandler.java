@@ -1,8 +1,16 @@
 package com.unibague.inventario.config;
 
+import com.unibague.inventario.domain.exception.PreconditionFailedException;
+import com.unibague.inventario.domain.exception.ProveedorAlreadyExistsException;
 import com.unibague.inventario.domain.exception.ProveedorNotFoundException;
+import com.unibague.inventario.domain.exception.SemillaAlreadyExistsException;
 import com.unibague.inventario.domain.exception.SemillaNotFoundException;
+import com.unibague.inventario.domain.exception.StockInsuficienteException;
+import jakarta.persistence.OptimisticLockException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -22,6 +30,8 @@ import java.util.stream.Collectors;
 @ControllerAdvice
 public class RestExceptionHandler {
 
+    private static final Logger log = LoggerFactory.getLogger(RestExceptionHandler.class);
+
     /** 400 – Errores de validación (@Valid) */
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Object> handleValidationException(MethodArgumentNotValidException ex) {
@@ -67,6 +77,50 @@ public class RestExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
     }
 
+    /** 409 – Alta con clave primaria ya existente (detectada por la restricción de la BD) */
+    @ExceptionHandler({SemillaAlreadyExistsException.class, ProveedorAlreadyExistsException.class})
+    public ResponseEntity<Object> handleAlreadyExists(RuntimeException ex) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", HttpStatus.CONFLICT.value());
+        body.put("error", "Conflict");
+        body.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
+    }
+
+    /** 409 – La entidad cambió desde que el cliente la leyó (versión distinta) */
+    @ExceptionHandler({OptimisticLockingFailureException.class, OptimisticLockException.class})
+    public ResponseEntity<Object> handleOptimisticLock(RuntimeException ex) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", HttpStatus.CONFLICT.value());
+        body.put("error", "Conflict");
+        body.put("message", "El registro fue modificado por otra operación; vuelva a leerlo e intente de nuevo");
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
+    }
+
+    /** 409 – Movimiento de stock que dejaría la existencia en negativo */
+    @ExceptionHandler(StockInsuficienteException.class)
+    public ResponseEntity<Object> handleStockInsuficiente(StockInsuficienteException ex) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", HttpStatus.CONFLICT.value());
+        body.put("error", "Conflict");
+        body.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
+    }
+
+    /** 412 – If-Match no coincide con la versión vigente */
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<Object> handlePreconditionFailed(PreconditionFailedException ex) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", HttpStatus.PRECONDITION_FAILED.value());
+        body.put("error", "Precondition Failed");
+        body.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(body);
+    }
+
     /** 404 – Entidades no encontradas */
     @ExceptionHandler(SemillaNotFoundException.class)
     public ResponseEntity<Object> handleSemillaNotFound(SemillaNotFoundException ex) {
@@ -102,6 +156,7 @@ public class RestExceptionHandler {
     /** 500 – Fallback */
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Object> handleAll(Exception ex) {
+        log.error("Error no controlado", ex);
         Map<String, Object> body = new LinkedHashMap<>();
         body.put("timestamp", LocalDateTime.now());
         body.put("status", HttpStatus.INTERNAL_SERVER_ERROR.value());
@@ -0,0 +1,13 @@
+package com.unibague.inventario.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita las tareas periódicas ({@code @Scheduled}) de la aplicación, como
+ * el volcado a la base de datos de los contadores de stock en memoria.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,250 @@
+package com.unibague.inventario.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Registro muestreado de consultas lentas y latencia por forma de sentencia.
+ *
+ * <p>Sustituye a {@code spring.jpa.show-sql}, que imprimía cada sentencia
+ * en la consola desde el hilo de la petición. Aquí cada ejecución:</p>
+ * <ul>
+ *   <li>se registra en el temporizador {@code db.statements}, etiquetado con
+ *       la forma de la sentencia (el SQL con literales y listas {@code IN}
+ *       reducidos a {@code ?}, identificado por un hash de 8 cifras), la
+ *       operación y la tabla principal;</li>
+ *   <li>si tarda al menos {@code umbral} y entra en la muestra
+ *       ({@code muestreo} entre 0 y 1), se escribe en el logger
+ *       {@value #LOGGER} con la duración, la forma, el método de repositorio
+ *       que la originó, el SQL y los parámetros enlazados. Ese logger va a un
+ *       fichero rotativo a través de un appender asíncrono
+ *       ({@code logback-spring.xml}), así que la petición no espera la
+ *       escritura.</li>
+ * </ul>
+ *
+ * <p>El método de repositorio lo anota {@link #llamador(Class)} al entrar
+ * en cada repositorio de Spring Data; las sentencias que salen de otro
+ * sitio ({@code JdbcTemplate}, el volcado al confirmar la transacción) se
+ * atribuyen al primer método de la aplicación que aparece en la pila.</p>
+ */
+public final class SlowQueryLog implements QueryExecutionListener {
+
+    static final String LOGGER = "inventario.sql.lentas";
+
+    /** Formas distintas con temporizador propio; el resto va a {@code otras}. */
+    static final int MAX_FORMAS = 200;
+    private static final int MAX_SQL_EN_CACHE = 2_000;
+    private static final int MAX_VALOR = 100;
+    private static final String INICIO = "slowQueryLog.inicio";
+
+    private static final Logger log = LoggerFactory.getLogger(LOGGER);
+    private static final ThreadLocal<String> REPOSITORIO = new ThreadLocal<>();
+
+    // Sin grupos repetidos por carácter: java.util.regex repite un grupo con
+    // recursión y un IN de miles de parámetros (findAllById) desbordaba la pila
+    private static final Pattern CADENA = Pattern.compile("'[^']*+(?:''[^']*+)*+'");
+    private static final Pattern NUMERO = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern LISTA = Pattern.compile("\\(\\s*\\?\\s*,[\\s,?]*\\)");
+    private static final Pattern ESPACIOS = Pattern.compile("\\s+");
+    private static final Pattern TABLA = Pattern.compile(
+            "(?i)\\b(?:from|into|update)\\s+(?:final\\s+table\\s*\\(\\s*update\\s+)?([\\w.]+)");
+
+    /** Forma de una sentencia y su temporizador. */
+    private record Forma(String id, Timer timer) {}
+
+    private final long umbralNanos;
+    private final double muestreo;
+    private final ObjectProvider<MeterRegistry> registros;
+    private final Map<String, Forma> porSql = new ConcurrentHashMap<>();
+    private final Map<String, Forma> porForma = new ConcurrentHashMap<>();
+    private volatile MeterRegistry registry;
+
+    public SlowQueryLog(Duration umbral, double muestreo, ObjectProvider<MeterRegistry> registros) {
+        if (umbral.isNegative()) {
+            throw new IllegalArgumentException("El umbral de consultas lentas no puede ser negativo: " + umbral);
+        }
+        if (!(muestreo >= 0.0 && muestreo <= 1.0)) {
+            throw new IllegalArgumentException("El muestreo de consultas lentas debe estar entre 0 y 1: " + muestreo);
+        }
+        this.umbralNanos = umbral.toNanos();
+        this.muestreo = muestreo;
+        this.registros = registros;
+    }
+
+    /**
+     * Interceptor que anota, mientras dura la llamada, qué método del
+     * repositorio {@code repositorio} está ejecutando este hilo.
+     */
+    public static MethodInterceptor llamador(Class<?> repositorio) {
+        Map<Method, String> nombres = new ConcurrentHashMap<>();
+        return invocation -> {
+            String previo = REPOSITORIO.get();
+            REPOSITORIO.set(nombres.computeIfAbsent(invocation.getMethod(),
+                    m -> repositorio.getSimpleName() + "." + m.getName()));
+            try {
+                return invocation.proceed();
+            } finally {
+                if (previo == null) {
+                    REPOSITORIO.remove();
+                } else {
+                    REPOSITORIO.set(previo);
+                }
+            }
+        };
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(INICIO, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long inicio = execInfo.getCustomValue(INICIO, Long.class);
+        if (inicio == null || queryInfoList.isEmpty()) {
+            return;
+        }
+        long nanos = System.nanoTime() - inicio;
+        String sql = queryInfoList.get(0).getQuery();
+        Forma forma = forma(sql);
+        if (forma.timer() != null) {
+            forma.timer().record(nanos, TimeUnit.NANOSECONDS);
+        }
+        if (nanos >= umbralNanos && log.isInfoEnabled()
+                && (muestreo >= 1.0 || ThreadLocalRandom.current().nextDouble() < muestreo)) {
+            log.info(linea(execInfo, queryInfoList.get(0), forma, sql, nanos));
+        }
+    }
+
+    private Forma forma(String sql) {
+        Forma f = porSql.get(sql);
+        if (f != null) {
+            return f;
+        }
+        String normalizada = normalizar(sql);
+        f = porForma.get(normalizada);
+        if (f == null) {
+            f = porForma.size() < MAX_FORMAS
+                    ? porForma.computeIfAbsent(normalizada, this::nuevaForma)
+                    : porForma.computeIfAbsent("", k -> nuevaForma("otras", "otras", "otras"));
+        }
+        if (porSql.size() < MAX_SQL_EN_CACHE) {
+            porSql.put(sql, f);
+        }
+        return f;
+    }
+
+    private Forma nuevaForma(String normalizada) {
+        int espacio = normalizada.indexOf(' ');
+        String operacion = (espacio > 0 ? normalizada.substring(0, espacio) : normalizada).toLowerCase(Locale.ROOT);
+        Matcher m = TABLA.matcher(normalizada);
+        String tabla = m.find() ? m.group(1).toLowerCase(Locale.ROOT) : "ninguna";
+        return nuevaForma(String.format("%08x", normalizada.hashCode()), operacion, tabla);
+    }
+
+    private Forma nuevaForma(String id, String operacion, String tabla) {
+        MeterRegistry r = registry();
+        Timer timer = r == null ? null : Timer.builder("db.statements")
+                .description("Duración de las sentencias SQL por forma")
+                .tags("forma", id, "operacion", operacion, "tabla", tabla)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(50_000))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(r);
+        return new Forma(id, timer);
+    }
+
+    private MeterRegistry registry() {
+        MeterRegistry r = registry;
+        if (r == null) {
+            r = registros.getIfAvailable();
+            registry = r;
+        }
+        return r;
+    }
+
+    /** SQL sin literales ni espacios sobrantes, con las listas {@code IN} colapsadas. */
+    static String normalizar(String sql) {
+        String s = CADENA.matcher(sql).replaceAll("?");
+        s = NUMERO.matcher(s).replaceAll("?");
+        s = LISTA.matcher(s).replaceAll("(?...)");
+        return ESPACIOS.matcher(s).replaceAll(" ").trim();
+    }
+
+    private static String linea(ExecutionInfo execInfo, QueryInfo query, Forma forma, String sql, long nanos) {
+        StringBuilder sb = new StringBuilder(256)
+                .append("ms=").append(String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0))
+                .append(" forma=").append(forma.id())
+                .append(" llamador=").append(llamador());
+        if (execInfo.isBatch()) {
+            sb.append(" lote=").append(execInfo.getBatchSize());
+        }
+        if (!execInfo.isSuccess() && execInfo.getThrowable() != null) {
+            sb.append(" error=").append(execInfo.getThrowable().getClass().getSimpleName());
+        }
+        sb.append(" sql=\"").append(ESPACIOS.matcher(sql).replaceAll(" ").trim()).append('"');
+        List<List<ParameterSetOperation>> parametros = query.getParametersList();
+        if (!parametros.isEmpty()) {
+            sb.append(" params=").append(parametros(parametros.get(0)));
+            if (parametros.size() > 1) {
+                sb.append(" (+").append(parametros.size() - 1).append(" juegos)");
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String llamador() {
+        String repositorio = REPOSITORIO.get();
+        if (repositorio != null) {
+            return repositorio;
+        }
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(f -> f.getClassName().startsWith("com.unibague.inventario.")
+                        && !f.getClassName().startsWith("com.unibague.inventario.config."))
+                .findFirst()
+                .map(f -> f.getClassName().substring(f.getClassName().lastIndexOf('.') + 1)
+                        + "." + f.getMethodName())
+                .orElse("desconocido"));
+    }
+
+    private static String parametros(List<ParameterSetOperation> operaciones) {
+        return operaciones.stream()
+                .map(op -> op.getArgs()[0] + "=" + (ParameterSetOperation.isSetNullParameterOperation(op)
+                        ? "null" : valor(op.getArgs().length > 1 ? op.getArgs()[1] : null)))
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    private static String valor(Object v) {
+        if (v == null) {
+            return "null";
+        }
+        if (v instanceof byte[] bytes) {
+            return "<" + bytes.length + " bytes>";
+        }
+        String s = v.toString();
+        if (s.length() > MAX_VALOR) {
+            s = s.substring(0, MAX_VALOR) + "...";
+        }
+        return v instanceof CharSequence ? "'" + s + "'" : s;
+    }
+}
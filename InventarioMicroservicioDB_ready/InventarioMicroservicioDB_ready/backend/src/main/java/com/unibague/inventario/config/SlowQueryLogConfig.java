@@ -0,0 +1,48 @@
+package com.unibague.inventario.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import java.time.Duration;
+
+/**
+ * Registro de consultas lentas y latencia por forma de sentencia (ver
+ * {@link SlowQueryLog}).
+ *
+ * <p>Activo por defecto; se desactiva con
+ * {@code inventario.slow-query.enabled=false}. El umbral y el muestreo se
+ * leen de {@code inventario.slow-query.*}; el fichero y su rotación se
+ * configuran en {@code logback-spring.xml}.</p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "inventario.slow-query.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryLogConfig {
+
+    @Bean
+    public SlowQueryLog slowQueryLog(@Value("${inventario.slow-query.threshold:100ms}") Duration umbral,
+                                     @Value("${inventario.slow-query.sample-rate:1.0}") double muestreo,
+                                     ObjectProvider<MeterRegistry> registry) {
+        return new SlowQueryLog(umbral, muestreo, registry);
+    }
+
+    /** Añade a cada repositorio de Spring Data el interceptor que anota el método en curso. */
+    @Bean
+    public static BeanPostProcessor slowQueryRepositoryCaller() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxy, info) -> proxy.addAdvice(SlowQueryLog.llamador(info.getRepositoryInterface()))));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,93 @@
+package com.unibague.inventario.config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Contabilidad de sentencias SQL por petición HTTP.
+ *
+ * <p>{@link SqlAccountingConfig} envuelve el {@code DataSource} con
+ * datasource-proxy y registra esta clase como oyente: cada ejecución
+ * (una consulta, una actualización o un lote JDBC completo, es decir, un
+ * viaje a la BD) suma uno al contador de la petición en curso junto con
+ * su duración. El contador vive en un {@code ThreadLocal} que abre
+ * {@link SqlAccountingFilter}; el trabajo que una petición delega en otro
+ * hilo (p. ej. las cargas de la caché) se le atribuye con
+ * {@link #propagar(Runnable)}. Las sentencias ejecutadas fuera de una
+ * petición (arranque, tareas programadas) no se cuentan.</p>
+ */
+public final class SqlAccounting implements QueryExecutionListener {
+
+    /** Sentencias y tiempo de BD acumulados por una petición. */
+    public static final class Contador {
+        private final AtomicInteger sentencias = new AtomicInteger();
+        private final AtomicLong milis = new AtomicLong();
+
+        public int sentencias() {
+            return sentencias.get();
+        }
+
+        public long milis() {
+            return milis.get();
+        }
+    }
+
+    private static final ThreadLocal<Contador> ACTUAL = new ThreadLocal<>();
+
+    static Contador iniciar() {
+        Contador c = new Contador();
+        ACTUAL.set(c);
+        return c;
+    }
+
+    static void terminar() {
+        ACTUAL.remove();
+    }
+
+    /** Contador de la petición que atiende este hilo, o {@code null}. */
+    public static Contador actual() {
+        return ACTUAL.get();
+    }
+
+    /**
+     * Envuelve una tarea para que sus sentencias se sumen a la petición que
+     * la crea, aunque se ejecute en otro hilo.
+     */
+    public static Runnable propagar(Runnable tarea) {
+        Contador c = ACTUAL.get();
+        if (c == null) {
+            return tarea;
+        }
+        return () -> {
+            Contador previo = ACTUAL.get();
+            ACTUAL.set(c);
+            try {
+                tarea.run();
+            } finally {
+                if (previo == null) {
+                    ACTUAL.remove();
+                } else {
+                    ACTUAL.set(previo);
+                }
+            }
+        };
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Contador c = ACTUAL.get();
+        if (c != null) {
+            c.sentencias.incrementAndGet();
+            c.milis.addAndGet(execInfo.getElapsedTime());
+        }
+    }
+}
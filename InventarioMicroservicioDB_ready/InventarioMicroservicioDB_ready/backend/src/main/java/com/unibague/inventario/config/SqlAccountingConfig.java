@@ -0,0 +1,29 @@
+package com.unibague.inventario.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Cuenta las sentencias SQL y el tiempo de BD de cada petición (ver
+ * {@link SqlAccounting}) para detectar consultas N+1 y viajes de más.
+ *
+ * <p>Activo por defecto; se desactiva con
+ * {@code inventario.sql-accounting.enabled=false}. El oyente se engancha
+ * al {@code DataSource} mediante {@link DataSourceProxyConfig}.</p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "inventario.sql-accounting.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlAccountingConfig {
+
+    @Bean
+    public SqlAccounting sqlAccounting() {
+        return new SqlAccounting();
+    }
+
+    @Bean
+    public SqlAccountingFilter sqlAccountingFilter(MeterRegistry registry) {
+        return new SqlAccountingFilter(registry);
+    }
+}
@@ -0,0 +1,122 @@
+package com.unibague.inventario.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Abre el contador de {@link SqlAccounting} para cada petición, lo publica
+ * en las cabeceras {@value #SQL_COUNT} y {@value #SQL_TIME_MS} y, al
+ * terminar, registra las sentencias y el tiempo de BD por endpoint
+ * ({@code http.server.requests.sql.statements} y
+ * {@code http.server.requests.sql.time}, con las etiquetas {@code method} y
+ * {@code uri} de {@code http.server.requests}).
+ *
+ * <p>Las cabeceras se fijan justo antes de que empiece el cuerpo (o al
+ * final, si la respuesta no tiene), con lo acumulado hasta ese momento: en
+ * las descargas en streaming no incluyen las consultas de la exportación.</p>
+ */
+public class SqlAccountingFilter extends OncePerRequestFilter {
+
+    public static final String SQL_COUNT = "X-SQL-Count";
+    public static final String SQL_TIME_MS = "X-SQL-Time-Ms";
+
+    private final MeterRegistry registry;
+
+    public SqlAccountingFilter(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        SqlAccounting.Contador contador = SqlAccounting.iniciar();
+        ConCabeceras respuesta = new ConCabeceras(response, contador);
+        try {
+            chain.doFilter(request, respuesta);
+            respuesta.cabeceras();
+        } finally {
+            SqlAccounting.terminar();
+            registrar(request, contador);
+        }
+    }
+
+    private void registrar(HttpServletRequest request, SqlAccounting.Contador contador) {
+        Object patron = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = patron != null ? patron.toString() : "UNKNOWN";
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .description("Sentencias SQL ejecutadas por petición")
+                .baseUnit("statements")
+                .tags("method", request.getMethod(), "uri", uri)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(contador.sentencias());
+        Timer.builder("http.server.requests.sql.time")
+                .description("Tiempo de BD acumulado por petición")
+                .tags("method", request.getMethod(), "uri", uri)
+                .register(registry)
+                .record(contador.milis(), TimeUnit.MILLISECONDS);
+    }
+
+    /** Respuesta que añade las cabeceras SQL antes de comprometerse. */
+    private static final class ConCabeceras extends HttpServletResponseWrapper {
+
+        private final SqlAccounting.Contador contador;
+        private boolean escritas;
+
+        ConCabeceras(HttpServletResponse response, SqlAccounting.Contador contador) {
+            super(response);
+            this.contador = contador;
+        }
+
+        void cabeceras() {
+            if (!escritas && !isCommitted()) {
+                escritas = true;
+                setHeader(SQL_COUNT, Integer.toString(contador.sentencias()));
+                setHeader(SQL_TIME_MS, Long.toString(contador.milis()));
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            cabeceras();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            cabeceras();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            cabeceras();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            cabeceras();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            cabeceras();
+            super.sendError(sc);
+        }
+    }
+}
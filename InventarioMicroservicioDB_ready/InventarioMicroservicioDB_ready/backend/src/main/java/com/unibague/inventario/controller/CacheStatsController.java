@@ -0,0 +1,76 @@
+package com.unibague.inventario.controller;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.cache.CacheManager;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Estadísticas de las cachés de lectura (aciertos, fallos, desalojos y tamaño)
+ * y de la caché de segundo nivel y de consultas de Hibernate.
+ */
+@RestController
+@RequestMapping("/api/v1/cache")
+@CrossOrigin(origins = "*")
+public class CacheStatsController {
+
+    private final CacheManager cacheManager;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public CacheStatsController(CacheManager cacheManager,
+                                EntityManagerFactory entityManagerFactory) {
+        this.cacheManager = cacheManager;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @GetMapping("/stats")
+    public Map<String, Object> stats() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            // getNativeCache() atraviesa el decorador transaccional
+            if (cacheManager.getCache(name).getNativeCache() instanceof Cache<?, ?> cc) {
+                CacheStats st = cc.stats();
+                Map<String, Object> m = new LinkedHashMap<>();
+                m.put("size", cc.estimatedSize());
+                m.put("hits", st.hitCount());
+                m.put("misses", st.missCount());
+                m.put("hitRate", st.hitRate());
+                m.put("evictions", st.evictionCount());
+                body.put(name, m);
+            }
+        }
+        body.put("hibernate", hibernate());
+        return body;
+    }
+
+    private Map<String, Object> hibernate() {
+        Statistics st = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Map<String, Object> m = new LinkedHashMap<>();
+        long l2Hits = st.getSecondLevelCacheHitCount();
+        long l2Misses = st.getSecondLevelCacheMissCount();
+        m.put("secondLevelHits", l2Hits);
+        m.put("secondLevelMisses", l2Misses);
+        m.put("secondLevelPuts", st.getSecondLevelCachePutCount());
+        m.put("secondLevelHitRate", ratio(l2Hits, l2Misses));
+        long qHits = st.getQueryCacheHitCount();
+        long qMisses = st.getQueryCacheMissCount();
+        m.put("queryCacheHits", qHits);
+        m.put("queryCacheMisses", qMisses);
+        m.put("queryCacheHitRate", ratio(qHits, qMisses));
+        m.put("entityLoads", st.getEntityLoadCount());
+        m.put("queryExecutions", st.getQueryExecutionCount());
+        m.put("prepareStatements", st.getPrepareStatementCount());
+        return m;
+    }
+
+    private static double ratio(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
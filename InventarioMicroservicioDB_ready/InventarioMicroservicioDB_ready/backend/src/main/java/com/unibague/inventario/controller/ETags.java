@@ -0,0 +1,81 @@
+package com.unibague.inventario.controller;
+
+import com.unibague.inventario.domain.exception.PreconditionFailedException;
+import com.unibague.inventario.dto.ProveedorResponse;
+import com.unibague.inventario.dto.SemillaResponse;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Construcción y lectura de ETag para los recursos de la API.
+ *
+ * <p>La ETag de una entidad combina su versión optimista ({@code @Version})
+ * con una huella de su contenido: la versión sola no identifica la fila, y
+ * una entidad borrada y creada de nuevo con la misma clave vuelve a la
+ * versión 0. La de un listado combina el contador de cambios de la tabla
+ * con la query string, de modo que el servidor puede responder 304 sin
+ * consultar la BD ni serializar el cuerpo.</p>
+ *
+ * <p>La usan también los handlers de lectura reactiva, que deben producir
+ * las mismas ETag que la API MVC para los mismos recursos.</p>
+ */
+public final class ETags {
+
+    private ETags() {}
+
+    /** ETag de un proveedor: versión + huella de sus datos (sin los totales de inventario). */
+    public static String ofProveedor(ProveedorResponse p) {
+        int huella = Objects.hash(p.getNit(), p.getNombre(), p.getCiudad(), p.getTelefono(),
+                p.getFechaRegistro(), p.isActivo());
+        return "\"" + version(p.getVersion()) + "." + Integer.toHexString(huella) + "\"";
+    }
+
+    /** ETag de una semilla: el stock va aparte porque los contadores en memoria no tocan la versión. */
+    public static String ofSemilla(SemillaResponse s) {
+        int huella = Objects.hash(s.getCodigo(), s.getNombre(), s.getPrecio(), s.getTipoSemilla(),
+                s.getPorcentajeGerminacion(), s.getProveedorNit(), s.getFechaIngreso());
+        return "\"" + version(s.getVersion()) + "." + s.getStock() + "." + Integer.toHexString(huella) + "\"";
+    }
+
+    /** ETag de un listado: versión de la tabla + parámetros de la consulta. */
+    public static String ofList(String tableVersion, String queryString) {
+        String q = (queryString != null) ? queryString : "";
+        return "\"" + tableVersion + "-" + Integer.toHexString(q.hashCode()) + "\"";
+    }
+
+    /**
+     * Versión esperada según la cabecera If-Match. La ETag recibida debe ser
+     * exactamente la vigente (versión, stock y huella); la versión devuelta
+     * la vuelve a comprobar la escritura en la misma sentencia.
+     *
+     * @param ifMatch  valor de la cabecera (puede ser {@code null})
+     * @param recurso  identificador del recurso, para el mensaje de error
+     * @param vigente  ETag actual del recurso; solo se calcula si hay condición
+     * @return versión esperada, o {@code null} si no hay condición ({@code *} o ausente)
+     */
+    static Long expectedVersion(String ifMatch, String recurso, Supplier<String> vigente) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String v = ifMatch.trim();
+        if (v.startsWith("W/") || v.length() < 3 || !v.startsWith("\"") || !v.endsWith("\"")) {
+            // Las ETag débiles o mal formadas nunca coinciden con If-Match
+            throw new PreconditionFailedException(recurso);
+        }
+        if (!v.equals(vigente.get())) {
+            throw new PreconditionFailedException(recurso);
+        }
+        v = v.substring(1, v.length() - 1);
+        int dot = v.indexOf('.');
+        try {
+            return Long.valueOf(dot >= 0 ? v.substring(0, dot) : v);
+        } catch (NumberFormatException ex) {
+            throw new PreconditionFailedException(recurso);
+        }
+    }
+
+    private static long version(Long version) {
+        return (version != null) ? version : 0L;
+    }
+}
@@ -1,20 +1,26 @@
 package com.unibague.inventario.controller;
 
-import com.unibague.inventario.domain.exception.ProveedorNotFoundException;
+import com.unibague.inventario.dto.CursorPage;
+import com.unibague.inventario.dto.PageQuery;
 import com.unibague.inventario.dto.ProveedorRequest;
 import com.unibague.inventario.dto.ProveedorResponse;
-import com.unibague.inventario.entity.Proveedor;
-import com.unibague.inventario.mapper.ProveedorMapper;
-import com.unibague.inventario.repository.ProveedorRepository;
+import com.unibague.inventario.dto.SugerenciaResponse;
+import com.unibague.inventario.service.CreateProveedorService;
+import com.unibague.inventario.service.DeleteProveedorService;
+import com.unibague.inventario.service.GetProveedorService;
 import com.unibague.inventario.service.ListProveedoresService;
+import com.unibague.inventario.service.SearchNombresService;
+import com.unibague.inventario.service.TableVersions;
+import com.unibague.inventario.service.UpdateProveedorService;
 import jakarta.validation.Valid;
-import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 @RestController
@@ -22,68 +28,99 @@ import java.util.Optional;
 @CrossOrigin(origins = "*")
 public class ProveedorController {
 
-    private final ProveedorRepository proveedorRepository;
     private final ListProveedoresService listService;
+    private final GetProveedorService getService;
+    private final CreateProveedorService createService;
+    private final UpdateProveedorService updateService;
+    private final DeleteProveedorService deleteService;
+    private final SearchNombresService searchService;
+    private final TableVersions tableVersions;
 
-    public ProveedorController(ProveedorRepository proveedorRepository,
-                               ListProveedoresService listService) {
-        this.proveedorRepository = proveedorRepository;
+    public ProveedorController(ListProveedoresService listService,
+                               GetProveedorService getService,
+                               CreateProveedorService createService,
+                               UpdateProveedorService updateService,
+                               DeleteProveedorService deleteService,
+                               SearchNombresService searchService,
+                               TableVersions tableVersions) {
         this.listService = listService;
+        this.getService = getService;
+        this.createService = createService;
+        this.updateService = updateService;
+        this.deleteService = deleteService;
+        this.searchService = searchService;
+        this.tableVersions = tableVersions;
     }
 
-    // -------- LISTAR con filtros --------
+    // -------- LISTAR con filtros (paginado por cursor, 304 si la tabla no cambió) --------
     @GetMapping
-    public List<ProveedorResponse> list(@RequestParam(required = false) String nombre,
-                                        @RequestParam(required = false) String ciudad,
-                                        @RequestParam(required = false) String activo) {
-        return listService.list(Optional.ofNullable(nombre),
-                                Optional.ofNullable(ciudad),
-                                Optional.ofNullable(activo));
+    public ResponseEntity<List<ProveedorResponse>> list(ServletWebRequest request,
+                                                        @RequestParam(required = false) String nombre,
+                                                        @RequestParam(required = false) String ciudad,
+                                                        @RequestParam(required = false) String activo,
+                                                        @RequestParam(required = false) String sort,
+                                                        @RequestParam(required = false) String order,
+                                                        @RequestParam(required = false) Integer limit,
+                                                        @RequestParam(required = false) String after,
+                                                        @RequestParam(defaultValue = "false") boolean count) {
+        // El listado incluye los totales de inventario: depende también de semillas
+        String etag = ETags.ofList(tableVersions.version(TableVersions.PROVEEDORES)
+                        + "." + tableVersions.version(TableVersions.SEMILLAS),
+                request.getRequest().getQueryString());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        CursorPage<ProveedorResponse> page = listService.list(Optional.ofNullable(nombre),
+                                                              Optional.ofNullable(ciudad),
+                                                              Optional.ofNullable(activo),
+                                                              new PageQuery(sort, order, limit, after, count));
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok();
+        if (page.nextCursor() != null) ok.header("X-Next-Cursor", page.nextCursor());
+        if (page.total() != null) ok.header("X-Total-Count", String.valueOf(page.total()));
+        return ok.eTag(etag).body(page.items());
+    }
+
+    // -------- AUTOCOMPLETAR nombre (índice en memoria, sin tildes ni mayúsculas) --------
+    @GetMapping("/sugerencias")
+    public List<SugerenciaResponse> sugerencias(@RequestParam String q,
+                                                @RequestParam(required = false) Integer limit) {
+        return searchService.sugerirProveedores(q, limit);
     }
 
-    // -------- OBTENER por NIT --------
+    // -------- OBTENER por NIT (GET condicional con If-None-Match) --------
     @GetMapping("/{nit}")
-    public ProveedorResponse getById(@PathVariable String nit) {
-        Proveedor p = proveedorRepository.findById(nit)
-                .orElseThrow(() -> new ProveedorNotFoundException(nit));
-        return ProveedorMapper.toResponse(p);
+    public ProveedorResponse getById(@PathVariable String nit, WebRequest request) {
+        ProveedorResponse proveedor = getService.getByNit(nit);
+        if (request.checkNotModified(ETags.ofProveedor(proveedor))) {
+            return null;
+        }
+        return proveedor;
     }
 
     // -------- CREAR --------
     @PostMapping
-    public ResponseEntity<?> create(@Valid @RequestBody ProveedorRequest req) {
-        if (proveedorRepository.existsById(req.getNit())) {
-            return ResponseEntity.status(HttpStatus.CONFLICT)
-                    .body(Map.of("message", "Ya existe un proveedor con NIT " + req.getNit()));
-        }
-        Proveedor entidad = ProveedorMapper.toEntity(req);
-        Proveedor guardado = proveedorRepository.save(entidad);
+    public ResponseEntity<ProveedorResponse> create(@Valid @RequestBody ProveedorRequest req) {
+        ProveedorResponse guardado = createService.create(req);
         URI location = URI.create("/api/v1/proveedores/" + guardado.getNit());
-        return ResponseEntity.created(location).body(ProveedorMapper.toResponse(guardado));
+        return ResponseEntity.created(location).body(guardado);
     }
 
-    // -------- ACTUALIZAR --------
+    // -------- ACTUALIZAR (If-Match opcional: 412 si la ETag cambió) --------
     @PutMapping("/{nit}")
-    public ProveedorResponse update(@PathVariable String nit,
-                                    @Valid @RequestBody ProveedorRequest req) {
-        Proveedor existente = proveedorRepository.findById(nit)
-                .orElseThrow(() -> new ProveedorNotFoundException(nit));
-        // Actualizar campos desde el request (o usar Mapper)
-        existente.setNombre(req.getNombre());
-        existente.setCiudad(req.getCiudad());
-        existente.setTelefono(req.getTelefono());
-        existente.setFechaRegistro(req.getFechaRegistro());
-        existente.setActivo(req.getActivo());
-        Proveedor guardado = proveedorRepository.save(existente);
-        return ProveedorMapper.toResponse(guardado);
+    public ResponseEntity<ProveedorResponse> update(@PathVariable String nit,
+                                                    @Valid @RequestBody ProveedorRequest req,
+                                                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ProveedorResponse actualizado = updateService.update(nit, req, ETags.expectedVersion(ifMatch, nit,
+                () -> ETags.ofProveedor(getService.getByNit(nit))));
+        return ResponseEntity.ok().eTag(ETags.ofProveedor(actualizado)).body(actualizado);
     }
 
     // -------- ELIMINAR --------
     @DeleteMapping("/{nit}")
-    public ResponseEntity<Void> delete(@PathVariable String nit) {
-        Proveedor existente = proveedorRepository.findById(nit)
-                .orElseThrow(() -> new ProveedorNotFoundException(nit));
-        proveedorRepository.delete(existente);
+    public ResponseEntity<Void> delete(@PathVariable String nit,
+                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        deleteService.delete(nit, ETags.expectedVersion(ifMatch, nit,
+                () -> ETags.ofProveedor(getService.getByNit(nit))));
         return ResponseEntity.noContent().build();
     }
 }
@@ -1,72 +1,186 @@
-package com.unibague.inventario.controller;
-
-import com.unibague.inventario.dto.SemillaRequest;
-import com.unibague.inventario.dto.SemillaResponse;
-import com.unibague.inventario.service.CreateSemillaService;
-import com.unibague.inventario.service.DeleteSemillaService;
-import com.unibague.inventario.service.GetSemillaService;
-import com.unibague.inventario.service.ListSemillasService;
-import com.unibague.inventario.service.UpdateSemillaService;
-import jakarta.validation.Valid;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.*;
-
-import java.net.URI;
-import java.util.List;
-import java.util.Optional;
-
-@RestController
-@RequestMapping("/api/v1/semillas")
-@CrossOrigin(origins = "*")
-public class SemillaController {
-
-    private final CreateSemillaService createService;
-    private final GetSemillaService getService;
-    private final UpdateSemillaService updateService;
-    private final DeleteSemillaService deleteService;
-    private final ListSemillasService listService;
-
-    public SemillaController(CreateSemillaService createService,
-                             GetSemillaService getService,
-                             UpdateSemillaService updateService,
-                             DeleteSemillaService deleteService,
-                             ListSemillasService listService) {
-        this.createService = createService;
-        this.getService = getService;
-        this.updateService = updateService;
-        this.deleteService = deleteService;
-        this.listService = listService;
-    }
-
-    @PostMapping
-    public ResponseEntity<SemillaResponse> create(@Valid @RequestBody SemillaRequest req) {
-        SemillaResponse saved = createService.create(req);
-        return ResponseEntity.created(URI.create("/api/v1/semillas/" + saved.getCodigo())).body(saved);
-    }
-
-    @GetMapping("/{codigo}")
-    public SemillaResponse get(@PathVariable String codigo) {
-        return getService.get(codigo); // <-- método 'get' en el servicio
-    }
-
-    @PutMapping("/{codigo}")
-    public SemillaResponse update(@PathVariable String codigo, @Valid @RequestBody SemillaRequest req) {
-        return updateService.update(codigo, req);
-    }
-
-    @DeleteMapping("/{codigo}")
-    @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void delete(@PathVariable String codigo) {
-        deleteService.delete(codigo);
-    }
-
-    // NOTA: el servicio espera Optional<String> para 'germinacionMin'
-    @GetMapping
-    public List<SemillaResponse> list(@RequestParam Optional<String> tipo,
-                                      @RequestParam(name = "germinacionMin") Optional<String> germMin,
-                                      @RequestParam Optional<String> desde,
-                                      @RequestParam Optional<String> hasta) {
-        return listService.list(tipo, germMin, desde, hasta);
-    }
-}
+package com.unibague.inventario.controller;
+
+import com.unibague.inventario.dto.CursorPage;
+import com.unibague.inventario.dto.PageQuery;
+import com.unibague.inventario.dto.SemillaBatchResponse;
+import com.unibague.inventario.dto.SemillaFilter;
+import com.unibague.inventario.dto.SemillaRequest;
+import com.unibague.inventario.dto.SemillaResponse;
+import com.unibague.inventario.dto.StockDeltaRequest;
+import com.unibague.inventario.dto.StockResponse;
+import com.unibague.inventario.dto.SugerenciaResponse;
+import com.unibague.inventario.dto.SemillaRollupResponse;
+import com.unibague.inventario.service.AdjustStockService;
+import com.unibague.inventario.service.AnalyticsSemillasService;
+import com.unibague.inventario.service.CreateSemillaService;
+import com.unibague.inventario.service.CreateSemillasBatchService;
+import com.unibague.inventario.service.DeleteSemillaService;
+import com.unibague.inventario.service.ExportSemillasService;
+import com.unibague.inventario.service.GetSemillaService;
+import com.unibague.inventario.service.ListSemillasService;
+import com.unibague.inventario.service.SearchNombresService;
+import com.unibague.inventario.service.TableVersions;
+import com.unibague.inventario.service.UpdateSemillaService;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/semillas")
+@CrossOrigin(origins = "*")
+public class SemillaController {
+
+    private final CreateSemillaService createService;
+    private final CreateSemillasBatchService batchService;
+    private final GetSemillaService getService;
+    private final UpdateSemillaService updateService;
+    private final DeleteSemillaService deleteService;
+    private final ListSemillasService listService;
+    private final ExportSemillasService exportService;
+    private final AdjustStockService stockService;
+    private final AnalyticsSemillasService analyticsService;
+    private final SearchNombresService searchService;
+    private final TableVersions tableVersions;
+
+    public SemillaController(CreateSemillaService createService,
+                             CreateSemillasBatchService batchService,
+                             GetSemillaService getService,
+                             UpdateSemillaService updateService,
+                             DeleteSemillaService deleteService,
+                             ListSemillasService listService,
+                             ExportSemillasService exportService,
+                             AdjustStockService stockService,
+                             AnalyticsSemillasService analyticsService,
+                             SearchNombresService searchService,
+                             TableVersions tableVersions) {
+        this.createService = createService;
+        this.batchService = batchService;
+        this.getService = getService;
+        this.updateService = updateService;
+        this.deleteService = deleteService;
+        this.listService = listService;
+        this.exportService = exportService;
+        this.stockService = stockService;
+        this.analyticsService = analyticsService;
+        this.searchService = searchService;
+        this.tableVersions = tableVersions;
+    }
+
+    @PostMapping
+    public ResponseEntity<SemillaResponse> create(@Valid @RequestBody SemillaRequest req) {
+        SemillaResponse saved = createService.create(req);
+        return ResponseEntity.created(URI.create("/api/v1/semillas/" + saved.getCodigo())).body(saved);
+    }
+
+    // Carga masiva: cada fila se valida por separado y el informe indica si
+    // se creó, estaba duplicada o su proveedor no existe.
+    @PostMapping("/batch")
+    public SemillaBatchResponse createBatch(@RequestBody List<SemillaRequest> reqs) {
+        return batchService.createAll(reqs);
+    }
+
+    // GET condicional: con If-None-Match igual a la ETag vigente responde 304 sin cuerpo
+    @GetMapping("/{codigo}")
+    public SemillaResponse get(@PathVariable String codigo, WebRequest request) {
+        SemillaResponse semilla = getService.get(codigo); // <-- método 'get' en el servicio
+        if (request.checkNotModified(ETags.ofSemilla(semilla))) {
+            return null;
+        }
+        return semilla;
+    }
+
+    // If-Match opcional: si la ETag ya no es la vigente responde 412
+    @PutMapping("/{codigo}")
+    public ResponseEntity<SemillaResponse> update(@PathVariable String codigo,
+                                                  @Valid @RequestBody SemillaRequest req,
+                                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        SemillaResponse semilla = updateService.update(codigo, req, ETags.expectedVersion(ifMatch, codigo,
+                () -> ETags.ofSemilla(getService.get(codigo))));
+        return ResponseEntity.ok()
+                .eTag(ETags.ofSemilla(semilla))
+                .body(semilla);
+    }
+
+    // Movimiento de stock atómico: {"delta": -5} descuenta 5 unidades (409 si no alcanza)
+    @PatchMapping("/{codigo}/stock")
+    public StockResponse adjustStock(@PathVariable String codigo, @Valid @RequestBody StockDeltaRequest req) {
+        return stockService.adjust(codigo, req.getDelta());
+    }
+
+    @DeleteMapping("/{codigo}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void delete(@PathVariable String codigo,
+                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        deleteService.delete(codigo, ETags.expectedVersion(ifMatch, codigo,
+                () -> ETags.ofSemilla(getService.get(codigo))));
+    }
+
+    // Filtros combinables (tipo, germinacionMin/Max, desde/hasta, precioMin/Max,
+    // stockMin/Max, proveedorNit) enlazados por nombre desde la query string.
+    // Paginación por cursor: 'limit' + 'after'; el cursor siguiente y el total
+    // (si count=true) viajan en las cabeceras X-Next-Cursor / X-Total-Count.
+    // Sin 'sort': germinación descendente si se filtra por germinación, si no
+    // fecha de ingreso descendente si se filtra por fechas, si no código.
+    // La ETag se calcula antes de consultar: si la tabla no cambió, 304 directo.
+    @GetMapping
+    public ResponseEntity<List<SemillaResponse>> list(ServletWebRequest request,
+                                                      SemillaFilter filtro,
+                                                      @RequestParam(required = false) String sort,
+                                                      @RequestParam(required = false) String order,
+                                                      @RequestParam(required = false) Integer limit,
+                                                      @RequestParam(required = false) String after,
+                                                      @RequestParam(defaultValue = "false") boolean count) {
+        String etag = ETags.ofList(tableVersions.version(TableVersions.SEMILLAS),
+                request.getRequest().getQueryString());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        CursorPage<SemillaResponse> page = listService.list(filtro,
+                new PageQuery(sort, order, limit, after, count));
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok();
+        if (page.nextCursor() != null) ok.header("X-Next-Cursor", page.nextCursor());
+        if (page.total() != null) ok.header("X-Total-Count", String.valueOf(page.total()));
+        return ok.eTag(etag).body(page.items());
+    }
+
+    // Autocompletado por nombre: ?q=maiz&limit=10 (sin tildes ni mayúsculas, por relevancia)
+    @GetMapping("/sugerencias")
+    public List<SugerenciaResponse> sugerencias(@RequestParam String q,
+                                                @RequestParam(required = false) Integer limit) {
+        return searchService.sugerirSemillas(q, limit);
+    }
+
+    // Informe agregado: ?agrupar=tipo,mes&desde=2025-01-01&hasta=2025-12-31&tipo=Cereal
+    // (cantidad, stock, valoración y percentiles de germinación por grupo)
+    @GetMapping("/analytics")
+    public List<SemillaRollupResponse> analytics(@RequestParam(required = false) String agrupar,
+                                                 @RequestParam(required = false) String tipo,
+                                                 @RequestParam(required = false) String desde,
+                                                 @RequestParam(required = false) String hasta) {
+        return analyticsService.resumen(agrupar, tipo, desde, hasta);
+    }
+
+    // Exportación completa en streaming (NDJSON por defecto o CSV): las filas
+    // se escriben a medida que se leen, sin construir la lista en memoria.
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(required = false) String format) {
+        ExportSemillasService.Formato formato = ExportSemillasService.formato(format);
+        boolean csv = formato == ExportSemillasService.Formato.CSV;
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                                 : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"semillas." + (csv ? "csv" : "ndjson") + "\"")
+                .body(out -> exportService.export(formato, out));
+    }
+}
@@ -0,0 +1,39 @@
+package com.unibague.inventario.controller;
+
+import com.unibague.inventario.service.SnapshotsH2Job;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Copias en caliente de la base H2 en disco: lista las existentes y permite
+ * pedir una fuera de calendario (p. ej. antes de un despliegue).
+ */
+@RestController
+@RequestMapping("/api/v1/snapshots")
+@CrossOrigin(origins = "*")
+@ConditionalOnProperty(name = "inventario.h2.snapshots.enabled", havingValue = "true")
+public class SnapshotsController {
+
+    private final SnapshotsH2Job snapshots;
+
+    public SnapshotsController(SnapshotsH2Job snapshots) {
+        this.snapshots = snapshots;
+    }
+
+    @GetMapping
+    public List<String> list() {
+        return snapshots.copias().stream().map(p -> p.getFileName().toString()).toList();
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Map<String, String> create() {
+        Path copia = snapshots.crear();
+        return Map.of("snapshot", copia.getFileName().toString());
+    }
+}
@@ -0,0 +1,44 @@
+package com.unibague.inventario.domain;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Forma normalizada de un texto para comparaciones y búsquedas: sin tildes,
+ * en minúsculas y con los signos reducidos a un único espacio. Así
+ * "Bogotá", "BOGOTA" y " bogota " se guardan y se buscan igual.
+ */
+public final class TextoNormalizado {
+
+    private static final Pattern MARCAS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private TextoNormalizado() {}
+
+    public static String normalizar(String texto) {
+        if (texto == null) {
+            return "";
+        }
+        if (esAsciiSimple(texto)) {
+            return texto.toLowerCase(Locale.ROOT);
+        }
+        String s = MARCAS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARADORES.matcher(s.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    // Caso habitual: letras y dígitos ASCII separados por un solo espacio
+    private static boolean esAsciiSimple(String s) {
+        if (s.isEmpty() || s.charAt(0) == ' ' || s.charAt(s.length() - 1) == ' ') {
+            return false;
+        }
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            boolean alnum = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+            if (!alnum && (c != ' ' || s.charAt(i - 1) == ' ')) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,11 @@
+package com.unibague.inventario.domain.exception;
+
+/**
+ * Excepción lanzada cuando la cabecera If-Match no corresponde a la versión
+ * vigente del recurso.
+ */
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String recurso) {
+        super("El recurso '" + recurso + "' cambió; la versión indicada en If-Match ya no es la vigente");
+    }
+}
@@ -0,0 +1,10 @@
+package com.unibague.inventario.domain.exception;
+
+/**
+ * Excepción lanzada cuando un movimiento de stock dejaría la existencia en negativo.
+ */
+public class StockInsuficienteException extends RuntimeException {
+    public StockInsuficienteException(String codigo, int delta) {
+        super("Stock insuficiente en la semilla '" + codigo + "' para aplicar " + delta);
+    }
+}
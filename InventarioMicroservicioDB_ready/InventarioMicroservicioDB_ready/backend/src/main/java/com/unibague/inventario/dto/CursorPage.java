@@ -0,0 +1,16 @@
+package com.unibague.inventario.dto;
+
+import java.util.List;
+
+/**
+ * Página de resultados de un listado paginado por cursor.
+ *
+ * @param items      elementos de la página
+ * @param nextCursor cursor opaco para pedir la siguiente página ({@code null} si no hay más)
+ * @param total      total de registros que cumplen el filtro ({@code null} si no se pidió)
+ */
+public record CursorPage<T>(
+    List<T> items,
+    String nextCursor,
+    Long total
+) {}
@@ -0,0 +1,18 @@
+package com.unibague.inventario.dto;
+
+/**
+ * Parámetros de paginación por cursor (keyset) recibidos en los listados.
+ *
+ * @param sort      campo de ordenamiento (debe estar en la lista blanca del servicio)
+ * @param order     dirección {@code asc} o {@code desc}
+ * @param limit     tamaño máximo de la página
+ * @param after     cursor opaco devuelto por la página anterior
+ * @param withTotal si es {@code true} se calcula también el total de registros
+ */
+public record PageQuery(
+    String sort,
+    String order,
+    Integer limit,
+    String after,
+    boolean withTotal
+) {}
@@ -24,6 +24,9 @@ public class ProveedorRequest {
     @NotNull
     private Boolean activo;
 
+    // Opcional: versión leída por el cliente; si no coincide la actualización se rechaza (409)
+    private Long version;
+
     // getters y setters
     public String getNit() { return nit; }
     public void setNit(String nit) { this.nit = nit; }
@@ -37,4 +40,6 @@ public class ProveedorRequest {
     public void setFechaRegistro(LocalDateTime fechaRegistro) { this.fechaRegistro = fechaRegistro; }
     public Boolean getActivo() { return activo; }
     public void setActivo(Boolean activo) { this.activo = activo; }
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
@@ -1,5 +1,7 @@
 package com.unibague.inventario.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 public class ProveedorResponse {
     private String nit;
     private String nombre;
@@ -7,6 +9,17 @@ public class ProveedorResponse {
     private String telefono;
     private String fechaRegistro; // ISO-8601 como String
     private boolean activo;
+    private Long version; // control de concurrencia optimista
+
+    // Resumen de inventario (solo en el listado; se omiten si no se cargaron)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long cantidadSemillas;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long stockTotal;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double valorStock;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double germinacionPromedio;
 
     public ProveedorResponse() {}
 
@@ -31,4 +44,14 @@ public class ProveedorResponse {
     public void setFechaRegistro(String fechaRegistro) { this.fechaRegistro = fechaRegistro; }
     public boolean isActivo() { return activo; }
     public void setActivo(boolean activo) { this.activo = activo; }
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+    public Long getCantidadSemillas() { return cantidadSemillas; }
+    public void setCantidadSemillas(Long cantidadSemillas) { this.cantidadSemillas = cantidadSemillas; }
+    public Long getStockTotal() { return stockTotal; }
+    public void setStockTotal(Long stockTotal) { this.stockTotal = stockTotal; }
+    public Double getValorStock() { return valorStock; }
+    public void setValorStock(Double valorStock) { this.valorStock = valorStock; }
+    public Double getGerminacionPromedio() { return germinacionPromedio; }
+    public void setGerminacionPromedio(Double germinacionPromedio) { this.germinacionPromedio = germinacionPromedio; }
 }
@@ -0,0 +1,18 @@
+package com.unibague.inventario.dto;
+
+/**
+ * Resultado de una fila dentro de una carga masiva de semillas.
+ *
+ * @param index   posición de la fila en el arreglo enviado (desde 0)
+ * @param codigo  código de la semilla (puede ser {@code null} si la fila es inválida)
+ * @param estado  resultado de la fila
+ * @param mensaje detalle legible cuando la fila no se creó
+ */
+public record SemillaBatchItem(
+    int index,
+    String codigo,
+    Estado estado,
+    String mensaje
+) {
+    public enum Estado { CREATED, DUPLICATE, UNKNOWN_PROVEEDOR, INVALID }
+}
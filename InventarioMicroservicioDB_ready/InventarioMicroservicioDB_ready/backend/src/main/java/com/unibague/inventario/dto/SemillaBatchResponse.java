@@ -0,0 +1,16 @@
+package com.unibague.inventario.dto;
+
+import java.util.List;
+
+/**
+ * Informe de una carga masiva de semillas: totales por estado y el detalle
+ * de cada fila en el mismo orden en que se recibieron.
+ */
+public record SemillaBatchResponse(
+    int total,
+    int creadas,
+    int duplicadas,
+    int proveedorDesconocido,
+    int invalidas,
+    List<SemillaBatchItem> resultados
+) {}
@@ -0,0 +1,21 @@
+package com.unibague.inventario.dto;
+
+/**
+ * Criterios de búsqueda de semillas tal como llegan en la query string.
+ *
+ * <p>Todos son opcionales y se combinan con AND en una única consulta. Los
+ * valores se reciben como texto y los interpreta {@code ListSemillasService}
+ * para responder 400 ante formatos inválidos.</p>
+ */
+public record SemillaFilter(
+    String tipo,
+    String germinacionMin,
+    String germinacionMax,
+    String desde,
+    String hasta,
+    String precioMin,
+    String precioMax,
+    String stockMin,
+    String stockMax,
+    String proveedorNit
+) {}
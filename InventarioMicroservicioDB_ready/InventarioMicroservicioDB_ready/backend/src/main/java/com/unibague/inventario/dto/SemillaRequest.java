@@ -30,6 +30,9 @@ public class SemillaRequest {
     @PastOrPresent
     private LocalDateTime fechaIngreso;
 
+    // Opcional: versión leída por el cliente; si no coincide la actualización se rechaza (409)
+    private Long version;
+
     // getters/setters
     public String getCodigo() { return codigo; }
     public void setCodigo(String codigo) { this.codigo = codigo; }
@@ -47,4 +50,6 @@ public class SemillaRequest {
     public void setProveedorNit(String proveedorNit) { this.proveedorNit = proveedorNit; }
     public LocalDateTime getFechaIngreso() { return fechaIngreso; }
     public void setFechaIngreso(LocalDateTime fechaIngreso) { this.fechaIngreso = fechaIngreso; }
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
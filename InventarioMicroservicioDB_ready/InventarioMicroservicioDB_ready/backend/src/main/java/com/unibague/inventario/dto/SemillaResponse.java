@@ -9,6 +9,7 @@ public class SemillaResponse {
     private double porcentajeGerminacion;
     private String proveedorNit;
     private String fechaIngreso; // ISO-8601 como String
+    private Long version; // control de concurrencia optimista
 
     public SemillaResponse() {}
 
@@ -40,4 +41,6 @@ public class SemillaResponse {
     public void setProveedorNit(String proveedorNit) { this.proveedorNit = proveedorNit; }
     public String getFechaIngreso() { return fechaIngreso; }
     public void setFechaIngreso(String fechaIngreso) { this.fechaIngreso = fechaIngreso; }
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
@@ -0,0 +1,20 @@
+package com.unibague.inventario.dto;
+
+/**
+ * Totales de un grupo de semillas (por tipo y/o periodo de ingreso).
+ * Los campos de agrupación que no se pidieron van en {@code null}; los
+ * percentiles de germinación tienen resolución de un punto (media del
+ * tramo donde cae el percentil).
+ */
+public record SemillaRollupResponse(
+    String tipoSemilla,
+    String periodo,      // inicio del día, semana (lunes) o mes, ISO-8601
+    long cantidad,
+    long stockTotal,
+    double valorStock,
+    Double germinacionPromedio,
+    Double germinacionP25,
+    Double germinacionP50,
+    Double germinacionP75,
+    Double germinacionP90
+) {}
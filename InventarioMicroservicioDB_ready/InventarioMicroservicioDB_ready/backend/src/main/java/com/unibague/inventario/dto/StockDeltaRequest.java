@@ -0,0 +1,14 @@
+package com.unibague.inventario.dto;
+
+import jakarta.validation.constraints.*;
+
+public class StockDeltaRequest {
+
+    /** Movimiento con signo: positivo para entradas, negativo para salidas. */
+    @NotNull
+    @Min(-1_000_000) @Max(1_000_000)
+    private Integer delta;
+
+    public Integer getDelta() { return delta; }
+    public void setDelta(Integer delta) { this.delta = delta; }
+}
@@ -0,0 +1,9 @@
+package com.unibague.inventario.dto;
+
+/**
+ * Existencia resultante de una semilla tras aplicar un movimiento de stock.
+ */
+public record StockResponse(
+    String codigo,
+    int stock
+) {}
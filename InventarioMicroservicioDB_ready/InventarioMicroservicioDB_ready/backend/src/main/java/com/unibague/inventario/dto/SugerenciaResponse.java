@@ -0,0 +1,9 @@
+package com.unibague.inventario.dto;
+
+/**
+ * Sugerencia de autocompletado: identificador (NIT o código) y nombre.
+ */
+public record SugerenciaResponse(
+    String id,
+    String nombre
+) {}
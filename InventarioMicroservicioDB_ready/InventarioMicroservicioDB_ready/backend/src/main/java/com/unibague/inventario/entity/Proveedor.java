@@ -1,9 +1,15 @@
 package com.unibague.inventario.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import com.unibague.inventario.domain.TextoNormalizado;
+import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDateTime;
 
 /**
@@ -14,8 +20,20 @@ import java.time.LocalDateTime;
  * con Semilla es una relación de uno a muchos, pero no se declara aquí
  * explícitamente para cumplir con la restricción de no usar listas en
  * este proyecto; la relación se define desde Semilla con @ManyToOne.</p>
+ *
+ * <p>Es un catálogo que se lee mucho y se escribe poco, por eso está en la
+ * caché de segundo nivel de Hibernate (READ_WRITE: las escrituras de la
+ * propia aplicación la mantienen coherente).</p>
+ *
+ * <p>{@code nombre_norm} y {@code ciudad_norm} guardan la forma normalizada
+ * (sin tildes ni mayúsculas) que usan los filtros, para compararlas con
+ * índices ({@code db/migration/V2__indices.sql}) en lugar de aplicar
+ * {@code lower()} a la columna.</p>
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "proveedores-entidad")
+@DynamicUpdate
 @Table(name = "proveedores")
 public class Proveedor {
 
@@ -29,6 +47,12 @@ public class Proveedor {
     @Column(name = "ciudad", nullable = false)
     private String ciudad;
 
+    @Column(name = "nombre_norm")
+    private String nombreNorm;
+
+    @Column(name = "ciudad_norm")
+    private String ciudadNorm;
+
     @Column(name = "telefono", nullable = false)
     private String telefono;
 
@@ -38,14 +62,19 @@ public class Proveedor {
     @Column(name = "activo", nullable = false)
     private boolean activo;
 
+    /** Versión para control de concurrencia optimista; la incrementa cada UPDATE. */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     public Proveedor() {
     }
 
     public Proveedor(String nit, String nombre, String ciudad, String telefono,
                      LocalDateTime fechaRegistro, boolean activo) {
         this.nit = nit;
-        this.nombre = nombre;
-        this.ciudad = ciudad;
+        setNombre(nombre);
+        setCiudad(ciudad);
         this.telefono = telefono;
         this.fechaRegistro = fechaRegistro;
         this.activo = activo;
@@ -65,6 +94,7 @@ public class Proveedor {
 
     public void setNombre(String nombre) {
         this.nombre = nombre;
+        this.nombreNorm = TextoNormalizado.normalizar(nombre);
     }
 
     public String getCiudad() {
@@ -73,6 +103,15 @@ public class Proveedor {
 
     public void setCiudad(String ciudad) {
         this.ciudad = ciudad;
+        this.ciudadNorm = TextoNormalizado.normalizar(ciudad);
+    }
+
+    public String getNombreNorm() {
+        return nombreNorm;
+    }
+
+    public String getCiudadNorm() {
+        return ciudadNorm;
     }
 
     public String getTelefono() {
@@ -98,4 +137,12 @@ public class Proveedor {
     public void setActivo(boolean activo) {
         this.activo = activo;
     }
-}
\ No newline at end of file
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
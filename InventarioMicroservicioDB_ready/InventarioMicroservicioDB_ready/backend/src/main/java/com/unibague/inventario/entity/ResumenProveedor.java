@@ -0,0 +1,68 @@
+package com.unibague.inventario.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Totales de inventario de un proveedor (tabla {@code resumen_proveedores}).
+ *
+ * <p>Se mantiene de forma incremental desde los servicios que escriben en
+ * {@code semillas}, para que el listado de proveedores no tenga que agregar
+ * todas sus semillas en cada petición. Se guarda la suma de germinación en
+ * lugar del promedio para poder aplicar cada cambio como un simple delta.</p>
+ */
+@Entity
+@Table(name = "resumen_proveedores")
+public class ResumenProveedor {
+
+    @Id
+    @Column(name = "proveedor_nit", nullable = false, length = 20)
+    private String proveedorNit;
+
+    @Column(name = "cantidad_semillas", nullable = false)
+    private long cantidadSemillas;
+
+    @Column(name = "stock_total", nullable = false)
+    private long stockTotal;
+
+    /** Suma de precio × stock. */
+    @Column(name = "valor_stock", nullable = false)
+    private double valorStock;
+
+    @Column(name = "suma_germinacion", nullable = false)
+    private double sumaGerminacion;
+
+    public ResumenProveedor() {
+    }
+
+    public ResumenProveedor(String proveedorNit) {
+        this.proveedorNit = proveedorNit;
+    }
+
+    public String getProveedorNit() {
+        return proveedorNit;
+    }
+
+    public long getCantidadSemillas() {
+        return cantidadSemillas;
+    }
+
+    public long getStockTotal() {
+        return stockTotal;
+    }
+
+    public double getValorStock() {
+        return valorStock;
+    }
+
+    public double getSumaGerminacion() {
+        return sumaGerminacion;
+    }
+
+    /** Germinación promedio, o {@code null} si el proveedor no tiene semillas. */
+    public Double getGerminacionPromedio() {
+        return cantidadSemillas > 0 ? sumaGerminacion / cantidadSemillas : null;
+    }
+}
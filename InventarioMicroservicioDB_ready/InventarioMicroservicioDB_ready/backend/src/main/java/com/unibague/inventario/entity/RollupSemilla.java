@@ -0,0 +1,111 @@
+package com.unibague.inventario.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Agregado compactado de semillas por tipo, día de ingreso y tramo de
+ * germinación (tabla {@code rollup_semillas}).
+ *
+ * <p>Cada tramo cubre un punto porcentual de germinación, de modo que los
+ * percentiles de cualquier grupo se obtienen del histograma sin leer las
+ * semillas. Las escrituras no modifican esta tabla directamente: registran
+ * deltas en {@link RollupSemillaDelta} que una tarea periódica incorpora.</p>
+ */
+@Entity
+@IdClass(RollupSemilla.Clave.class)
+@Table(name = "rollup_semillas")
+public class RollupSemilla {
+
+    @Id
+    @Column(name = "tipo_semilla", nullable = false)
+    private String tipoSemilla;
+
+    @Id
+    @Column(name = "dia", nullable = false)
+    private LocalDate dia;
+
+    @Id
+    @Column(name = "bin_germinacion", nullable = false)
+    private int binGerminacion;
+
+    @Column(name = "cantidad", nullable = false)
+    private long cantidad;
+
+    @Column(name = "stock_total", nullable = false)
+    private long stockTotal;
+
+    @Column(name = "valor_stock", nullable = false)
+    private double valorStock;
+
+    @Column(name = "suma_germinacion", nullable = false)
+    private double sumaGerminacion;
+
+    public RollupSemilla() {
+    }
+
+    public String getTipoSemilla() {
+        return tipoSemilla;
+    }
+
+    public LocalDate getDia() {
+        return dia;
+    }
+
+    public int getBinGerminacion() {
+        return binGerminacion;
+    }
+
+    public long getCantidad() {
+        return cantidad;
+    }
+
+    public long getStockTotal() {
+        return stockTotal;
+    }
+
+    public double getValorStock() {
+        return valorStock;
+    }
+
+    public double getSumaGerminacion() {
+        return sumaGerminacion;
+    }
+
+    /** Clave compuesta: tipo, día y tramo de germinación. */
+    public static class Clave implements Serializable {
+        private String tipoSemilla;
+        private LocalDate dia;
+        private int binGerminacion;
+
+        public Clave() {
+        }
+
+        public Clave(String tipoSemilla, LocalDate dia, int binGerminacion) {
+            this.tipoSemilla = tipoSemilla;
+            this.dia = dia;
+            this.binGerminacion = binGerminacion;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Clave c)) return false;
+            return binGerminacion == c.binGerminacion
+                    && Objects.equals(tipoSemilla, c.tipoSemilla)
+                    && Objects.equals(dia, c.dia);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(tipoSemilla, dia, binGerminacion);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.unibague.inventario.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.LocalDate;
+
+/**
+ * Cambio pendiente de incorporar a {@link RollupSemilla} (tabla
+ * {@code rollup_semillas_delta}).
+ *
+ * <p>Las escrituras de semillas solo insertan filas aquí, sin actualizar
+ * un agregado compartido, así que no compiten entre sí por la misma fila.
+ * La compactación suma los deltas en el agregado y los borra.</p>
+ */
+@Entity
+@Table(name = "rollup_semillas_delta")
+public class RollupSemillaDelta {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "tipo_semilla", nullable = false)
+    private String tipoSemilla;
+
+    @Column(name = "dia", nullable = false)
+    private LocalDate dia;
+
+    @Column(name = "bin_germinacion", nullable = false)
+    private int binGerminacion;
+
+    @Column(name = "cantidad", nullable = false)
+    private long cantidad;
+
+    @Column(name = "stock_total", nullable = false)
+    private long stockTotal;
+
+    @Column(name = "valor_stock", nullable = false)
+    private double valorStock;
+
+    @Column(name = "suma_germinacion", nullable = false)
+    private double sumaGerminacion;
+
+    public RollupSemillaDelta() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTipoSemilla() {
+        return tipoSemilla;
+    }
+
+    public LocalDate getDia() {
+        return dia;
+    }
+
+    public int getBinGerminacion() {
+        return binGerminacion;
+    }
+
+    public long getCantidad() {
+        return cantidad;
+    }
+
+    public long getStockTotal() {
+        return stockTotal;
+    }
+
+    public double getValorStock() {
+        return valorStock;
+    }
+
+    public double getSumaGerminacion() {
+        return sumaGerminacion;
+    }
+}
@@ -1,6 +1,7 @@
 package com.unibague.inventario.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDateTime;
 
 /**
@@ -8,9 +9,12 @@ import java.time.LocalDateTime;
  *
  * <p>Cada semilla posee un código único, un conjunto de atributos
  * primitivos y una referencia al proveedor asociado mediante una
- * relación ManyToOne. La tabla asociada es {@code semillas}.</p>
+ * relación ManyToOne. La tabla asociada es {@code semillas}; sus índices
+ * se crean en {@code db/migration/V2__indices.sql} y
+ * {@code V3__indices_desc.sql}.</p>
  */
 @Entity
+@DynamicUpdate
 @Table(name = "semillas")
 public class Semilla {
 
@@ -40,6 +44,11 @@ public class Semilla {
     @JoinColumn(name = "proveedor_nit", nullable = false)
     private Proveedor proveedor;
 
+    /** Versión para control de concurrencia optimista; la incrementa cada UPDATE. */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     public Semilla() {
     }
 
@@ -119,4 +128,12 @@ public class Semilla {
     public void setProveedor(Proveedor proveedor) {
         this.proveedor = proveedor;
     }
-}
\ No newline at end of file
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
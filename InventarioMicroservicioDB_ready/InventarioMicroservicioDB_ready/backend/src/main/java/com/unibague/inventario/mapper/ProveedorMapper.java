@@ -3,6 +3,7 @@ package com.unibague.inventario.mapper;
 import com.unibague.inventario.dto.ProveedorRequest;
 import com.unibague.inventario.dto.ProveedorResponse;
 import com.unibague.inventario.entity.Proveedor;
+import com.unibague.inventario.entity.ResumenProveedor;
 
 public final class ProveedorMapper {
 
@@ -34,7 +35,7 @@ public final class ProveedorMapper {
     public static ProveedorResponse toResponse(Proveedor e){
         if (e == null) return null;
         String fecha = (e.getFechaRegistro() != null) ? e.getFechaRegistro().toString() : null;
-        return new ProveedorResponse(
+        ProveedorResponse r = new ProveedorResponse(
                 e.getNit(),
                 e.getNombre(),
                 e.getCiudad(),
@@ -42,5 +43,18 @@ public final class ProveedorMapper {
                 fecha,            // String ISO-8601
                 e.isActivo()
         );
+        r.setVersion(e.getVersion());
+        return r;
+    }
+
+    /** Respuesta con los totales de inventario; sin resumen se informan en cero. */
+    public static ProveedorResponse toResponse(Proveedor e, ResumenProveedor resumen){
+        ProveedorResponse r = toResponse(e);
+        if (r == null) return null;
+        r.setCantidadSemillas(resumen != null ? resumen.getCantidadSemillas() : 0L);
+        r.setStockTotal(resumen != null ? resumen.getStockTotal() : 0L);
+        r.setValorStock(resumen != null ? resumen.getValorStock() : 0.0);
+        r.setGerminacionPromedio(resumen != null ? resumen.getGerminacionPromedio() : null);
+        return r;
     }
 }
@@ -40,7 +40,7 @@ public final class SemillaMapper {
         if (e == null) return null;
         String fecha = (e.getFechaIngreso() != null) ? e.getFechaIngreso().toString() : null;
         String nit = (e.getProveedor() != null) ? e.getProveedor().getNit() : null;
-        return new SemillaResponse(
+        SemillaResponse r = new SemillaResponse(
                 e.getCodigo(),
                 e.getNombre(),
                 e.getPrecio(),
@@ -50,5 +50,23 @@ public final class SemillaMapper {
                 nit,
                 fecha            // String ISO-8601
         );
+        r.setVersion(e.getVersion());
+        return r;
+    }
+
+    /** Copia de una respuesta con otro valor de stock (la original puede estar cacheada). */
+    public static SemillaResponse withStock(SemillaResponse o, int stock){
+        SemillaResponse r = new SemillaResponse(
+                o.getCodigo(),
+                o.getNombre(),
+                o.getPrecio(),
+                stock,
+                o.getTipoSemilla(),
+                o.getPorcentajeGerminacion(),
+                o.getProveedorNit(),
+                o.getFechaIngreso()
+        );
+        r.setVersion(o.getVersion());
+        return r;
     }
 }
@@ -0,0 +1,27 @@
+package com.unibague.inventario.repository;
+
+/**
+ * Comprobación del motor para las consultas nativas que usan sintaxis
+ * propia de H2 ({@code FINAL TABLE}, {@code OLD TABLE}).
+ *
+ * <p>Se invoca al construir los servicios que dependen de ellas: con otra
+ * base la aplicación falla al arrancar, no en la primera petición.</p>
+ */
+public final class H2Sql {
+
+    /** Prefijo de las URL JDBC de H2. */
+    public static final String JDBC_H2 = "jdbc:h2:";
+
+    private H2Sql() {}
+
+    /**
+     * @param jdbcUrl valor de {@code spring.datasource.url}
+     * @param uso     quién lo exige, para el mensaje de error
+     * @throws IllegalStateException si la URL no es de H2
+     */
+    public static void requireH2(String jdbcUrl, String uso) {
+        if (jdbcUrl == null || !jdbcUrl.startsWith(JDBC_H2)) {
+            throw new IllegalStateException(uso + " solo admite H2: " + jdbcUrl);
+        }
+    }
+}
@@ -1,23 +1,63 @@
 package com.unibague.inventario.repository;
 
+import com.unibague.inventario.domain.TextoNormalizado;
 import com.unibague.inventario.entity.Proveedor;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
-public interface ProveedorRepository extends JpaRepository<Proveedor, String> {
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
 
-    // Derived ya existentes / útiles
-    List<Proveedor> findByNombreContainingIgnoreCase(String nombre);
-    List<Proveedor> findByCiudad(String ciudad);
-    List<Proveedor> findByCiudadAndActivo(String ciudad, boolean activo);
+public interface ProveedorRepository extends JpaRepository<Proveedor, String>,
+                                             JpaSpecificationExecutor<Proveedor> {
+
+    // Derived ya existentes / útiles. Los filtros de texto comparan las
+    // columnas normalizadas: no distinguen mayúsculas ni tildes y usan índice.
+    default List<Proveedor> findByNombreContainingIgnoreCase(String nombre) {
+        return findByNombreNormContaining(TextoNormalizado.normalizar(nombre));
+    }
+
+    default List<Proveedor> findByCiudadAndActivo(String ciudad, boolean activo) {
+        return findByCiudadNormAndActivo(TextoNormalizado.normalizar(ciudad), activo);
+    }
+
+    List<Proveedor> findByNombreNormContaining(String nombreNorm);
+
+    // Consultas de catálogo en la caché de consultas de Hibernate; Hibernate
+    // invalida sus resultados cuando cambia la tabla proveedores.
+    default List<Proveedor> findByCiudad(String ciudad) {
+        return findByCiudadNorm(TextoNormalizado.normalizar(ciudad));
+    }
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    List<Proveedor> findByCiudadNorm(String ciudadNorm);
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<Proveedor> findByActivo(boolean activo);
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    List<Proveedor> findByCiudadNormAndActivo(String ciudadNorm, boolean activo);
+
+    // -------- Consulta personalizada (índice ciudad_norm, activo) --------
+    default List<Proveedor> buscarPorCiudadYActivo(String ciudad, boolean activo) {
+        return findByCiudadNormAndActivo(TextoNormalizado.normalizar(ciudad), activo);
+    }
+
+    // Resolución en bloque de NITs (una sola consulta IN por lote)
+    @Query("select p.nit from Proveedor p where p.nit in :nits")
+    List<String> findExistingNits(@Param("nits") Collection<String> nits);
+
+    // Borrado en una sola sentencia; devuelve 0 si el NIT no existe
+    @Modifying
+    @Query("delete from Proveedor p where p.nit = :nit")
+    int deleteByNit(@Param("nit") String nit);
 
-    // -------- Consulta personalizada --------
-    @Query("select p from Proveedor p " +
-           "where lower(p.ciudad) = lower(:ciudad) and p.activo = :activo")
-    List<Proveedor> buscarPorCiudadYActivo(@Param("ciudad") String ciudad,
-                                           @Param("activo") boolean activo);
+    // Borrado condicionado a la versión (If-Match)
+    @Modifying
+    @Query("delete from Proveedor p where p.nit = :nit and p.version = :version")
+    int deleteByNitAndVersion(@Param("nit") String nit, @Param("version") Long version);
 }
@@ -0,0 +1,30 @@
+package com.unibague.inventario.repository;
+
+import com.unibague.inventario.domain.TextoNormalizado;
+import com.unibague.inventario.entity.Proveedor;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Predicados reutilizables sobre {@link Proveedor} para construir consultas
+ * dinámicas con {@link org.springframework.data.jpa.repository.JpaSpecificationExecutor}.
+ *
+ * <p>Los filtros de texto comparan las columnas normalizadas con el valor
+ * normalizado de la misma forma ({@link TextoNormalizado}), así que no
+ * distinguen mayúsculas ni tildes y no envuelven la columna en funciones.</p>
+ */
+public final class ProveedorSpecifications {
+
+    private ProveedorSpecifications() {}
+
+    public static Specification<Proveedor> nombreContiene(String nombre) {
+        return (root, q, cb) -> cb.like(root.get("nombreNorm"), "%" + TextoNormalizado.normalizar(nombre) + "%");
+    }
+
+    public static Specification<Proveedor> ciudadIgual(String ciudad) {
+        return (root, q, cb) -> cb.equal(root.get("ciudadNorm"), TextoNormalizado.normalizar(ciudad));
+    }
+
+    public static Specification<Proveedor> activoIgual(boolean activo) {
+        return (root, q, cb) -> cb.equal(root.get("activo"), activo);
+    }
+}
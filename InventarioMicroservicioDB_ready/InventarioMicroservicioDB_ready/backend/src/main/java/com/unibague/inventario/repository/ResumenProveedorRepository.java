@@ -0,0 +1,82 @@
+package com.unibague.inventario.repository;
+
+import com.unibague.inventario.entity.ResumenProveedor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ResumenProveedorRepository extends JpaRepository<ResumenProveedor, String> {
+
+    // Delta de stock de una semilla aplicado al resumen de su proveedor
+    // (mismo orden de parámetros que el volcado de contadores en memoria)
+    String DELTA_STOCK_SQL =
+            "update resumen_proveedores set stock_total = stock_total + ?1, " +
+            "valor_stock = valor_stock + ?1 * (select s.precio from semillas s where s.codigo = ?2) " +
+            "where proveedor_nit = (select s.proveedor_nit from semillas s where s.codigo = ?2)";
+
+    // Suma los deltas en la fila del proveedor, sin leerla antes. Si la fila
+    // no existe (proveedor anterior al resumen, o borrada a mano) se crea con
+    // los totales recalculados desde semillas, que ya incluyen este cambio:
+    // un UPDATE solo perdería el delta sin avisar.
+    @Modifying
+    @Query(value = "merge into resumen_proveedores r " +
+                   "using (select cast(:nit as varchar(20)) as nit) k on r.proveedor_nit = k.nit " +
+                   "when matched then update set " +
+                   "cantidad_semillas = r.cantidad_semillas + :cantidad, " +
+                   "stock_total = r.stock_total + :stock, " +
+                   "valor_stock = r.valor_stock + :valor, " +
+                   "suma_germinacion = r.suma_germinacion + :germinacion " +
+                   "when not matched then insert " +
+                   "(proveedor_nit, cantidad_semillas, stock_total, valor_stock, suma_germinacion) values (k.nit, " +
+                   "(select count(*) from semillas s where s.proveedor_nit = k.nit), " +
+                   "(select coalesce(sum(s.stock), 0) from semillas s where s.proveedor_nit = k.nit), " +
+                   "(select coalesce(sum(s.precio * s.stock), 0) from semillas s where s.proveedor_nit = k.nit), " +
+                   "(select coalesce(sum(s.porcentaje_germinacion), 0) from semillas s where s.proveedor_nit = k.nit))",
+           nativeQuery = true)
+    int aplicarDelta(@Param("nit") String nit,
+                     @Param("cantidad") long cantidad,
+                     @Param("stock") long stock,
+                     @Param("valor") double valor,
+                     @Param("germinacion") double germinacion);
+
+    @Modifying
+    @Query(value = DELTA_STOCK_SQL, nativeQuery = true)
+    int aplicarDeltaStock(int delta, String codigo);
+
+    @Modifying
+    @Query("delete from ResumenProveedor r where r.proveedorNit = :nit")
+    int deleteByProveedorNit(@Param("nit") String nit);
+
+    // Recalcula todos los resúmenes desde semillas (reparación / arranque)
+    @Modifying
+    @Query(value = "merge into resumen_proveedores " +
+                   "(proveedor_nit, cantidad_semillas, stock_total, valor_stock, suma_germinacion) " +
+                   "key (proveedor_nit) " +
+                   "select p.nit, count(s.codigo), coalesce(sum(s.stock), 0), " +
+                   "coalesce(sum(s.precio * s.stock), 0), coalesce(sum(s.porcentaje_germinacion), 0) " +
+                   "from proveedores p left join semillas s on s.proveedor_nit = p.nit " +
+                   "group by p.nit",
+           nativeQuery = true)
+    int reconstruir();
+
+    @Modifying
+    @Query(value = "delete from resumen_proveedores r " +
+                   "where not exists (select 1 from proveedores p where p.nit = r.proveedor_nit)",
+           nativeQuery = true)
+    int eliminarHuerfanos();
+
+    // Proveedores cuyo resumen no coincide con sus semillas (o no lo tienen)
+    @Query(value = "select count(*) from proveedores p " +
+                   "left join resumen_proveedores r on r.proveedor_nit = p.nit " +
+                   "left join (select proveedor_nit, count(*) c, sum(stock) st, " +
+                   "sum(precio * stock) v, sum(porcentaje_germinacion) g " +
+                   "from semillas group by proveedor_nit) a on a.proveedor_nit = p.nit " +
+                   "where r.proveedor_nit is null " +
+                   "or r.cantidad_semillas <> coalesce(a.c, 0) " +
+                   "or r.stock_total <> coalesce(a.st, 0) " +
+                   "or abs(r.valor_stock - coalesce(a.v, 0)) > 0.01 " +
+                   "or abs(r.suma_germinacion - coalesce(a.g, 0)) > 0.01",
+           nativeQuery = true)
+    long contarDesviaciones();
+}
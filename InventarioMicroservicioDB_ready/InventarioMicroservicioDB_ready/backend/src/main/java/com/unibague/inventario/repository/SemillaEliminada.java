@@ -0,0 +1,16 @@
+package com.unibague.inventario.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Valores de una semilla recién borrada que se restan del resumen de su
+ * proveedor y de los agregados por tipo (proyección de {@code OLD TABLE}).
+ */
+public interface SemillaEliminada {
+    String getProveedorNit();
+    int getStock();
+    double getPrecio();
+    double getGerminacion();
+    String getTipoSemilla();
+    LocalDateTime getFechaIngreso();
+}
@@ -1,15 +1,31 @@
 package com.unibague.inventario.repository;
 
 import com.unibague.inventario.entity.Semilla;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface SemillaRepository extends JpaRepository<Semilla, String> {
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+public interface SemillaRepository extends JpaRepository<Semilla, String>,
+                                           JpaSpecificationExecutor<Semilla> {
 
     // Derived ya existente
     List<Semilla> findByTipoSemilla(String tipoSemilla);
@@ -31,4 +47,81 @@ public interface SemillaRepository extends JpaRepository<Semilla, String> {
            "where s.proveedor.nit = :nit " +
            "order by s.fechaIngreso desc")
     List<Semilla> findTopByProveedor(@Param("nit") String nit, Pageable pageable);
+
+    // Últimas N semillas de varios proveedores en una sola consulta: ROW_NUMBER
+    // por proveedor sobre el índice (proveedor_nit, fecha_ingreso).
+    String TOP_N_COLUMNS = "select codigo, nombre, precio, stock, tipo_semilla, porcentaje_germinacion, " +
+                           "fecha_ingreso, proveedor_nit, version from (" +
+                           "select s.*, row_number() over (partition by s.proveedor_nit " +
+                           "order by s.fecha_ingreso desc, s.codigo desc) as rn from semillas s ";
+
+    @Query(value = TOP_N_COLUMNS +
+                   "where s.proveedor_nit in (:nits)) t " +
+                   "where t.rn <= :n order by t.proveedor_nit, t.rn",
+           nativeQuery = true)
+    List<Semilla> findTopNByProveedores(@Param("nits") Collection<String> nits, @Param("n") int n);
+
+    @Query(value = TOP_N_COLUMNS +
+                   "where s.proveedor_nit in (select p.nit from proveedores p where p.activo = true)) t " +
+                   "where t.rn <= :n order by t.proveedor_nit, t.rn",
+           nativeQuery = true)
+    List<Semilla> findTopNByProveedoresActivos(@Param("n") int n);
+
+    // Exportación completa: cursor de solo avance, sin snapshots de entidades.
+    // Debe consumirse dentro de una transacción y cerrarse al terminar.
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    @Query("select s from Semilla s order by s.codigo")
+    Stream<Semilla> streamAll();
+
+    // Códigos ya registrados dentro de un lote (una sola consulta IN)
+    @Query("select s.codigo from Semilla s where s.codigo in :codigos")
+    List<String> findExistingCodigos(@Param("codigos") Collection<String> codigos);
+
+    // Borrado en una sola sentencia; OLD TABLE (H2) devuelve la fila borrada
+    // para descontarla del resumen. Vacío si el código no existe.
+    //
+    // Estas sentencias modifican datos pero NO llevan @Modifying a propósito:
+    // para JPA son un SELECT sobre OLD/FINAL TABLE y se ejecutan con
+    // getResultList; @Modifying las lanzaría con executeUpdate y se perdería
+    // la fila devuelta. A cambio exigen una transacción de escritura abierta
+    // por el servicio (MANDATORY) y solo funcionan en H2: los servicios que
+    // las usan lo comprueban al arrancar con H2Sql.requireH2.
+    String ELIMINADA_COLUMNS = "select proveedor_nit as \"proveedorNit\", stock as \"stock\", " +
+                               "precio as \"precio\", porcentaje_germinacion as \"germinacion\", " +
+                               "tipo_semilla as \"tipoSemilla\", fecha_ingreso as \"fechaIngreso\" from old table (";
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Query(value = ELIMINADA_COLUMNS + "delete from semillas where codigo = :codigo)",
+           nativeQuery = true)
+    Optional<SemillaEliminada> deleteByCodigo(@Param("codigo") String codigo);
+
+    // Borrado condicionado a la versión (If-Match)
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Query(value = ELIMINADA_COLUMNS + "delete from semillas where codigo = :codigo and version = :version)",
+           nativeQuery = true)
+    Optional<SemillaEliminada> deleteByCodigoAndVersion(@Param("codigo") String codigo, @Param("version") Long version);
+
+    // Movimiento atómico de stock: un único UPDATE condicional que no deja la
+    // existencia en negativo; FINAL TABLE (H2) devuelve el valor resultante en
+    // la misma sentencia. Vacío si el código no existe o el stock no alcanza.
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Query(value = "select stock from final table (" +
+                   "update semillas set stock = stock + :delta, version = version + 1 " +
+                   "where codigo = :codigo and stock + :delta >= 0)",
+           nativeQuery = true)
+    Optional<Integer> ajustarStock(@Param("codigo") String codigo, @Param("delta") int delta);
+
+    // findById con la fila bloqueada hasta el final de la transacción: el PUT de
+    // un código con contador en memoria no debe cruzarse con su volcado
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from Semilla s where s.codigo = :codigo")
+    Optional<Semilla> findForUpdate(@Param("codigo") String codigo);
+
+    // Solo la columna stock (carga inicial de contadores en memoria)
+    @Query("select s.stock from Semilla s where s.codigo = :codigo")
+    Optional<Integer> findStockByCodigo(@Param("codigo") String codigo);
 }
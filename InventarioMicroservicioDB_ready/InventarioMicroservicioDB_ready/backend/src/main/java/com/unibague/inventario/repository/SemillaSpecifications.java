@@ -0,0 +1,36 @@
+package com.unibague.inventario.repository;
+
+import com.unibague.inventario.entity.Semilla;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Predicados reutilizables sobre {@link Semilla} para construir consultas
+ * dinámicas con {@link org.springframework.data.jpa.repository.JpaSpecificationExecutor}.
+ *
+ * <p>Los métodos de rango aceptan límites {@code null} (se omite ese extremo)
+ * para que los filtros opcionales se puedan encadenar sin ramas.</p>
+ */
+public final class SemillaSpecifications {
+
+    private SemillaSpecifications() {}
+
+    public static Specification<Semilla> tipoIgual(String tipo) {
+        return (root, q, cb) -> cb.equal(root.get("tipoSemilla"), tipo);
+    }
+
+    public static Specification<Semilla> proveedorIgual(String nit) {
+        // compara la FK directamente, sin join a proveedores
+        return (root, q, cb) -> cb.equal(root.get("proveedor").get("nit"), nit);
+    }
+
+    public static <T extends Comparable<? super T>> Specification<Semilla> rango(String atributo, T min, T max) {
+        if (min == null && max == null) {
+            return null;
+        }
+        return (root, q, cb) -> {
+            if (min != null && max != null) return cb.between(root.<T>get(atributo), min, max);
+            if (min != null) return cb.greaterThanOrEqualTo(root.<T>get(atributo), min);
+            return cb.lessThanOrEqualTo(root.<T>get(atributo), max);
+        };
+    }
+}
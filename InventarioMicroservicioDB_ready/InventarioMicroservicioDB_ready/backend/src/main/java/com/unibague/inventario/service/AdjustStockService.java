@@ -0,0 +1,71 @@
+package com.unibague.inventario.service;
+
+import com.unibague.inventario.config.CacheConfig;
+import com.unibague.inventario.domain.exception.SemillaNotFoundException;
+import com.unibague.inventario.domain.exception.StockInsuficienteException;
+import com.unibague.inventario.dto.StockResponse;
+import com.unibague.inventario.repository.H2Sql;
+import com.unibague.inventario.repository.ResumenProveedorRepository;
+import com.unibague.inventario.repository.SemillaRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Caso de uso para aplicar un movimiento (entrada o salida) al stock de una semilla.
+ */
+@Service
+public class AdjustStockService {
+
+    private final SemillaRepository semillaRepository;
+    private final HotStockCounters hotCounters;
+    private final ResumenProveedorRepository resumenRepository;
+    private final SemillasRollup rollup;
+    private final TableVersions tableVersions;
+
+    public AdjustStockService(@Value("${spring.datasource.url}") String jdbcUrl,
+                              SemillaRepository semillaRepository,
+                              HotStockCounters hotCounters,
+                              ResumenProveedorRepository resumenRepository,
+                              SemillasRollup rollup,
+                              TableVersions tableVersions) {
+        H2Sql.requireH2(jdbcUrl, "AdjustStockService (FINAL TABLE)");
+        this.semillaRepository = semillaRepository;
+        this.hotCounters = hotCounters;
+        this.resumenRepository = resumenRepository;
+        this.rollup = rollup;
+        this.tableVersions = tableVersions;
+    }
+
+    /**
+     * Suma {@code delta} al stock en una sola sentencia, sin leer antes la fila,
+     * de modo que movimientos concurrentes no se pisan entre sí. Los códigos
+     * configurados como calientes se resuelven en memoria
+     * ({@link HotStockCounters}) y se vuelcan a la BD por lotes.
+     *
+     * @param codigo código de la semilla
+     * @param delta  movimiento con signo
+     * @return stock resultante
+     */
+    @Transactional
+    // Los códigos calientes no se invalidan: GetSemillaService superpone su stock en memoria
+    @CacheEvict(cacheNames = CacheConfig.SEMILLAS, key = "#codigo", condition = "!@hotStockCounters.isHot(#codigo)")
+    public StockResponse adjust(String codigo, int delta) {
+        if (hotCounters.isHot(codigo)) {
+            StockResponse r = new StockResponse(codigo, hotCounters.apply(codigo, delta));
+            // Los listados muestran el stock en memoria: su ETag debe cambiar ya
+            tableVersions.touch(TableVersions.SEMILLAS);
+            return r;
+        }
+        StockResponse r = semillaRepository.ajustarStock(codigo, delta)
+                .map(stock -> new StockResponse(codigo, stock))
+                .orElseThrow(() -> semillaRepository.existsById(codigo)
+                        ? new StockInsuficienteException(codigo, delta)
+                        : new SemillaNotFoundException(codigo));
+        resumenRepository.aplicarDeltaStock(delta, codigo);
+        rollup.registrarStock(codigo, delta);
+        tableVersions.touch(TableVersions.SEMILLAS);
+        return r;
+    }
+}
@@ -0,0 +1,193 @@
+package com.unibague.inventario.service;
+
+import com.unibague.inventario.dto.SemillaRollupResponse;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Caso de uso para los informes agregados de semillas por tipo y por día,
+ * semana o mes de ingreso.
+ *
+ * <p>Se responde desde los agregados de {@link SemillasRollup} (más los
+ * deltas aún sin compactar), así que el coste depende del número de grupos
+ * y no del número de semillas.</p>
+ */
+@Service
+public class AnalyticsSemillasService {
+
+    /** Agrupaciones admitidas; como mucho una de periodo. */
+    public enum Agrupacion { TIPO, DIA, SEMANA, MES }
+
+    private static final String FUENTE =
+            "(select tipo_semilla, dia, bin_germinacion, cantidad, stock_total, valor_stock, suma_germinacion " +
+            "from rollup_semillas union all " +
+            "select tipo_semilla, dia, bin_germinacion, cantidad, stock_total, valor_stock, suma_germinacion " +
+            "from rollup_semillas_delta) x";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AnalyticsSemillasService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Calcula los totales por grupo.
+     *
+     * @param agrupar lista separada por comas de {@code tipo}, {@code dia},
+     *                {@code semana} o {@code mes} (por defecto {@code tipo})
+     * @param tipo    filtro opcional por tipo de semilla
+     * @param desde   primer día incluido (yyyy-MM-dd), opcional
+     * @param hasta   último día incluido (yyyy-MM-dd), opcional
+     * @return un elemento por grupo no vacío, ordenados por tipo y periodo
+     */
+    @Transactional(readOnly = true)
+    public List<SemillaRollupResponse> resumen(String agrupar, String tipo, String desde, String hasta) {
+        Set<Agrupacion> grupos = parseAgrupacion(agrupar);
+        String tipoExpr = grupos.contains(Agrupacion.TIPO) ? "tipo_semilla" : "cast(null as varchar)";
+        String periodoExpr = periodo(grupos);
+
+        StringBuilder sql = new StringBuilder()
+                .append("select ").append(tipoExpr).append(" t, ").append(periodoExpr).append(" p, bin_germinacion, ")
+                .append("sum(cantidad), sum(stock_total), sum(valor_stock), sum(suma_germinacion) from ")
+                .append(FUENTE).append(" where 1 = 1");
+        List<Object> args = new ArrayList<>();
+        if (tipo != null && !tipo.isBlank()) {
+            sql.append(" and tipo_semilla = ?");
+            args.add(tipo.trim());
+        }
+        LocalDate d = parseDia("desde", desde);
+        if (d != null) {
+            sql.append(" and dia >= ?");
+            args.add(Date.valueOf(d));
+        }
+        LocalDate h = parseDia("hasta", hasta);
+        if (h != null) {
+            sql.append(" and dia <= ?");
+            args.add(Date.valueOf(h));
+        }
+        sql.append(" group by t, p, bin_germinacion order by t, p, bin_germinacion");
+
+        List<SemillaRollupResponse> out = new ArrayList<>();
+        Grupo[] actual = {null};
+        jdbcTemplate.query(sql.toString(), rs -> {
+            String t = rs.getString(1);
+            Date p = rs.getDate(2);
+            String periodo = (p != null) ? p.toLocalDate().toString() : null;
+            if (actual[0] == null || !actual[0].es(t, periodo)) {
+                if (actual[0] != null) actual[0].cerrar(out);
+                actual[0] = new Grupo(t, periodo);
+            }
+            actual[0].sumar(rs.getInt(3), rs.getLong(4), rs.getLong(5), rs.getDouble(6), rs.getDouble(7));
+        }, args.toArray());
+        if (actual[0] != null) actual[0].cerrar(out);
+        return out;
+    }
+
+    private static String periodo(Set<Agrupacion> grupos) {
+        if (grupos.contains(Agrupacion.DIA)) return "dia";
+        if (grupos.contains(Agrupacion.SEMANA)) return "dateadd(day, 1 - iso_day_of_week(dia), dia)";
+        if (grupos.contains(Agrupacion.MES)) return "dateadd(day, 1 - day_of_month(dia), dia)";
+        return "cast(null as date)";
+    }
+
+    private static Set<Agrupacion> parseAgrupacion(String agrupar) {
+        Set<Agrupacion> grupos = new LinkedHashSet<>();
+        if (agrupar == null || agrupar.isBlank()) {
+            grupos.add(Agrupacion.TIPO);
+            return grupos;
+        }
+        for (String g : agrupar.split(",")) {
+            try {
+                grupos.add(Agrupacion.valueOf(g.trim().toUpperCase()));
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException("Agrupación no permitida: '" + g.trim()
+                        + "'. Valores válidos: tipo, dia, semana, mes");
+            }
+        }
+        long periodos = grupos.stream().filter(g -> g != Agrupacion.TIPO).count();
+        if (periodos > 1) {
+            throw new IllegalArgumentException("Solo se puede agrupar por un periodo (dia, semana o mes)");
+        }
+        return grupos;
+    }
+
+    private static LocalDate parseDia(String param, String v) {
+        if (v == null || v.isBlank()) return null;
+        try {
+            return LocalDate.parse(v.trim());
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Fecha inválida para '" + param
+                    + "' (formato esperado yyyy-MM-dd): " + v);
+        }
+    }
+
+    /** Acumulador de un grupo: totales e histograma de germinación. */
+    private static final class Grupo {
+        final String tipo;
+        final String periodo;
+        final long[] histograma = new long[SemillasRollup.BINS];
+        final double[] sumaPorTramo = new double[SemillasRollup.BINS];
+        long cantidad;
+        long stock;
+        double valor;
+        double sumaGerminacion;
+
+        Grupo(String tipo, String periodo) {
+            this.tipo = tipo;
+            this.periodo = periodo;
+        }
+
+        boolean es(String t, String p) {
+            return Objects.equals(tipo, t) && Objects.equals(periodo, p);
+        }
+
+        void sumar(int bin, long c, long s, double v, double g) {
+            histograma[bin] += c;
+            sumaPorTramo[bin] += g;
+            cantidad += c;
+            stock += s;
+            valor += v;
+            sumaGerminacion += g;
+        }
+
+        void cerrar(List<SemillaRollupResponse> out) {
+            if (cantidad <= 0) {
+                return;
+            }
+            out.add(new SemillaRollupResponse(tipo, periodo, cantidad, stock, valor,
+                    sumaGerminacion / cantidad,
+                    percentil(0.25), percentil(0.50), percentil(0.75), percentil(0.90)));
+        }
+
+        /**
+         * Percentil con la resolución de un tramo [bin, bin + 1): la media de
+         * las semillas del tramo donde cae el rango buscado. Siempre queda
+         * entre el mínimo y el máximo reales del tramo (una sola semilla con
+         * 80,0 da 80,0); interpolar dentro del tramo podía superar el valor
+         * máximo observado.
+         */
+        Double percentil(double q) {
+            double objetivo = q * cantidad;
+            long acumulado = 0;
+            for (int b = 0; b < histograma.length; b++) {
+                long n = histograma[b];
+                if (n > 0 && acumulado + n >= objetivo) {
+                    double media = sumaPorTramo[b] / n;
+                    return Math.max(b, Math.min(Math.min(100.0, b + 1), media));
+                }
+                acumulado += n;
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.unibague.inventario.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unibague.inventario.dto.ProveedorRequest;
+import com.unibague.inventario.dto.SemillaRequest;
+import com.unibague.inventario.entity.Proveedor;
+import com.unibague.inventario.entity.Semilla;
+import com.unibague.inventario.mapper.ProveedorMapper;
+import com.unibague.inventario.mapper.SemillaMapper;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Calentamiento antes de declarar la instancia lista.
+ *
+ * <p>Una JVM recién arrancada interpreta el código y carga clases en la
+ * primera petición que las usa, así que las primeras peticiones reales son
+ * mucho más lentas que las siguientes. Con
+ * {@code inventario.warmup.iterations > 0}, al terminar el arranque se
+ * recorren por HTTP los endpoints principales de lectura (listados, consulta
+ * por clave, sugerencias, analítica, top) y los POST con un cuerpo inválido,
+ * que pasan por Jackson, la validación y {@code RestExceptionHandler} sin
+ * escribir nada; además se pasan por los mappers solicitudes y respuestas de
+ * escritura. Todo ocurre dentro de {@link ApplicationReadyEvent}, antes de
+ * que {@code /actuator/health/readiness} pase a UP, de modo que el balanceador
+ * no envía tráfico a la instancia hasta que ha terminado.</p>
+ *
+ * <p>Se detiene al completar las iteraciones o al agotar
+ * {@code inventario.warmup.max-time}. Solo lee datos, así que no depende de
+ * que los demás procesos del arranque (resúmenes, agregados) hayan
+ * terminado. Se decide en tiempo de ejecución, no con una condición, para
+ * que un mismo artefacto AOT sirva con y sin calentamiento.</p>
+ */
+@Component
+public class Calentamiento {
+
+    private static final Logger log = LoggerFactory.getLogger(Calentamiento.class);
+
+    private static final String SEMILLA = """
+            {"codigo":"CAL-1","nombre":"Maíz de calentamiento","precio":1000.0,"stock":10,
+             "tipoSemilla":"Cereal","porcentajeGerminacion":90.0,"proveedorNit":"CAL-1",
+             "fechaIngreso":"2024-01-01T00:00:00"}""";
+    private static final String PROVEEDOR = """
+            {"nit":"CAL-1","nombre":"Proveedor de calentamiento","ciudad":"Ibagué",
+             "telefono":"3000000000","fechaRegistro":"2024-01-01T00:00:00","activo":true}""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int iteraciones;
+    private final Duration maximo;
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(2))
+            .build();
+
+    public Calentamiento(JdbcTemplate jdbcTemplate,
+                         ObjectMapper objectMapper,
+                         Validator validator,
+                         @Value("${inventario.warmup.iterations:0}") int iteraciones,
+                         @Value("${inventario.warmup.max-time:30s}") Duration maximo) {
+        if (iteraciones < 0) {
+            throw new IllegalArgumentException("inventario.warmup.iterations no puede ser negativo: " + iteraciones);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.iteraciones = iteraciones;
+        this.maximo = maximo;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void calentar(ApplicationReadyEvent event) {
+        if (iteraciones == 0) {
+            return;
+        }
+        List<HttpRequest> peticiones = event.getApplicationContext() instanceof WebServerApplicationContext web
+                ? peticiones("http://localhost:" + web.getWebServer().getPort())
+                : List.of();
+        long inicio = System.nanoTime();
+        long limite = inicio + maximo.toNanos();
+        int hechas = 0;
+        int fallidas = 0;
+        int i = 0;
+        for (; i < iteraciones && System.nanoTime() < limite; i++) {
+            for (HttpRequest req : peticiones) {
+                hechas++;
+                if (!enviar(req)) {
+                    fallidas++;
+                }
+            }
+            mapear();
+        }
+        long ms = (System.nanoTime() - inicio) / 1_000_000;
+        if (fallidas > 0) {
+            log.warn("Calentamiento: {} de {} peticiones fallaron", fallidas, hechas);
+        }
+        log.info("Calentamiento terminado: {} iteraciones, {} peticiones en {} ms", i, hechas, ms);
+    }
+
+    private List<HttpRequest> peticiones(String base) {
+        List<String> rutas = new ArrayList<>(List.of(
+                "/api/v1/semillas?limit=50",
+                "/api/v1/semillas?limit=50&count=true",
+                "/api/v1/semillas/sugerencias?q=ma",
+                "/api/v1/semillas/analytics?agrupar=tipo,mes",
+                "/api/v1/proveedores?limit=50",
+                "/api/v1/proveedores?activo=true&limit=20",
+                "/api/v1/proveedores/sugerencias?q=a",
+                "/api/v1/proveedores/top?n=5"));
+        List<Map<String, Object>> semilla = jdbcTemplate.queryForList(
+                "select codigo, tipo_semilla, proveedor_nit from semillas order by codigo fetch first 1 rows only");
+        if (!semilla.isEmpty()) {
+            Map<String, Object> s = semilla.get(0);
+            String nit = codificar(s.get("proveedor_nit"));
+            rutas.add("/api/v1/semillas/" + codificar(s.get("codigo")));
+            rutas.add("/api/v1/semillas?tipo=" + codificar(s.get("tipo_semilla")) + "&limit=20");
+            rutas.add("/api/v1/proveedores/" + nit);
+            rutas.add("/api/v1/proveedores/" + nit + "/top2");
+        }
+        List<HttpRequest> peticiones = new ArrayList<>();
+        for (String ruta : rutas) {
+            peticiones.add(HttpRequest.newBuilder(URI.create(base + ruta)).timeout(Duration.ofSeconds(5)).build());
+        }
+        // cuerpo vacío: falla la validación (400) antes de llegar al servicio
+        for (String ruta : List.of("/api/v1/semillas", "/api/v1/proveedores")) {
+            peticiones.add(HttpRequest.newBuilder(URI.create(base + ruta))
+                    .timeout(Duration.ofSeconds(5))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{}"))
+                    .build());
+        }
+        return peticiones;
+    }
+
+    private boolean enviar(HttpRequest req) {
+        try {
+            int status = http.send(req, HttpResponse.BodyHandlers.discarding()).statusCode();
+            return req.method().equals("POST") ? status == 400 : status < 400;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /** Ida y vuelta de una escritura sin tocar la base: JSON, validación, mappers y JSON. */
+    private void mapear() {
+        try {
+            ProveedorRequest pr = objectMapper.readValue(PROVEEDOR, ProveedorRequest.class);
+            SemillaRequest sr = objectMapper.readValue(SEMILLA, SemillaRequest.class);
+            validator.validate(pr);
+            validator.validate(sr);
+            Proveedor p = ProveedorMapper.toEntity(pr);
+            ProveedorMapper.updateEntity(p, pr);
+            Semilla s = SemillaMapper.toEntity(sr, p);
+            SemillaMapper.updateEntity(s, sr, p);
+            objectMapper.writeValueAsBytes(ProveedorMapper.toResponse(p, null));
+            objectMapper.writeValueAsBytes(SemillaMapper.withStock(SemillaMapper.toResponse(s), s.getStock() + 1));
+        } catch (IOException e) {
+            throw new IllegalStateException("El calentamiento no pudo leer su propia solicitud de ejemplo", e);
+        }
+    }
+
+    private static String codificar(Object valor) {
+        return URLEncoder.encode(String.valueOf(valor), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,41 @@
+package com.unibague.inventario.service;
+
+import java.sql.SQLException;
+
+/**
+ * Clasifica violaciones de restricciones de la base de datos a partir del
+ * SQLState estándar de la excepción JDBC que las originó.
+ *
+ * <p>Permite que los servicios inserten o actualicen directamente y
+ * traduzcan el error de la BD a la excepción de dominio, en lugar de
+ * consultar antes si la fila existe (una ida y vuelta extra y una carrera
+ * entre la consulta y la escritura).</p>
+ */
+final class ConstraintViolations {
+
+    private static final String UNIQUE = "23505";
+    private static final String FK_PARENT_MISSING = "23506";
+    private static final String FK_VIOLATION = "23503";
+
+    private ConstraintViolations() {}
+
+    /** Clave primaria o única duplicada. */
+    static boolean isUnique(Throwable ex) {
+        return UNIQUE.equals(sqlState(ex));
+    }
+
+    /** La fila referenciada por una clave foránea no existe (o aún tiene hijos). */
+    static boolean isForeignKey(Throwable ex) {
+        String state = sqlState(ex);
+        return FK_PARENT_MISSING.equals(state) || FK_VIOLATION.equals(state);
+    }
+
+    private static String sqlState(Throwable ex) {
+        for (Throwable t = ex; t != null; t = t.getCause()) {
+            if (t instanceof SQLException sql && sql.getSQLState() != null) {
+                return sql.getSQLState();
+            }
+        }
+        return null;
+    }
+}
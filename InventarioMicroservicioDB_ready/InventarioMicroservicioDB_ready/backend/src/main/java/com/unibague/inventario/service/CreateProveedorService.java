@@ -4,8 +4,10 @@ import com.unibague.inventario.domain.exception.ProveedorAlreadyExistsException;
 import com.unibague.inventario.dto.ProveedorRequest;
 import com.unibague.inventario.dto.ProveedorResponse;
 import com.unibague.inventario.entity.Proveedor;
+import com.unibague.inventario.entity.ResumenProveedor;
 import com.unibague.inventario.mapper.ProveedorMapper;
-import com.unibague.inventario.repository.ProveedorRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,27 +17,41 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class CreateProveedorService {
 
-    private final ProveedorRepository proveedorRepository;
+    private final EntityManager entityManager;
+    private final SearchNombresService searchService;
+    private final TableVersions tableVersions;
 
-    public CreateProveedorService(ProveedorRepository proveedorRepository) {
-        this.proveedorRepository = proveedorRepository;
+    public CreateProveedorService(EntityManager entityManager,
+                                  SearchNombresService searchService,
+                                  TableVersions tableVersions) {
+        this.entityManager = entityManager;
+        this.searchService = searchService;
+        this.tableVersions = tableVersions;
     }
 
     /**
-     * Crea un proveedor nuevo en la base de datos.
+     * Crea un proveedor nuevo en la base de datos con un único INSERT; un NIT
+     * repetido se detecta por la clave primaria.
      *
      * @param request DTO con los datos del proveedor
      * @return DTO de salida
      */
     @Transactional
     public ProveedorResponse create(ProveedorRequest request) {
-        // Verificar si ya existe un proveedor con el mismo NIT
-        if (proveedorRepository.existsById(request.getNit())) {
-            throw new ProveedorAlreadyExistsException(request.getNit());
-        }
-        // Convertir a entidad y guardar
         Proveedor proveedor = ProveedorMapper.toEntity(request);
-        proveedorRepository.save(proveedor);
+        try {
+            entityManager.persist(proveedor);
+            entityManager.flush();
+        } catch (PersistenceException ex) {
+            if (ConstraintViolations.isUnique(ex)) {
+                throw new ProveedorAlreadyExistsException(request.getNit());
+            }
+            throw ex;
+        }
+        // Resumen en cero: las semillas lo irán actualizando con deltas
+        entityManager.persist(new ResumenProveedor(proveedor.getNit()));
+        searchService.proveedorGuardado(proveedor.getNit(), proveedor.getNombre());
+        tableVersions.touch(TableVersions.PROVEEDORES);
         return ProveedorMapper.toResponse(proveedor);
     }
-}
\ No newline at end of file
+}
@@ -8,43 +8,74 @@ import com.unibague.inventario.entity.Proveedor;
 import com.unibague.inventario.entity.Semilla;
 import com.unibague.inventario.mapper.SemillaMapper;
 import com.unibague.inventario.repository.ProveedorRepository;
-import com.unibague.inventario.repository.SemillaRepository;
+import com.unibague.inventario.repository.ResumenProveedorRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 /**
  * Servicio de caso de uso para crear una nueva semilla.
  */
 @Service
 public class CreateSemillaService {
 
-    private final SemillaRepository semillaRepository;
     private final ProveedorRepository proveedorRepository;
+    private final EntityManager entityManager;
+    private final ResumenProveedorRepository resumenRepository;
+    private final SemillasRollup rollup;
+    private final SearchNombresService searchService;
+    private final TableVersions tableVersions;
 
-    public CreateSemillaService(SemillaRepository semillaRepository,
-                                ProveedorRepository proveedorRepository) {
-        this.semillaRepository = semillaRepository;
+    public CreateSemillaService(ProveedorRepository proveedorRepository,
+                                EntityManager entityManager,
+                                ResumenProveedorRepository resumenRepository,
+                                SemillasRollup rollup,
+                                SearchNombresService searchService,
+                                TableVersions tableVersions) {
         this.proveedorRepository = proveedorRepository;
+        this.entityManager = entityManager;
+        this.resumenRepository = resumenRepository;
+        this.rollup = rollup;
+        this.searchService = searchService;
+        this.tableVersions = tableVersions;
     }
 
     /**
-     * Crea una nueva semilla en la base de datos.
+     * Crea una nueva semilla en la base de datos con un único INSERT.
+     *
+     * <p>No se consulta antes si el código o el proveedor existen: la clave
+     * primaria y la clave foránea lo garantizan y su violación se traduce a
+     * {@link SemillaAlreadyExistsException} (409) o
+     * {@link ProveedorNotFoundException} (404).</p>
      *
      * @param request DTO con los datos de la semilla
      * @return DTO de salida
      */
     @Transactional
     public SemillaResponse create(SemillaRequest request) {
-        // Validar existencia previa
-        if (semillaRepository.existsById(request.getCodigo())) {
-            throw new SemillaAlreadyExistsException(request.getCodigo());
-        }
-        // Buscar proveedor
-        Proveedor proveedor = proveedorRepository.findById(request.getProveedorNit())
-                .orElseThrow(() -> new ProveedorNotFoundException(request.getProveedorNit()));
-        // Convertir a entidad y guardar
+        // Referencia al proveedor sin SELECT: solo se necesita la FK
+        Proveedor proveedor = proveedorRepository.getReferenceById(request.getProveedorNit());
         Semilla semilla = SemillaMapper.toEntity(request, proveedor);
-        semillaRepository.save(semilla);
+        try {
+            entityManager.persist(semilla);
+            entityManager.flush();
+        } catch (PersistenceException ex) {
+            if (ConstraintViolations.isUnique(ex)) {
+                throw new SemillaAlreadyExistsException(request.getCodigo());
+            }
+            if (ConstraintViolations.isForeignKey(ex)) {
+                throw new ProveedorNotFoundException(request.getProveedorNit());
+            }
+            throw ex;
+        }
+        resumenRepository.aplicarDelta(request.getProveedorNit(), 1, semilla.getStock(),
+                semilla.getPrecio() * semilla.getStock(), semilla.getPorcentajeGerminacion());
+        rollup.registrar(List.of(SemillasRollup.Aporte.de(semilla, 1)));
+        searchService.semillaGuardada(semilla.getCodigo(), semilla.getNombre());
+        tableVersions.touch(TableVersions.SEMILLAS);
         return SemillaMapper.toResponse(semilla);
     }
-}
\ No newline at end of file
+}
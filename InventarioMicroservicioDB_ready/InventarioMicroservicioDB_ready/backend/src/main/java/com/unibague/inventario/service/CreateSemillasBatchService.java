@@ -0,0 +1,239 @@
+package com.unibague.inventario.service;
+
+import com.unibague.inventario.dto.SemillaBatchItem;
+import com.unibague.inventario.dto.SemillaBatchItem.Estado;
+import com.unibague.inventario.dto.SemillaBatchResponse;
+import com.unibague.inventario.dto.SemillaRequest;
+import com.unibague.inventario.entity.Proveedor;
+import com.unibague.inventario.entity.Semilla;
+import com.unibague.inventario.mapper.SemillaMapper;
+import com.unibague.inventario.repository.ProveedorRepository;
+import com.unibague.inventario.repository.ResumenProveedorRepository;
+import com.unibague.inventario.repository.SemillaRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Caso de uso para crear muchas semillas en una sola petición.
+ *
+ * <p>Los NIT de proveedor y los códigos existentes se resuelven con una
+ * consulta IN por bloque, y las filas válidas se insertan con
+ * {@code persist} en transacciones de {@value #CHUNK} filas que Hibernate
+ * envía como lotes JDBC (ver {@code hibernate.jdbc.batch_size}). Una fila
+ * incorrecta no aborta la carga: se informa en el resultado.</p>
+ */
+@Service
+public class CreateSemillasBatchService {
+
+    /** Filas por transacción / por consulta IN. */
+    static final int CHUNK = 500;
+
+    /** Tamaño máximo aceptado por petición. */
+    static final int MAX_ROWS = 100_000;
+
+    private final SemillaRepository semillaRepository;
+    private final ProveedorRepository proveedorRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate tx;
+    private final Validator validator;
+    private final ResumenProveedorRepository resumenRepository;
+    private final SemillasRollup rollup;
+    private final SearchNombresService searchService;
+    private final TableVersions tableVersions;
+
+    public CreateSemillasBatchService(SemillaRepository semillaRepository,
+                                      ProveedorRepository proveedorRepository,
+                                      EntityManager entityManager,
+                                      PlatformTransactionManager transactionManager,
+                                      Validator validator,
+                                      ResumenProveedorRepository resumenRepository,
+                                      SemillasRollup rollup,
+                                      SearchNombresService searchService,
+                                      TableVersions tableVersions) {
+        this.semillaRepository = semillaRepository;
+        this.proveedorRepository = proveedorRepository;
+        this.entityManager = entityManager;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.resumenRepository = resumenRepository;
+        this.rollup = rollup;
+        this.searchService = searchService;
+        this.tableVersions = tableVersions;
+    }
+
+    /**
+     * Crea las semillas recibidas y devuelve el estado de cada fila.
+     *
+     * @param requests filas a crear
+     * @return informe por fila y totales
+     */
+    public SemillaBatchResponse createAll(List<SemillaRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("El lote de semillas está vacío");
+        }
+        if (requests.size() > MAX_ROWS) {
+            throw new IllegalArgumentException("El lote supera el máximo de " + MAX_ROWS + " filas");
+        }
+
+        SemillaBatchItem[] resultados = new SemillaBatchItem[requests.size()];
+        Set<String> vistos = new HashSet<>();
+
+        for (int from = 0; from < requests.size(); from += CHUNK) {
+            int to = Math.min(from + CHUNK, requests.size());
+            procesarBloque(requests, from, to, vistos, resultados);
+        }
+
+        List<SemillaBatchItem> lista = List.of(resultados);
+        return new SemillaBatchResponse(
+                lista.size(),
+                contar(lista, Estado.CREATED),
+                contar(lista, Estado.DUPLICATE),
+                contar(lista, Estado.UNKNOWN_PROVEEDOR),
+                contar(lista, Estado.INVALID),
+                lista
+        );
+    }
+
+    private void procesarBloque(List<SemillaRequest> requests, int from, int to,
+                                Set<String> vistos, SemillaBatchItem[] resultados) {
+        // 1) Validación de cada fila y duplicados dentro del propio lote
+        List<Integer> candidatas = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            SemillaRequest r = requests.get(i);
+            String error = validar(r);
+            if (error != null) {
+                resultados[i] = new SemillaBatchItem(i, r != null ? r.getCodigo() : null, Estado.INVALID, error);
+            } else if (!vistos.add(r.getCodigo())) {
+                resultados[i] = new SemillaBatchItem(i, r.getCodigo(), Estado.DUPLICATE, "Código repetido en el lote");
+            } else {
+                candidatas.add(i);
+            }
+        }
+        if (candidatas.isEmpty()) {
+            return;
+        }
+
+        // 2) Una consulta IN para códigos existentes y otra para NITs conocidos
+        Set<String> codigos = candidatas.stream().map(i -> requests.get(i).getCodigo())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Set<String> nits = candidatas.stream().map(i -> requests.get(i).getProveedorNit())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Set<String> existentes = new HashSet<>(semillaRepository.findExistingCodigos(codigos));
+        Set<String> nitsConocidos = new HashSet<>(proveedorRepository.findExistingNits(nits));
+
+        List<Integer> insertar = new ArrayList<>();
+        for (int i : candidatas) {
+            SemillaRequest r = requests.get(i);
+            if (existentes.contains(r.getCodigo())) {
+                resultados[i] = new SemillaBatchItem(i, r.getCodigo(), Estado.DUPLICATE,
+                        "Ya existe una semilla con código '" + r.getCodigo() + "'");
+            } else if (!nitsConocidos.contains(r.getProveedorNit())) {
+                resultados[i] = new SemillaBatchItem(i, r.getCodigo(), Estado.UNKNOWN_PROVEEDOR,
+                        "Proveedor no encontrado: " + r.getProveedorNit());
+            } else {
+                insertar.add(i);
+            }
+        }
+
+        // 3) Inserción del bloque en una transacción; si otro cliente insertó
+        //    o borró un proveedor entre la consulta y el INSERT, se reintenta
+        //    fila a fila y cada fallo se clasifica por su SQLState.
+        try {
+            insertar(requests, insertar);
+            for (int i : insertar) {
+                resultados[i] = new SemillaBatchItem(i, requests.get(i).getCodigo(), Estado.CREATED, null);
+            }
+        } catch (DataIntegrityViolationException | PersistenceException ex) {
+            for (int i : insertar) {
+                String codigo = requests.get(i).getCodigo();
+                try {
+                    insertar(requests, List.of(i));
+                    resultados[i] = new SemillaBatchItem(i, codigo, Estado.CREATED, null);
+                } catch (DataIntegrityViolationException | PersistenceException fila) {
+                    resultados[i] = clasificar(i, requests.get(i), fila);
+                }
+            }
+        }
+    }
+
+    /**
+     * Traduce el fallo de una fila, igual que {@link CreateSemillaService}:
+     * clave duplicada o proveedor inexistente. Cualquier otro error no es
+     * culpa de la fila y se propaga.
+     */
+    private static SemillaBatchItem clasificar(int i, SemillaRequest r, RuntimeException ex) {
+        if (ConstraintViolations.isUnique(ex)) {
+            return new SemillaBatchItem(i, r.getCodigo(), Estado.DUPLICATE,
+                    "Ya existe una semilla con código '" + r.getCodigo() + "'");
+        }
+        if (ConstraintViolations.isForeignKey(ex)) {
+            return new SemillaBatchItem(i, r.getCodigo(), Estado.UNKNOWN_PROVEEDOR,
+                    "Proveedor no encontrado: " + r.getProveedorNit());
+        }
+        throw ex;
+    }
+
+    private void insertar(List<SemillaRequest> requests, List<Integer> indices) {
+        if (indices.isEmpty()) {
+            return;
+        }
+        tx.executeWithoutResult(status -> {
+            Map<String, double[]> resumen = new HashMap<>();
+            List<SemillasRollup.Aporte> aportes = new ArrayList<>(indices.size());
+            for (int i : indices) {
+                SemillaRequest r = requests.get(i);
+                // Referencia sin SELECT: solo se necesita la FK
+                Proveedor ref = entityManager.getReference(Proveedor.class, r.getProveedorNit());
+                Semilla s = SemillaMapper.toEntity(r, ref);
+                entityManager.persist(s);
+                // cantidad, stock, valor y germinación acumulados por proveedor
+                double[] acc = resumen.computeIfAbsent(r.getProveedorNit(), k -> new double[4]);
+                acc[0] += 1;
+                acc[1] += s.getStock();
+                acc[2] += s.getPrecio() * s.getStock();
+                acc[3] += s.getPorcentajeGerminacion();
+                aportes.add(SemillasRollup.Aporte.de(s, 1));
+                searchService.semillaGuardada(s.getCodigo(), s.getNombre());
+            }
+            entityManager.flush();
+            entityManager.clear();
+            resumen.forEach((nit, acc) ->
+                    resumenRepository.aplicarDelta(nit, (long) acc[0], (long) acc[1], acc[2], acc[3]));
+            rollup.registrar(aportes);
+            tableVersions.touch(TableVersions.SEMILLAS);
+        });
+    }
+
+    private String validar(SemillaRequest r) {
+        if (r == null) {
+            return "Fila vacía";
+        }
+        Set<ConstraintViolation<SemillaRequest>> violaciones = validator.validate(r);
+        if (violaciones.isEmpty()) {
+            return null;
+        }
+        return violaciones.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private static int contar(List<SemillaBatchItem> items, Estado estado) {
+        return (int) items.stream().filter(it -> it.estado() == estado).count();
+    }
+}
@@ -0,0 +1,316 @@
+package com.unibague.inventario.service;
+
+import com.unibague.inventario.domain.TextoNormalizado;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Generador de datos sintéticos para pruebas de rendimiento.
+ *
+ * <p>Con {@code inventario.dataset.proveedores} y
+ * {@code inventario.dataset.semillas} mayores que cero, al arrancar inserta
+ * ese número de proveedores ({@code 7xxxxxxxx}) y semillas
+ * ({@code Gxxxxxxxxx}) con distribuciones parecidas a las reales:</p>
+ * <ul>
+ *   <li>tipo de semilla y ciudad con pesos sesgados (pocos valores
+ *       concentran la mayoría de filas);</li>
+ *   <li>semillas repartidas entre proveedores según una ley de Zipf;</li>
+ *   <li>fechas de ingreso de los últimos tres años, más densas en los meses
+ *       recientes y en las dos temporadas de siembra;</li>
+ *   <li>germinación alrededor del 88 % que baja con la antigüedad del lote,
+ *       precio log-normal por tipo y stock con un 8 % de agotados.</li>
+ * </ul>
+ *
+ * <p>Los datos dependen solo de {@code inventario.dataset.random-seed}: cada
+ * bloque de {@value #BLOQUE} semillas usa su propio generador, así que el
+ * resultado es el mismo con cualquier número de hilos. Las filas se insertan
+ * con JDBC por lotes, sin pasar por Hibernate, y se confirman cada
+ * {@value #LOTE}: en H2 el coste del commit crece con el tamaño de la
+ * transacción. El resumen por proveedor, los agregados por tipo y el índice de nombres se
+ * reconstruyen a continuación con el arranque normal de la aplicación.</p>
+ *
+ * <p>Si la primera fila generada ya existe (BD persistente) no se inserta
+ * nada.</p>
+ */
+@Component
+public class DatasetSintetico {
+
+    private static final Logger log = LoggerFactory.getLogger(DatasetSintetico.class);
+
+    /** Semillas por bloque: cada bloque es una tarea con su propio generador aleatorio. */
+    static final int BLOQUE = 50_000;
+
+    /** Filas por {@code executeBatch} y por commit. */
+    static final int LOTE = 1_000;
+
+    /** Fecha de referencia fija para que los datos no dependan del día de carga. */
+    static final LocalDateTime FECHA_BASE = LocalDateTime.of(2025, 6, 30, 0, 0);
+
+    static final int DIAS_HISTORIA = 3 * 365;
+
+    private static final String INSERT_PROVEEDOR =
+            "insert into proveedores (nit, nombre, ciudad, nombre_norm, ciudad_norm, telefono, "
+            + "fecha_registro, activo, version) values (?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private static final String INSERT_SEMILLA =
+            "insert into semillas (codigo, nombre, precio, stock, tipo_semilla, porcentaje_germinacion, "
+            + "fecha_ingreso, proveedor_nit, version) values (?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private static final String[] CIUDADES = {"Bogotá", "Medellín", "Cali", "Barranquilla", "Bucaramanga",
+            "Ibagué", "Pereira", "Manizales", "Villavicencio", "Neiva", "Pasto", "Montería"};
+    private static final double[] PESO_CIUDADES = {28, 16, 12, 8, 7, 7, 5, 5, 4, 4, 2, 2};
+
+    private static final String[] PREFIJOS = {"Agro", "Semillas", "Cultivos", "Insumos", "Granos", "Campo"};
+    private static final String[] SUFIJOS = {"del Norte", "del Tolima", "Andina", "La Esperanza",
+            "El Progreso", "San José", "Los Llanos", "Unidos"};
+
+    private static final String[] TIPOS = {"Cereal", "Hortaliza", "Leguminosa", "Forrajera",
+            "Oleaginosa", "Frutal", "Aromática", "Ornamental"};
+    private static final double[] PESO_TIPOS = {34, 22, 16, 10, 7, 5, 4, 2};
+    /** Precio mediano por tipo (mismo orden que {@link #TIPOS}). */
+    private static final double[] PRECIO_TIPOS = {1800, 3500, 2200, 1200, 2600, 5200, 4100, 6800};
+    private static final String[][] CULTIVOS = {
+            {"Maíz", "Arroz", "Trigo", "Cebada", "Avena", "Sorgo"},
+            {"Tomate", "Cebolla", "Zanahoria", "Lechuga", "Pimentón", "Repollo"},
+            {"Frijol", "Arveja", "Lenteja", "Garbanzo", "Habichuela"},
+            {"Alfalfa", "Ryegrass", "Brachiaria", "Trébol"},
+            {"Soya", "Girasol", "Maní", "Ajonjolí"},
+            {"Papaya", "Maracuyá", "Lulo", "Tomate de árbol"},
+            {"Albahaca", "Cilantro", "Orégano", "Tomillo"},
+            {"Caléndula", "Cosmos", "Zinnia", "Clavel"}};
+    private static final String[] VARIEDADES = {"amarillo", "rojo", "criollo", "híbrido", "mejorado",
+            "ICA", "orgánico", "premium"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+    private final int proveedores;
+    private final int semillas;
+    private final long randomSeed;
+    private final int hilos;
+
+    public DatasetSintetico(JdbcTemplate jdbcTemplate,
+                            DataSource dataSource,
+                            @Value("${inventario.dataset.proveedores:0}") int proveedores,
+                            @Value("${inventario.dataset.semillas:0}") int semillas,
+                            @Value("${inventario.dataset.random-seed:42}") long randomSeed,
+                            @Value("${inventario.dataset.hilos:0}") int hilos) {
+        if (proveedores < 0 || semillas < 0) {
+            throw new IllegalArgumentException("inventario.dataset.proveedores y .semillas no pueden ser negativos");
+        }
+        if (semillas > 0 && proveedores == 0) {
+            throw new IllegalArgumentException("inventario.dataset.semillas requiere inventario.dataset.proveedores > 0");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = dataSource;
+        this.proveedores = proveedores;
+        this.semillas = semillas;
+        this.randomSeed = randomSeed;
+        this.hilos = hilos > 0 ? hilos : Runtime.getRuntime().availableProcessors();
+    }
+
+    /** Inserta el conjunto configurado; no hace nada con los valores por defecto. */
+    public void cargar() throws SQLException, InterruptedException {
+        if (proveedores == 0) {
+            return;
+        }
+        if (existe("proveedores", "nit", nit(0))) {
+            log.info("Datos sintéticos ya presentes ({} existe); no se generan", nit(0));
+            return;
+        }
+        long t0 = System.nanoTime();
+        insertarProveedores();
+        long t1 = System.nanoTime();
+        insertarSemillas();
+        long t2 = System.nanoTime();
+        log.info("Datos sintéticos (random-seed={}): {} proveedores en {} ms, {} semillas en {} ms ({} filas/s, {} hilos)",
+                randomSeed, proveedores, (t1 - t0) / 1_000_000, semillas, (t2 - t1) / 1_000_000,
+                semillas == 0 ? 0 : Math.round(semillas / ((t2 - t1) / 1e9)), hilos);
+    }
+
+    private boolean existe(String tabla, String pk, String valor) {
+        Integer n = jdbcTemplate.queryForObject(
+                "select count(*) from " + tabla + " where " + pk + " = ?", Integer.class, valor);
+        return n != null && n > 0;
+    }
+
+    private void insertarProveedores() throws SQLException {
+        SplittableRandom rnd = new SplittableRandom(randomSeed);
+        double[] pesoCiudades = acumulado(PESO_CIUDADES);
+        try (Connection c = dataSource.getConnection()) {
+            c.setAutoCommit(false);
+            try (PreparedStatement ps = c.prepareStatement(INSERT_PROVEEDOR)) {
+                for (int i = 0; i < proveedores; i++) {
+                    String nombre = PREFIJOS[rnd.nextInt(PREFIJOS.length)] + " "
+                            + SUFIJOS[rnd.nextInt(SUFIJOS.length)] + " " + (i + 1);
+                    String ciudad = CIUDADES[elegir(pesoCiudades, rnd)];
+                    ps.setString(1, nit(i));
+                    ps.setString(2, nombre);
+                    ps.setString(3, ciudad);
+                    ps.setString(4, TextoNormalizado.normalizar(nombre));
+                    ps.setString(5, TextoNormalizado.normalizar(ciudad));
+                    ps.setString(6, "3" + (100_000_000 + rnd.nextInt(900_000_000)));
+                    ps.setTimestamp(7, Timestamp.valueOf(FECHA_BASE.minusDays(365 + rnd.nextInt(5 * 365))));
+                    ps.setBoolean(8, rnd.nextDouble() < 0.9);
+                    ps.addBatch();
+                    if ((i + 1) % LOTE == 0) {
+                        ps.executeBatch();
+                        c.commit();
+                    }
+                }
+                ps.executeBatch();
+            }
+            c.commit();
+        }
+    }
+
+    private void insertarSemillas() throws SQLException, InterruptedException {
+        if (semillas == 0) {
+            return;
+        }
+        double[] pesoProveedores = zipf(proveedores);
+        double[] pesoTipos = acumulado(PESO_TIPOS);
+        int bloques = (semillas + BLOQUE - 1) / BLOQUE;
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(hilos, bloques));
+        try {
+            List<Future<?>> tareas = new ArrayList<>(bloques);
+            for (int b = 0; b < bloques; b++) {
+                int desde = b * BLOQUE;
+                int hasta = Math.min(desde + BLOQUE, semillas);
+                SplittableRandom rnd = new SplittableRandom(randomSeed * 0x9E3779B97F4A7C15L + b);
+                tareas.add(pool.submit(() -> {
+                    insertarBloque(desde, hasta, rnd, pesoProveedores, pesoTipos);
+                    return null;
+                }));
+            }
+            for (Future<?> t : tareas) {
+                t.get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SQLException sql) {
+                throw sql;
+            }
+            throw new IllegalStateException("Error al generar semillas sintéticas", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private void insertarBloque(int desde, int hasta, SplittableRandom rnd,
+                                double[] pesoProveedores, double[] pesoTipos) throws SQLException {
+        try (Connection c = dataSource.getConnection()) {
+            c.setAutoCommit(false);
+            try (PreparedStatement ps = c.prepareStatement(INSERT_SEMILLA)) {
+                for (int i = desde; i < hasta; i++) {
+                    int tipo = elegir(pesoTipos, rnd);
+                    String[] cultivos = CULTIVOS[tipo];
+                    int dias = diasAtras(rnd);
+                    LocalDateTime fecha = FECHA_BASE.minusDays(dias)
+                            .plusSeconds(6 * 3600 + rnd.nextInt(12 * 3600));
+                    // Germinación: ~88 % en lotes nuevos, cae ~3 puntos por año
+                    double germinacion = 88 + 5 * rnd.nextGaussian() - 3.0 * dias / 365;
+                    germinacion = Math.round(Math.min(99.9, Math.max(35, germinacion)) * 10) / 10.0;
+                    double precio = Math.round(PRECIO_TIPOS[tipo] * Math.exp(0.45 * rnd.nextGaussian()) / 50) * 50.0;
+                    int stock = rnd.nextDouble() < 0.08 ? 0 : 1 + (int) (-Math.log(1 - rnd.nextDouble()) * 120);
+
+                    ps.setString(1, codigo(i));
+                    ps.setString(2, cultivos[rnd.nextInt(cultivos.length)] + " "
+                            + VARIEDADES[rnd.nextInt(VARIEDADES.length)]);
+                    ps.setDouble(3, Math.max(50, precio));
+                    ps.setInt(4, stock);
+                    ps.setString(5, TIPOS[tipo]);
+                    ps.setDouble(6, germinacion);
+                    ps.setTimestamp(7, Timestamp.valueOf(fecha));
+                    ps.setString(8, nit(elegir(pesoProveedores, rnd)));
+                    ps.addBatch();
+                    if ((i - desde + 1) % LOTE == 0) {
+                        ps.executeBatch();
+                        c.commit();
+                    }
+                }
+                ps.executeBatch();
+            }
+            c.commit();
+        }
+    }
+
+    /**
+     * Días hacia atrás desde {@link #FECHA_BASE}: más probables los recientes
+     * y, por aceptación-rechazo, los de las temporadas de siembra (marzo-abril
+     * y septiembre-octubre).
+     */
+    private static int diasAtras(SplittableRandom rnd) {
+        while (true) {
+            double u = rnd.nextDouble();
+            int dias = (int) (DIAS_HISTORIA * u * u);
+            int diaDelAnio = FECHA_BASE.minusDays(dias).getDayOfYear();
+            double temporada = 0.6 + 0.4 * Math.cos(2 * Math.PI * (diaDelAnio - 90) / 182.5);
+            if (rnd.nextDouble() < temporada) {
+                return dias;
+            }
+        }
+    }
+
+    static String nit(int i) {
+        return Integer.toString(700_000_000 + i);
+    }
+
+    static String codigo(int i) {
+        String n = Integer.toString(i);
+        return "G" + "000000000".substring(n.length()) + n;
+    }
+
+    /** Pesos de Zipf (s = 1) acumulados y normalizados para {@code n} rangos. */
+    private static double[] zipf(int n) {
+        double[] pesos = new double[n];
+        for (int k = 0; k < n; k++) {
+            pesos[k] = 1.0 / (k + 1);
+        }
+        return acumulado(pesos);
+    }
+
+    private static double[] acumulado(double[] pesos) {
+        double[] acc = new double[pesos.length];
+        double suma = 0;
+        for (int i = 0; i < pesos.length; i++) {
+            suma += pesos[i];
+            acc[i] = suma;
+        }
+        for (int i = 0; i < acc.length; i++) {
+            acc[i] /= suma;
+        }
+        return acc;
+    }
+
+    /** Índice elegido con las probabilidades de un vector acumulado. */
+    private static int elegir(double[] acumulado, SplittableRandom rnd) {
+        double u = rnd.nextDouble();
+        int lo = 0;
+        int hi = acumulado.length - 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (acumulado[mid] < u) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
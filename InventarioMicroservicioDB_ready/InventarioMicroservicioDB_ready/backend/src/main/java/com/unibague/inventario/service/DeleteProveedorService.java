@@ -1,7 +1,11 @@
 package com.unibague.inventario.service;
 
+import com.unibague.inventario.config.CacheConfig;
+import com.unibague.inventario.domain.exception.PreconditionFailedException;
 import com.unibague.inventario.domain.exception.ProveedorNotFoundException;
 import com.unibague.inventario.repository.ProveedorRepository;
+import com.unibague.inventario.repository.ResumenProveedorRepository;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,21 +15,52 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class DeleteProveedorService {
     private final ProveedorRepository proveedorRepository;
+    private final ResumenProveedorRepository resumenRepository;
+    private final SearchNombresService searchService;
+    private final TableVersions tableVersions;
 
-    public DeleteProveedorService(ProveedorRepository proveedorRepository) {
+    public DeleteProveedorService(ProveedorRepository proveedorRepository,
+                                  ResumenProveedorRepository resumenRepository,
+                                  SearchNombresService searchService,
+                                  TableVersions tableVersions) {
         this.proveedorRepository = proveedorRepository;
+        this.resumenRepository = resumenRepository;
+        this.searchService = searchService;
+        this.tableVersions = tableVersions;
     }
 
     /**
-     * Elimina un proveedor por su NIT.
+     * Elimina un proveedor por su NIT con un único DELETE. Si aún tiene
+     * semillas asociadas la clave foránea lo impide (409).
      *
      * @param nit identificador del proveedor
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PROVEEDORES, key = "#nit")
     public void delete(String nit) {
-        if (!proveedorRepository.existsById(nit)) {
+        delete(nit, null);
+    }
+
+    /**
+     * Elimina el proveedor solo si su versión es la indicada en If-Match.
+     *
+     * @param nit            identificador del proveedor
+     * @param ifMatchVersion versión esperada ({@code null} para no condicionar)
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PROVEEDORES, key = "#nit")
+    public void delete(String nit, Long ifMatchVersion) {
+        int borrados = (ifMatchVersion == null)
+                ? proveedorRepository.deleteByNit(nit)
+                : proveedorRepository.deleteByNitAndVersion(nit, ifMatchVersion);
+        if (borrados == 0) {
+            if (ifMatchVersion != null && proveedorRepository.existsById(nit)) {
+                throw new PreconditionFailedException(nit);
+            }
             throw new ProveedorNotFoundException(nit);
         }
-        proveedorRepository.deleteById(nit);
+        resumenRepository.deleteByProveedorNit(nit);
+        searchService.proveedorEliminado(nit);
+        tableVersions.touch(TableVersions.PROVEEDORES);
     }
 }
\ No newline at end of file
@@ -1,31 +1,80 @@
 package com.unibague.inventario.service;
 
+import com.unibague.inventario.config.CacheConfig;
+import com.unibague.inventario.domain.exception.PreconditionFailedException;
 import com.unibague.inventario.domain.exception.SemillaNotFoundException;
+import com.unibague.inventario.repository.H2Sql;
+import com.unibague.inventario.repository.ResumenProveedorRepository;
+import com.unibague.inventario.repository.SemillaEliminada;
 import com.unibague.inventario.repository.SemillaRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 /**
  * Servicio para eliminar una semilla existente.
  */
 @Service
 public class DeleteSemillaService {
     private final SemillaRepository semillaRepository;
+    private final HotStockCounters hotCounters;
+    private final ResumenProveedorRepository resumenRepository;
+    private final SemillasRollup rollup;
+    private final SearchNombresService searchService;
+    private final TableVersions tableVersions;
 
-    public DeleteSemillaService(SemillaRepository semillaRepository) {
+    public DeleteSemillaService(@Value("${spring.datasource.url}") String jdbcUrl,
+                                SemillaRepository semillaRepository,
+                                HotStockCounters hotCounters,
+                                ResumenProveedorRepository resumenRepository,
+                                SemillasRollup rollup,
+                                SearchNombresService searchService,
+                                TableVersions tableVersions) {
+        H2Sql.requireH2(jdbcUrl, "DeleteSemillaService (OLD TABLE)");
         this.semillaRepository = semillaRepository;
+        this.hotCounters = hotCounters;
+        this.resumenRepository = resumenRepository;
+        this.rollup = rollup;
+        this.searchService = searchService;
+        this.tableVersions = tableVersions;
     }
 
     /**
-     * Elimina la semilla con el código proporcionado.
+     * Elimina la semilla con el código proporcionado con un único DELETE;
+     * si no se borró ninguna fila la semilla no existía.
      *
      * @param codigo código de la semilla
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.SEMILLAS, key = "#codigo")
     public void delete(String codigo) {
-        if (!semillaRepository.existsById(codigo)) {
-            throw new SemillaNotFoundException(codigo);
-        }
-        semillaRepository.deleteById(codigo);
+        delete(codigo, null);
+    }
+
+    /**
+     * Elimina la semilla solo si su versión es la indicada en If-Match; el
+     * borrado y la comprobación van en la misma sentencia.
+     *
+     * @param codigo         código de la semilla
+     * @param ifMatchVersion versión esperada ({@code null} para no condicionar)
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.SEMILLAS, key = "#codigo")
+    public void delete(String codigo, Long ifMatchVersion) {
+        hotCounters.evict(codigo);
+        SemillaEliminada borrada = ((ifMatchVersion == null)
+                ? semillaRepository.deleteByCodigo(codigo)
+                : semillaRepository.deleteByCodigoAndVersion(codigo, ifMatchVersion))
+                .orElseThrow(() -> (ifMatchVersion != null && semillaRepository.existsById(codigo))
+                        ? new PreconditionFailedException(codigo)
+                        : new SemillaNotFoundException(codigo));
+        resumenRepository.aplicarDelta(borrada.getProveedorNit(), -1, -borrada.getStock(),
+                -borrada.getPrecio() * borrada.getStock(), -borrada.getGerminacion());
+        rollup.registrar(List.of(SemillasRollup.Aporte.de(borrada)));
+        searchService.semillaEliminada(codigo);
+        tableVersions.touch(TableVersions.SEMILLAS);
     }
 }
\ No newline at end of file
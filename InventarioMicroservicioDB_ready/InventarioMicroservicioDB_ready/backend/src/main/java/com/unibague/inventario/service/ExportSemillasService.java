@@ -0,0 +1,155 @@
+package com.unibague.inventario.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.unibague.inventario.dto.SemillaResponse;
+import com.unibague.inventario.entity.Semilla;
+import com.unibague.inventario.mapper.SemillaMapper;
+import com.unibague.inventario.repository.SemillaRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Caso de uso para exportar el inventario completo de semillas.
+ *
+ * <p>Recorre la tabla con un cursor de solo avance y escribe cada fila en
+ * la respuesta en cuanto se lee, de modo que la memoria usada no depende
+ * del número de filas. Cada entidad se desasocia del contexto de
+ * persistencia después de escribirla. Como en los listados, el stock de
+ * los códigos con contador en memoria es el de {@link HotStockCounters}.</p>
+ */
+@Service
+public class ExportSemillasService {
+
+    /** Filas entre cada vaciado del buffer hacia el cliente. */
+    private static final int FLUSH_EVERY = 1000;
+
+    public static final String CSV_HEADER =
+            "codigo,nombre,precio,stock,tipoSemilla,porcentajeGerminacion,proveedorNit,fechaIngreso";
+
+    public enum Formato { NDJSON, CSV }
+
+    private final SemillaRepository semillaRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final HotStockCounters hotCounters;
+
+    public ExportSemillasService(SemillaRepository semillaRepository,
+                                 EntityManager entityManager,
+                                 ObjectMapper objectMapper,
+                                 HotStockCounters hotCounters) {
+        this.semillaRepository = semillaRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.hotCounters = hotCounters;
+    }
+
+    /**
+     * Interpreta el parámetro {@code format} de la petición.
+     *
+     * @param format {@code ndjson} (por defecto) o {@code csv}
+     * @return formato de exportación
+     */
+    public static Formato formato(String format) {
+        if (format == null || format.isBlank() || format.equalsIgnoreCase("ndjson")) {
+            return Formato.NDJSON;
+        }
+        if (format.equalsIgnoreCase("csv")) {
+            return Formato.CSV;
+        }
+        throw new IllegalArgumentException("Formato de exportación no soportado: '" + format + "' (use ndjson o csv)");
+    }
+
+    /**
+     * Escribe todas las semillas en el flujo de salida.
+     *
+     * @param formato formato de salida
+     * @param out     flujo de la respuesta HTTP (no se cierra)
+     */
+    @Transactional(readOnly = true)
+    public void export(Formato formato, OutputStream out) throws IOException {
+        try (Stream<Semilla> semillas = semillaRepository.streamAll()) {
+            Iterator<SemillaResponse> filas = semillas.map(this::toResponseAndDetach).iterator();
+            if (formato == Formato.CSV) {
+                writeCsv(filas, out);
+            } else {
+                writeNdjson(filas, out);
+            }
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private SemillaResponse toResponseAndDetach(Semilla s) {
+        SemillaResponse r = SemillaMapper.toResponse(s);
+        entityManager.detach(s);
+        return hotCounters.overlay(r);
+    }
+
+    private void writeNdjson(Iterator<SemillaResponse> filas, OutputStream out) throws IOException {
+        SequenceWriter seq = objectMapper.writer()
+                .withRootValueSeparator("\n")
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .writeValues(out);
+        long n = 0;
+        while (filas.hasNext()) {
+            seq.write(filas.next());
+            if (++n == 1 || n % FLUSH_EVERY == 0) {
+                seq.flush();
+            }
+        }
+        if (n > 0) {
+            out.write('\n');
+        }
+        seq.flush();
+    }
+
+    private void writeCsv(Iterator<SemillaResponse> filas, OutputStream out) throws IOException {
+        Writer w = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        w.write(CSV_HEADER);
+        w.write('\n');
+        w.flush();
+        long n = 0;
+        while (filas.hasNext()) {
+            w.write(csvLine(filas.next()));
+            w.write('\n');
+            if (++n % FLUSH_EVERY == 0) {
+                w.flush();
+            }
+        }
+        w.flush();
+    }
+
+    /** Fila CSV de una semilla, sin salto de línea, en el orden de {@link #CSV_HEADER}. */
+    public static String csvLine(SemillaResponse r) {
+        return csv(r.getCodigo()) + ','
+                + csv(r.getNombre()) + ','
+                + r.getPrecio() + ','
+                + r.getStock() + ','
+                + csv(r.getTipoSemilla()) + ','
+                + r.getPorcentajeGerminacion() + ','
+                + csv(r.getProveedorNit()) + ','
+                + csv(r.getFechaIngreso());
+    }
+
+    /** Escapa un campo CSV según RFC 4180. */
+    private static String csv(String v) {
+        if (v == null) return "";
+        if (v.indexOf(',') < 0 && v.indexOf('"') < 0 && v.indexOf('\n') < 0 && v.indexOf('\r') < 0) {
+            return v;
+        }
+        return '"' + v.replace("\"", "\"\"") + '"';
+    }
+}
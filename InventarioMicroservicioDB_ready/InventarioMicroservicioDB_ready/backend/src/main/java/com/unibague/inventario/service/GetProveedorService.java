@@ -1,10 +1,12 @@
 package com.unibague.inventario.service;
 
+import com.unibague.inventario.config.CacheConfig;
 import com.unibague.inventario.domain.exception.ProveedorNotFoundException;
 import com.unibague.inventario.dto.ProveedorResponse;
 import com.unibague.inventario.entity.Proveedor;
 import com.unibague.inventario.mapper.ProveedorMapper;
 import com.unibague.inventario.repository.ProveedorRepository;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 /**
@@ -24,6 +26,7 @@ public class GetProveedorService {
      * @param nit identificador del proveedor
      * @return DTO de salida
      */
+    @Cacheable(cacheNames = CacheConfig.PROVEEDORES, key = "#nit")
     public ProveedorResponse getByNit(String nit) {
         Proveedor proveedor = proveedorRepository.findById(nit)
                 .orElseThrow(() -> new ProveedorNotFoundException(nit));
@@ -1,22 +1,51 @@
 package com.unibague.inventario.service;
 
+import com.unibague.inventario.config.CacheConfig;
 import com.unibague.inventario.domain.exception.SemillaNotFoundException;
 import com.unibague.inventario.dto.SemillaResponse;
 import com.unibague.inventario.entity.Semilla;
 import com.unibague.inventario.mapper.SemillaMapper;
 import com.unibague.inventario.repository.SemillaRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 
 @Service
 public class GetSemillaService {
 
     private final SemillaRepository semillaRepository;
+    private final HotStockCounters hotCounters;
+    private final Cache cache;
 
-    public GetSemillaService(SemillaRepository semillaRepository) {
+    public GetSemillaService(SemillaRepository semillaRepository,
+                             HotStockCounters hotCounters,
+                             CacheManager cacheManager) {
         this.semillaRepository = semillaRepository;
+        this.hotCounters = hotCounters;
+        this.cache = cacheManager.getCache(CacheConfig.SEMILLAS);
     }
 
+    /**
+     * Lectura con caché (read-through): la respuesta leída de la BD se guarda
+     * por código y la invalidan los servicios de actualización, borrado y
+     * movimiento de stock. Un código inexistente no se cachea: el
+     * {@link SemillaNotFoundException} del cargador se propaga tal cual.
+     */
     public SemillaResponse get(String codigo) {
+        SemillaResponse r;
+        try {
+            r = cache.get(codigo, () -> load(codigo));
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        // Con contadores en memoria activos, su valor va por delante de la BD
+        return hotCounters.overlay(r);
+    }
+
+    private SemillaResponse load(String codigo) {
         Semilla s = semillaRepository.findById(codigo)
                 .orElseThrow(() -> new SemillaNotFoundException(codigo));
         return SemillaMapper.toResponse(s);
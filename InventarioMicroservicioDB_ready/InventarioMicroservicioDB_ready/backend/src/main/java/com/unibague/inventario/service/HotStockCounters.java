@@ -0,0 +1,494 @@
+package com.unibague.inventario.service;
+
+import com.unibague.inventario.config.CacheConfig;
+import com.unibague.inventario.domain.exception.SemillaNotFoundException;
+import com.unibague.inventario.domain.exception.StockInsuficienteException;
+import com.unibague.inventario.dto.SemillaResponse;
+import com.unibague.inventario.mapper.SemillaMapper;
+import com.unibague.inventario.repository.ResumenProveedorRepository;
+import com.unibague.inventario.repository.SemillaRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Contadores de stock en memoria para códigos "calientes" (modo opcional).
+ *
+ * <p>Con {@code inventario.stock.hot-counters.enabled=true} los movimientos
+ * de stock de los códigos configurados (o de todos, si la lista está vacía)
+ * no bloquean la fila en la BD: se aplican con CAS sobre un contador por
+ * código repartido en {@code stripes} franjas, de modo que los hilos que
+ * mueven el mismo código no compiten por una sola variable atómica. Ninguna
+ * franja baja de cero, así que la existencia total tampoco. Los deltas
+ * acumulados se vuelcan en un único lote JDBC cada
+ * {@code flush-interval-ms} o al llegar a {@code flush-batch-size}
+ * movimientos pendientes, junto con el resumen de sus proveedores y los
+ * agregados por tipo, e invalida la entrada de la caché de semillas. El
+ * volcado no sube la versión de la fila: lo volcado ya era visible (el
+ * stock forma parte de la ETag), así que un If-Match leído antes sigue
+ * siendo válido. Por eso el PUT de un código caliente bloquea la fila
+ * ({@link SemillaRepository#findForUpdate}) en lugar de confiar en la
+ * versión para no cruzarse con un volcado.</p>
+ *
+ * <p>El valor en memoria es el autoritativo mientras el contador exista: la
+ * BD refleja los movimientos con el retraso del volcado. Las escrituras que
+ * fijan el stock de forma absoluta (PUT, DELETE) deben llamar a
+ * {@link #evict(String)} para volcar y descartar el contador. Volcados y
+ * retiradas se serializan con un cerrojo; al retirar un contador se cierra
+ * y se esperan los movimientos que ya estaban aplicándose, así que su delta
+ * está completo. Un movimiento que llega a un contador cerrado espera a que
+ * termine la retirada y se reintenta. Si el volcado falla, el contador se
+ * reabre con su delta y el error se propaga.</p>
+ *
+ * <p>El volcado vuelve a comprobar en la BD que la existencia no quede en
+ * negativo. Si la fila ya no existe o su stock cambió por otra vía, el
+ * delta se rechaza: se registra un aviso y el contador se descarta para
+ * recargarlo desde la BD en el siguiente movimiento.</p>
+ */
+@Component
+public class HotStockCounters {
+
+    private static final Logger log = LoggerFactory.getLogger(HotStockCounters.class);
+
+    // Misma condición que SemillaRepository.ajustarStock: nunca deja stock negativo.
+    // Sin subir la versión: el volcado solo escribe stock que los clientes ya
+    // ven en memoria, y una ETag leída antes del volcado debe seguir valiendo
+    private static final String FLUSH_SQL =
+            "update semillas set stock = stock + ?1 where codigo = ?2 and stock + ?1 >= 0";
+
+    /** Franja de un contador: parte de la existencia y delta aún no volcado. */
+    static final class Cell {
+        final AtomicInteger available = new AtomicInteger();
+        final AtomicInteger pending = new AtomicInteger();
+    }
+
+    /**
+     * Contador de un código. Cada hilo trabaja sobre su franja; una salida
+     * que no cabe en ella reúne, bajo el cerrojo del contador, la existencia
+     * de todas las franjas y la vuelve a repartir.
+     */
+    static final class Counter {
+        final String codigo;
+        final Cell[] cells;
+        /** Movimientos en curso; {@link #cerrar()} espera a que terminen. */
+        final AtomicInteger activos = new AtomicInteger();
+        volatile boolean retired;
+        volatile boolean cargado;
+
+        Counter(String codigo, int stripes) {
+            this.codigo = codigo;
+            this.cells = new Cell[stripes];
+            for (int i = 0; i < stripes; i++) {
+                cells[i] = new Cell();
+            }
+        }
+
+        /**
+         * Carga la existencia desde la BD una sola vez; los hilos que llegan
+         * mientras tanto esperan en el cerrojo de este contador, no en el del
+         * mapa. No hace nada si el contador ya se retiró; si la carga falla
+         * lo retira, para que quienes esperaban lo reintenten con otro.
+         */
+        synchronized void cargar(ToIntFunction<String> loader) {
+            if (!cargado && !retired) {
+                try {
+                    repartir(loader.applyAsInt(codigo), 0);
+                    cargado = true;
+                } catch (RuntimeException ex) {
+                    retired = true;
+                    throw ex;
+                }
+            }
+        }
+
+        /** Aplica el movimiento a la existencia; {@code false} si la dejaría en negativo. */
+        boolean reservar(int i, int delta) {
+            AtomicInteger own = cells[i].available;
+            if (delta >= 0) {
+                own.addAndGet(delta);
+                return true;
+            }
+            int current;
+            do {
+                current = own.get();
+                if (current + delta < 0) {
+                    return reservarRepartiendo(i, delta);
+                }
+            } while (!own.compareAndSet(current, current + delta));
+            return true;
+        }
+
+        private synchronized boolean reservarRepartiendo(int i, int delta) {
+            // Las salidas rápidas de otras franjas fallan su CAS y reintentan
+            // sobre el valor repartido; las entradas se suman a lo que haya.
+            long total = 0;
+            for (Cell c : cells) {
+                total += c.available.getAndSet(0);
+            }
+            if (total + delta < 0) {
+                repartir((int) total, i);
+                return false;
+            }
+            repartir((int) (total + delta), i);
+            return true;
+        }
+
+        /** Reparte {@code stock} a partes iguales; el resto va a la franja {@code i}. */
+        private void repartir(int stock, int i) {
+            int parte = stock / cells.length;
+            for (Cell c : cells) {
+                c.available.addAndGet(parte);
+            }
+            cells[i].available.addAndGet(stock - parte * cells.length);
+        }
+
+        /** Existencia total; sincronizado para no leer a mitad de un reparto. */
+        synchronized int total() {
+            int t = 0;
+            for (Cell c : cells) {
+                t += c.available.get();
+            }
+            return t;
+        }
+
+        /** Registra un movimiento en curso; {@code false} si el contador está cerrado. */
+        boolean entrar() {
+            activos.incrementAndGet();
+            if (retired) {
+                activos.decrementAndGet();
+                return false;
+            }
+            return true;
+        }
+
+        void salir() {
+            activos.decrementAndGet();
+        }
+
+        /**
+         * Cierra el contador a nuevos movimientos y espera a los que ya
+         * entraron. Solo esperan operaciones CAS en memoria, nunca E/S.
+         */
+        void cerrar() {
+            retired = true;
+            while (activos.get() != 0) {
+                Thread.onSpinWait();
+            }
+        }
+
+        /** Vuelve a abrir un contador cerrado cuyo volcado falló, con el delta que no se volcó. */
+        void reabrir(int delta) {
+            devolver(delta);
+            retired = false;
+        }
+
+        /** Anota el delta pendiente en la franja. */
+        void anotar(int i, int delta) {
+            cells[i].pending.addAndGet(delta);
+        }
+
+        /** Toma el delta pendiente de todas las franjas dejándolas en cero. */
+        int drain() {
+            int total = 0;
+            for (Cell c : cells) {
+                total += c.pending.getAndSet(0);
+            }
+            return total;
+        }
+
+        /** Devuelve un delta tomado con {@link #drain()} que no se pudo volcar. */
+        void devolver(int delta) {
+            cells[0].pending.addAndGet(delta);
+        }
+    }
+
+    private final SemillaRepository semillaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate tx;
+    private final TableVersions tableVersions;
+    private final Cache cache;
+    private final boolean enabled;
+    private final Set<String> codigos;
+    private final int batchSize;
+    private final int stripes;
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingOps = new AtomicInteger();
+    /** Serializa volcados y retiradas; quien lo tiene puede cerrar contadores. */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public HotStockCounters(SemillaRepository semillaRepository,
+                            JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            TableVersions tableVersions,
+                            CacheManager cacheManager,
+                            @Value("${inventario.stock.hot-counters.enabled:false}") boolean enabled,
+                            @Value("${inventario.stock.hot-counters.codigos:}") String codigos,
+                            @Value("${inventario.stock.hot-counters.flush-batch-size:500}") int batchSize,
+                            @Value("${inventario.stock.hot-counters.stripes:0}") int stripes) {
+        this.semillaRepository = semillaRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        // Transacción propia: el volcado no depende de la escritura que lo provoca
+        // (evict se llama dentro de otra transacción y también tras completarla)
+        this.tx = new TransactionTemplate(transactionManager);
+        this.tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.tableVersions = tableVersions;
+        this.cache = cacheManager.getCache(CacheConfig.SEMILLAS);
+        this.enabled = enabled;
+        this.codigos = Arrays.stream(codigos.split(","))
+                .map(String::trim).filter(c -> !c.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+        this.batchSize = batchSize;
+        // Potencia de dos (para elegir franja con una máscara); 0 = según los núcleos
+        int n = (stripes > 0) ? stripes : Runtime.getRuntime().availableProcessors();
+        this.stripes = Math.min(64, (n <= 1) ? 1 : Integer.highestOneBit(n - 1) << 1);
+    }
+
+    /** Indica si los movimientos de este código se gestionan en memoria. */
+    public boolean isHot(String codigo) {
+        return enabled && (codigos.isEmpty() || codigos.contains(codigo));
+    }
+
+    /**
+     * Aplica un movimiento sin bloqueos sobre la franja del hilo actual.
+     *
+     * @return existencia resultante (la suma de las franjas tras el movimiento)
+     * @throws StockInsuficienteException si el movimiento la dejaría en negativo
+     * @throws SemillaNotFoundException   si el código no existe
+     */
+    public int apply(String codigo, int delta) {
+        int i = stripe();
+        while (true) {
+            // El contador entra vacío en el mapa y se carga fuera de él: la
+            // consulta no retiene el cerrojo de la entrada del mapa
+            Counter c = counters.computeIfAbsent(codigo, k -> new Counter(k, stripes));
+            try {
+                c.cargar(this::load);
+            } catch (RuntimeException ex) {
+                counters.remove(codigo, c);
+                throw ex;
+            }
+            if (!c.entrar()) {
+                // Se está retirando: esperar a quien tiene el cerrojo y reintentar
+                lock.lock();
+                lock.unlock();
+                continue;
+            }
+            try {
+                if (!c.reservar(i, delta)) {
+                    throw new StockInsuficienteException(codigo, delta);
+                }
+                c.anotar(i, delta);
+            } finally {
+                c.salir();
+            }
+
+            if (pendingOps.incrementAndGet() >= batchSize) {
+                flush();
+            }
+            return c.total();
+        }
+    }
+
+    /** Existencia en memoria si el código tiene contador activo, o {@code null}. */
+    public Integer current(String codigo) {
+        Counter c = counters.get(codigo);
+        return (c != null && c.cargado && !c.retired) ? c.total() : null;
+    }
+
+    /**
+     * La respuesta con la existencia en memoria si el código tiene contador
+     * activo; una copia, para no alterar respuestas cacheadas.
+     */
+    public SemillaResponse overlay(SemillaResponse r) {
+        Integer stock = current(r.getCodigo());
+        return (stock != null && stock != r.getStock()) ? SemillaMapper.withStock(r, stock) : r;
+    }
+
+    /**
+     * Vuelca los deltas pendientes de un código y descarta su contador. Se usa
+     * en escrituras que fijan el stock de forma absoluta (PUT, DELETE): se
+     * retira antes y, si hay una transacción activa, también después de que
+     * termine, para no conservar un contador cargado con el valor anterior.
+     */
+    public void evict(String codigo) {
+        if (!enabled) {
+            return;
+        }
+        retire(codigo);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    retire(codigo);
+                }
+            });
+        }
+    }
+
+    /** Vuelca en un único lote JDBC los deltas acumulados de todos los contadores. */
+    @Scheduled(fixedDelayString = "${inventario.stock.hot-counters.flush-interval-ms:200}")
+    public void flush() {
+        if (counters.isEmpty() || !lock.tryLock()) {
+            return;
+        }
+        try {
+            pendingOps.set(0);
+            List<Counter> lote = new ArrayList<>();
+            List<Object[]> args = new ArrayList<>();
+            for (Counter c : counters.values()) {
+                int d = c.drain();
+                if (d != 0) {
+                    lote.add(c);
+                    args.add(new Object[]{d, c.codigo});
+                }
+            }
+            if (args.isEmpty()) {
+                return;
+            }
+            List<Counter> rechazados;
+            try {
+                rechazados = volcar(lote, args);
+            } catch (RuntimeException ex) {
+                // Devolver los deltas para el siguiente intento
+                for (int i = 0; i < lote.size(); i++) {
+                    lote.get(i).devolver((int) args.get(i)[0]);
+                }
+                log.warn("No se pudo volcar el stock en memoria ({} códigos): {}", lote.size(), ex.getMessage());
+                return;
+            }
+            for (Counter c : rechazados) {
+                // Ya no refleja la BD: se descarta y el próximo movimiento lo recarga
+                c.cerrar();
+                descartar(c, c.drain());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        for (String codigo : counters.keySet()) {
+            try {
+                retire(codigo);
+            } catch (RuntimeException ex) {
+                log.error("No se pudo volcar el stock en memoria de {} al cerrar: {}", codigo, ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Aplica los deltas en una transacción: stock (con la condición de no
+     * quedar en negativo), resumen de proveedores y agregados, solo para las
+     * filas que la BD aceptó. La caché de esas semillas se invalida tras el
+     * commit, porque su versión cambió.
+     *
+     * @return contadores cuyo delta rechazó la BD
+     */
+    private List<Counter> volcar(List<Counter> lote, List<Object[]> args) {
+        List<Counter> rechazados = new ArrayList<>();
+        tx.executeWithoutResult(status -> {
+            rechazados.clear();
+            int[] filas = jdbcTemplate.batchUpdate(FLUSH_SQL, args);
+            List<Object[]> aplicados = new ArrayList<>(args.size());
+            for (int i = 0; i < filas.length; i++) {
+                if (filas[i] == 0) {
+                    rechazados.add(lote.get(i));
+                    log.warn("La BD rechazó el delta {} de stock en memoria para {}: la fila no existe "
+                            + "o su stock cambió por otra vía", args.get(i)[0], lote.get(i).codigo);
+                } else {
+                    aplicados.add(args.get(i));
+                }
+            }
+            if (aplicados.isEmpty()) {
+                return;
+            }
+            jdbcTemplate.batchUpdate(ResumenProveedorRepository.DELTA_STOCK_SQL, aplicados);
+            jdbcTemplate.batchUpdate(SemillasRollup.DELTA_STOCK_SQL, aplicados);
+            // Caché transaccional: se invalida después del commit
+            aplicados.forEach(a -> cache.evict(a[1]));
+            tableVersions.touch(TableVersions.SEMILLAS);
+        });
+        return rechazados;
+    }
+
+    private int load(String codigo) {
+        return semillaRepository.findStockByCodigo(codigo)
+                .orElseThrow(() -> new SemillaNotFoundException(codigo));
+    }
+
+    /** Franja del hilo actual: su id mezclado, para repartir también ids consecutivos. */
+    private int stripe() {
+        long h = Thread.currentThread().getId() * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 32) & (stripes - 1);
+    }
+
+    /**
+     * Cierra el contador, vuelca su delta y solo entonces lo quita del mapa.
+     * Toma el cerrojo de los volcados para que el contador nuevo no se
+     * cargue antes de que la BD tenga todos los deltas. Si el volcado falla,
+     * el contador se reabre con su delta y la excepción se propaga.
+     */
+    private void retire(String codigo) {
+        Counter c = counters.get(codigo);
+        if (c == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (counters.get(codigo) != c) {
+                return;   // otro hilo ya lo retiró
+            }
+            c.cerrar();
+            int d = c.drain();
+            if (d != 0) {
+                List<Counter> rechazados;
+                try {
+                    rechazados = volcar(List.of(c), List.<Object[]>of(new Object[]{d, codigo}));
+                } catch (RuntimeException ex) {
+                    c.reabrir(d);
+                    throw ex;
+                }
+                if (!rechazados.isEmpty()) {
+                    descartar(c, d);
+                    return;
+                }
+            }
+            counters.remove(codigo, c);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Quita del mapa un contador cerrado cuyo delta rechazó la BD y registra lo que se pierde. */
+    private void descartar(Counter c, int perdidos) {
+        counters.remove(c.codigo, c);
+        if (perdidos != 0) {
+            log.warn("Stock en memoria de {}: se descartan {} unidades sin volcar tras el volcado rechazado",
+                    c.codigo, perdidos);
+        }
+    }
+}
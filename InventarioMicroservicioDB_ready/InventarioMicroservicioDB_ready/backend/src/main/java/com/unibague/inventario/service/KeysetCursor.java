@@ -0,0 +1,204 @@
+package com.unibague.inventario.service;
+
+import com.unibague.inventario.dto.PageQuery;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Resuelve los parámetros de paginación por cursor de un listado.
+ *
+ * <p>El cursor es opaco para el cliente: codifica en Base64 (URL-safe) el
+ * campo y la dirección de orden junto con los valores de la última fila
+ * devuelta. Así la siguiente página se pide con un predicado
+ * {@code (campo, id) > (valor, id)} que usa el índice, en lugar de un
+ * {@code OFFSET} que recorre todas las filas anteriores.</p>
+ *
+ * <p>Todo listado se pagina: sin {@code limit} la página es de
+ * {@value #DEFAULT_LIMIT} filas y el cliente sigue {@code X-Next-Cursor}
+ * para pedir las demás, de modo que ninguna petición carga la tabla
+ * completa.</p>
+ */
+final class KeysetCursor {
+
+    static final int DEFAULT_LIMIT = 50;
+    static final int MAX_LIMIT = 500;
+
+    private static final String SEP = "\n";
+    private static final String KV = "=";
+
+    private final String sortField;
+    private final Sort.Direction direction;
+    private final int limit;
+    private final ScrollPosition position;
+
+    private KeysetCursor(String sortField, Sort.Direction direction, int limit, ScrollPosition position) {
+        this.sortField = sortField;
+        this.direction = direction;
+        this.limit = limit;
+        this.position = position;
+    }
+
+    /**
+     * Valida y resuelve los parámetros de paginación.
+     *
+     * @param query        parámetros recibidos (puede ser {@code null})
+     * @param defaultSort  campo de orden por defecto
+     * @param sortKeys     campos ordenables (con índice) y cómo interpretar su valor
+     * @return cursor resuelto
+     */
+    static KeysetCursor resolve(PageQuery query, String defaultSort,
+                                Map<String, Function<String, Object>> sortKeys) {
+        return resolve(query, defaultSort, Sort.Direction.ASC, sortKeys);
+    }
+
+    /**
+     * Como {@link #resolve(PageQuery, String, Map)}, con la dirección que se
+     * usa cuando el cliente no indica {@code sort} ni {@code order}.
+     */
+    static KeysetCursor resolve(PageQuery query, String defaultSort, Sort.Direction defaultDirection,
+                                Map<String, Function<String, Object>> sortKeys) {
+        PageQuery q = (query != null) ? query : new PageQuery(null, null, null, null, false);
+
+        boolean porDefecto = q.sort() == null || q.sort().isBlank();
+        String field = porDefecto ? defaultSort : q.sort().trim();
+        if (!sortKeys.containsKey(field)) {
+            throw new IllegalArgumentException("Campo de orden no permitido: '" + field
+                    + "'. Valores válidos: " + sortKeys.keySet());
+        }
+
+        Sort.Direction dir;
+        try {
+            dir = (q.order() == null || q.order().isBlank())
+                    ? (porDefecto ? defaultDirection : Sort.Direction.ASC)
+                    : Sort.Direction.fromString(q.order().trim());
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Dirección de orden inválida: '" + q.order() + "' (use asc o desc)");
+        }
+
+        int limit = (q.limit() == null) ? DEFAULT_LIMIT : q.limit();
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("El parámetro 'limit' debe estar entre 1 y " + MAX_LIMIT);
+        }
+
+        ScrollPosition position = (q.after() == null || q.after().isBlank())
+                ? ScrollPosition.keyset()
+                : decode(q.after().trim(), field, dir, sortKeys);
+
+        return new KeysetCursor(field, dir, limit, position);
+    }
+
+    /** Orden estable: el campo pedido y, como desempate, la clave primaria. */
+    Sort sort(String idField) {
+        Sort sort = Sort.by(direction, sortField);
+        return sortField.equals(idField) ? sort : sort.and(Sort.by(direction, idField));
+    }
+
+    /**
+     * Como {@link #sort(String)} pero precedido por columnas que el filtro
+     * fija por igualdad: no cambian el orden de las filas y permiten leerlas
+     * ya ordenadas de un índice compuesto {@code (prefijos..., idField)}.
+     */
+    Sort sort(List<String> prefijos, String idField) {
+        Sort sort = Sort.unsorted();
+        for (String prefijo : prefijos) {
+            sort = sort.and(Sort.by(direction, prefijo));
+        }
+        return sort.and(sort(idField));
+    }
+
+    /**
+     * Predicado {@code idField > :after} ({@code <} en orden descendente)
+     * con el valor del cursor, o {@code null} en la primera página. Con
+     * {@link #sort(List, String)} sustituye a {@code scroll()}, cuyo
+     * predicado {@code (prefijo > ? or (prefijo = ? and id > ?))} H2 no usa
+     * como rango del índice.
+     */
+    <T> Specification<T> after(String idField) {
+        Object valor = key(idField);
+        if (valor == null) {
+            return null;
+        }
+        String id = (String) valor;
+        return (root, q, cb) -> direction.isAscending()
+                ? cb.greaterThan(root.get(idField), id)
+                : cb.lessThan(root.get(idField), id);
+    }
+
+    boolean sortsBy(String field) {
+        return sortField.equals(field);
+    }
+
+    Sort.Direction direction() {
+        return direction;
+    }
+
+    /** Valor de {@code field} en el cursor recibido, o {@code null} en la primera página. */
+    Object key(String field) {
+        return (position instanceof KeysetScrollPosition keyset) ? keyset.getKeys().get(field) : null;
+    }
+
+    int limit() {
+        return limit;
+    }
+
+    ScrollPosition position() {
+        return position;
+    }
+
+    /** Cursor de la página siguiente o {@code null} si la ventana es la última. */
+    String next(Window<?> window) {
+        if (!window.hasNext() || window.isEmpty()) {
+            return null;
+        }
+        ScrollPosition last = window.positionAt(window.size() - 1);
+        if (!(last instanceof KeysetScrollPosition keyset)) {
+            return null;
+        }
+        return encode(keyset.getKeys());
+    }
+
+    /** Cursor que continúa tras una fila con los valores {@code keys}. */
+    String encode(Map<String, ?> keys) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(sortField).append(SEP).append(direction.name());
+        keys.forEach((k, v) -> sb.append(SEP).append(k).append(KV).append(v));
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ScrollPosition decode(String cursor, String field, Sort.Direction dir,
+                                         Map<String, Function<String, Object>> sortKeys) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEP);
+            if (parts.length < 3 || !parts[0].equals(field) || !parts[1].equals(dir.name())) {
+                throw new IllegalArgumentException("El cursor no corresponde al orden solicitado");
+            }
+            Map<String, Object> keys = new LinkedHashMap<>();
+            for (int i = 2; i < parts.length; i++) {
+                int idx = parts[i].indexOf(KV);
+                String key = parts[i].substring(0, idx);
+                Function<String, Object> parser = sortKeys.get(key);
+                if (parser == null) {
+                    throw new IllegalArgumentException("Cursor inválido");
+                }
+                keys.put(key, parser.apply(parts[i].substring(idx + 1)));
+            }
+            return ScrollPosition.forward(keys);
+        } catch (IllegalArgumentException ex) {
+            throw ex;
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+    }
+}
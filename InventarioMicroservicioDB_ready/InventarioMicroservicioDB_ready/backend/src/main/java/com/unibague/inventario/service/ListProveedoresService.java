@@ -1,42 +1,128 @@
 package com.unibague.inventario.service;
 
+import com.unibague.inventario.dto.CursorPage;
+import com.unibague.inventario.dto.PageQuery;
 import com.unibague.inventario.dto.ProveedorResponse;
 import com.unibague.inventario.entity.Proveedor;
+import com.unibague.inventario.entity.ResumenProveedor;
 import com.unibague.inventario.mapper.ProveedorMapper;
 import com.unibague.inventario.repository.ProveedorRepository;
+import com.unibague.inventario.repository.ProveedorSpecifications;
+import com.unibague.inventario.repository.ResumenProveedorRepository;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class ListProveedoresService {
+
+    /** Campos ordenables y cómo leer su valor desde el cursor. */
+    private static final Map<String, Function<String, Object>> SORT_KEYS = Map.of(
+            "nit", v -> v,
+            "nombre", v -> v,
+            "fechaRegistro", LocalDateTime::parse
+    );
+
     private final ProveedorRepository proveedorRepository;
+    private final ResumenProveedorRepository resumenRepository;
 
-    public ListProveedoresService(ProveedorRepository proveedorRepository) {
+    public ListProveedoresService(ProveedorRepository proveedorRepository,
+                                  ResumenProveedorRepository resumenRepository) {
         this.proveedorRepository = proveedorRepository;
+        this.resumenRepository = resumenRepository;
     }
 
-    public List<ProveedorResponse> list(Optional<String> nombre,
-                                        Optional<String> ciudad,
-                                        Optional<String> activo) {
-        List<Proveedor> proveedores;
-
+    @Transactional(readOnly = true)
+    public CursorPage<ProveedorResponse> list(Optional<String> nombre,
+                                              Optional<String> ciudad,
+                                              Optional<String> activo,
+                                              PageQuery page) {
+        // Todos los filtros recibidos se combinan en una sola consulta
+        Specification<Proveedor> spec = Specification.where(null);
+        boolean porCiudad = ciudad.isPresent() && !ciudad.get().isBlank();
+        boolean porActivo = activo.isPresent() && !activo.get().isBlank();
         if (nombre.isPresent() && !nombre.get().isBlank()) {
-            proveedores = proveedorRepository.findByNombreContainingIgnoreCase(nombre.get().trim());
-        } else if (ciudad.isPresent() && activo.isPresent()) {
-            boolean flag = Boolean.parseBoolean(activo.get());
-            proveedores = proveedorRepository.buscarPorCiudadYActivo(ciudad.get().trim(), flag); // @Query
-        } else if (ciudad.isPresent()) {
-            proveedores = proveedorRepository.findByCiudad(ciudad.get().trim());
-        } else if (activo.isPresent()) {
-            boolean flag = Boolean.parseBoolean(activo.get());
-            proveedores = proveedorRepository.findByActivo(flag);
+            spec = spec.and(ProveedorSpecifications.nombreContiene(nombre.get()));
+        }
+        if (porCiudad) {
+            spec = spec.and(ProveedorSpecifications.ciudadIgual(ciudad.get()));
+        }
+        if (porActivo) {
+            spec = spec.and(ProveedorSpecifications.activoIgual(parseBoolean("activo", activo.get().trim())));
+        }
+
+        KeysetCursor cursor = KeysetCursor.resolve(page, "nit", SORT_KEYS);
+        List<String> prefijos = cursor.sortsBy("nit") ? prefijosDeIndice(porCiudad, porActivo) : List.of();
+        List<Proveedor> filas;
+        String next;
+        if (!prefijos.isEmpty()) {
+            // Una fila de más indica si existe página siguiente
+            int limit = cursor.limit();
+            filas = proveedorRepository.findBy(spec.and(cursor.after("nit")), q -> q
+                    .sortBy(cursor.sort(prefijos, "nit"))
+                    .limit(limit + 1)
+                    .all());
+            next = null;
+            if (filas.size() > limit) {
+                filas = filas.subList(0, limit);
+                next = cursor.encode(Map.of("nit", filas.get(limit - 1).getNit()));
+            }
         } else {
-            proveedores = proveedorRepository.findAll();
+            Window<Proveedor> window = proveedorRepository.findBy(spec, q -> q
+                    .sortBy(cursor.sort("nit"))
+                    .limit(cursor.limit())
+                    .scroll(cursor.position()));
+            filas = window.getContent();
+            next = cursor.next(window);
         }
 
-        return proveedores.stream().map(ProveedorMapper::toResponse).collect(Collectors.toList());
+        Long total = (page != null && page.withTotal()) ? proveedorRepository.count(spec) : null;
+
+        // Totales de inventario de la página: una consulta por clave, sin recorrer semillas
+        Map<String, ResumenProveedor> resumenes = resumenRepository
+                .findAllById(filas.stream().map(Proveedor::getNit).toList())
+                .stream()
+                .collect(Collectors.toMap(ResumenProveedor::getProveedorNit, Function.identity()));
+
+        return new CursorPage<>(
+                filas.stream()
+                        .map(p -> ProveedorMapper.toResponse(p, resumenes.get(p.getNit())))
+                        .toList(),
+                next,
+                total
+        );
+    }
+
+    /**
+     * Columnas fijadas por igualdad que preceden al NIT en un índice de
+     * {@code V2__indices.sql}: ordenando por ellas y luego por NIT, H2 lee
+     * las filas ya ordenadas del índice y para en {@code limit}; ordenando
+     * solo por NIT ordenaba todos los proveedores que cumplen el filtro.
+     * Con solo la ciudad no hay índice que dé ese orden ({@code activo} va
+     * entre ciudad y NIT) y se deja el orden por NIT.
+     */
+    private static List<String> prefijosDeIndice(boolean porCiudad, boolean porActivo) {
+        if (porCiudad && porActivo) {
+            return List.of("ciudadNorm", "activo");   // idx_proveedores_ciudad_activo
+        }
+        if (porActivo) {
+            return List.of("activo");                 // idx_proveedores_activo
+        }
+        return List.of();
+    }
+
+    /** Solo {@code true} o {@code false}: cualquier otro valor es un 400, no un {@code false}. */
+    private static boolean parseBoolean(String param, String v) {
+        if (v.equalsIgnoreCase("true")) return true;
+        if (v.equalsIgnoreCase("false")) return false;
+        throw new IllegalArgumentException("Valor booleano inválido para '" + param + "' (use true o false): " + v);
     }
 }
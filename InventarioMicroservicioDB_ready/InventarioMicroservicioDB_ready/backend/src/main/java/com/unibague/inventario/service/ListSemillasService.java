@@ -1,46 +1,181 @@
 package com.unibague.inventario.service;
 
+import com.unibague.inventario.dto.CursorPage;
+import com.unibague.inventario.dto.PageQuery;
+import com.unibague.inventario.dto.SemillaFilter;
 import com.unibague.inventario.dto.SemillaResponse;
 import com.unibague.inventario.entity.Semilla;
 import com.unibague.inventario.mapper.SemillaMapper;
 import com.unibague.inventario.repository.SemillaRepository;
+import com.unibague.inventario.repository.SemillaSpecifications;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.function.Function;
 
 @Service
 public class ListSemillasService {
 
+    /** Campos ordenables (todos respaldados por índice) y cómo leer su valor desde el cursor. */
+    private static final Map<String, Function<String, Object>> SORT_KEYS = Map.of(
+            "codigo", v -> v,
+            "fechaIngreso", LocalDateTime::parse,
+            "precio", Double::valueOf,
+            "porcentajeGerminacion", Double::valueOf
+    );
+
     private final SemillaRepository semillaRepository;
+    private final HotStockCounters hotCounters;
 
-    public ListSemillasService(SemillaRepository semillaRepository) {
+    public ListSemillasService(SemillaRepository semillaRepository, HotStockCounters hotCounters) {
         this.semillaRepository = semillaRepository;
+        this.hotCounters = hotCounters;
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<SemillaResponse> list(SemillaFilter filtro, PageQuery page) {
+        Specification<Semilla> spec = toSpecification(filtro);
+
+        KeysetCursor cursor = KeysetCursor.resolve(page, ordenPorDefecto(filtro), direccionPorDefecto(filtro), SORT_KEYS);
+        Long total = (page != null && page.withTotal()) ? semillaRepository.count(spec) : null;
+
+        boolean porTipo = filtro != null && hasText(filtro.tipo()) && cursor.sortsBy("codigo");
+
+        if (porTipo) {
+            return listPorTipo(spec, cursor, total);
+        }
+
+        Window<Semilla> window = semillaRepository.findBy(spec, q -> q
+                .sortBy(cursor.sort("codigo"))
+                .limit(cursor.limit())
+                .scroll(cursor.position()));
+
+        return new CursorPage<>(
+                window.getContent().stream().map(this::toResponse).toList(),
+                cursor.next(window),
+                total
+        );
+    }
+
+    /**
+     * Listado por código con {@code tipo} fijo. Ordenar por
+     * {@code (tipo_semilla, codigo)} deja que H2 lea las filas ya ordenadas
+     * de {@code idx_semillas_tipo} y pare en {@code limit}; ordenando
+     * solo por código ordenaba todas las filas del tipo. El cursor se aplica
+     * con {@link KeysetCursor#after(String)}.
+     */
+    private CursorPage<SemillaResponse> listPorTipo(Specification<Semilla> spec, KeysetCursor cursor, Long total) {
+        int limit = cursor.limit();
+        Specification<Semilla> pagina = spec.and(cursor.after("codigo"));
+        // Una fila de más indica si existe página siguiente
+        List<Semilla> filas = semillaRepository.findBy(pagina, q -> q
+                .sortBy(cursor.sort(List.of("tipoSemilla"), "codigo"))
+                .limit(limit + 1)
+                .all());
+
+        String next = null;
+        if (filas.size() > limit) {
+            filas = filas.subList(0, limit);
+            next = cursor.encode(Map.of("codigo", filas.get(limit - 1).getCodigo()));
+        }
+        return new CursorPage<>(filas.stream().map(this::toResponse).toList(), next, total);
+    }
+
+    /**
+     * Orden cuando el cliente no indica {@code sort}: el de siempre del
+     * listado. Con rango de germinación, de mayor a menor germinación; con
+     * rango de fechas, de la más reciente a la más antigua; si no, por
+     * código. Los dos primeros se leen ya ordenados de los índices
+     * descendentes de {@code V3__indices_desc.sql}.
+     */
+    private static String ordenPorDefecto(SemillaFilter f) {
+        if (f == null) {
+            return "codigo";
+        }
+        if (hasText(f.germinacionMin()) || hasText(f.germinacionMax())) {
+            return "porcentajeGerminacion";
+        }
+        if (hasText(f.desde()) || hasText(f.hasta())) {
+            return "fechaIngreso";
+        }
+        return "codigo";
     }
 
-    public List<SemillaResponse> list(Optional<String> tipo,
-                                      Optional<String> germinacionMin,
-                                      Optional<String> desde,
-                                      Optional<String> hasta) {
-        List<Semilla> semillas;
-
-        if (germinacionMin.isPresent()) {
-            double min = Double.parseDouble(germinacionMin.get());
-            semillas = semillaRepository.findConGerminacionDesde(min); // @Query personalizada
-        } else if (desde.isPresent() && hasta.isPresent()) {
-            LocalDateTime d = LocalDateTime.parse(desde.get());
-            LocalDateTime h = LocalDateTime.parse(hasta.get());
-            semillas = semillaRepository.findByRangoFechas(d, h);      // @Query personalizada
-        } else if (tipo.isPresent()) {
-            semillas = semillaRepository.findByTipoSemilla(tipo.get());
-        } else {
-            semillas = semillaRepository.findAll();
-        }
-
-        return semillas.stream()
-                .map(SemillaMapper::toResponse)
-                .collect(Collectors.toList());
+    private static Sort.Direction direccionPorDefecto(SemillaFilter f) {
+        return ordenPorDefecto(f).equals("codigo") ? Sort.Direction.ASC : Sort.Direction.DESC;
+    }
+
+    /** Como en {@link GetSemillaService}: el stock en memoria va por delante de la BD. */
+    private SemillaResponse toResponse(Semilla s) {
+        return hotCounters.overlay(SemillaMapper.toResponse(s));
+    }
+
+    /**
+     * Combina con AND todos los criterios presentes en una sola consulta.
+     * Cada predicado recae sobre una columna indexada de {@code semillas}.
+     */
+    static Specification<Semilla> toSpecification(SemillaFilter f) {
+        Specification<Semilla> spec = Specification.where(null);
+        if (f == null) {
+            return spec;
+        }
+        if (hasText(f.tipo())) {
+            spec = spec.and(SemillaSpecifications.tipoIgual(f.tipo().trim()));
+        }
+        if (hasText(f.proveedorNit())) {
+            spec = spec.and(SemillaSpecifications.proveedorIgual(f.proveedorNit().trim()));
+        }
+        spec = spec.and(SemillaSpecifications.rango("porcentajeGerminacion",
+                parseDouble("germinacionMin", f.germinacionMin()),
+                parseDouble("germinacionMax", f.germinacionMax())));
+        spec = spec.and(SemillaSpecifications.rango("fechaIngreso",
+                parseFecha("desde", f.desde()),
+                parseFecha("hasta", f.hasta())));
+        spec = spec.and(SemillaSpecifications.rango("precio",
+                parseDouble("precioMin", f.precioMin()),
+                parseDouble("precioMax", f.precioMax())));
+        spec = spec.and(SemillaSpecifications.rango("stock",
+                parseInt("stockMin", f.stockMin()),
+                parseInt("stockMax", f.stockMax())));
+        return spec;
+    }
+
+    private static boolean hasText(String v) {
+        return v != null && !v.isBlank();
+    }
+
+    private static Double parseDouble(String param, String v) {
+        if (!hasText(v)) return null;
+        try {
+            return Double.valueOf(v.trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Valor numérico inválido para '" + param + "': " + v);
+        }
+    }
+
+    private static Integer parseInt(String param, String v) {
+        if (!hasText(v)) return null;
+        try {
+            return Integer.valueOf(v.trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Valor entero inválido para '" + param + "': " + v);
+        }
+    }
+
+    private static LocalDateTime parseFecha(String param, String v) {
+        if (!hasText(v)) return null;
+        try {
+            return LocalDateTime.parse(v.trim());
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Fecha inválida para '" + param
+                    + "' (formato esperado yyyy-MM-dd'T'HH:mm:ss): " + v);
+        }
     }
 }
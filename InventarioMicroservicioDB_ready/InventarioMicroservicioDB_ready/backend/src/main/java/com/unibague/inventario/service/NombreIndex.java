@@ -0,0 +1,340 @@
+package com.unibague.inventario.service;
+
+import com.unibague.inventario.domain.TextoNormalizado;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice en memoria de nombres para búsqueda por prefijo y por subcadena.
+ *
+ * <p>Los nombres se normalizan con {@link TextoNormalizado}. Cada nombre
+ * recibe un ordinal entero y se indexa por sus trigramas, con listas
+ * ordenadas de ordinales, y por sus palabras en un mapa ordenado para las
+ * consultas de uno o dos caracteres. Las
+ * escrituras son puntuales y toman un cerrojo exclusivo; las búsquedas
+ * solo el compartido.</p>
+ */
+final class NombreIndex {
+
+    /** Resultado de una búsqueda: identificador y nombre original. */
+    record Coincidencia(String id, String nombre) {}
+
+    /** Candidatos que se examinan por cada resultado pedido en consultas cortas. */
+    private static final int CANDIDATOS_POR_RESULTADO = 8;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> ordinales = new HashMap<>();
+    private final List<String> ids = new ArrayList<>();
+    private final List<String> originales = new ArrayList<>();
+    private final List<String> normalizados = new ArrayList<>();
+    private final List<Integer> libres = new ArrayList<>();
+
+    private final Map<Long, OrdinalList> trigramas = new HashMap<>();
+    private final NavigableMap<String, OrdinalList> palabras = new TreeMap<>();
+
+    /** Indexa o reemplaza el nombre de un identificador. */
+    void put(String id, String nombre) {
+        String norm = TextoNormalizado.normalizar(nombre);
+        lock.writeLock().lock();
+        try {
+            Integer ord = ordinales.get(id);
+            if (ord != null) {
+                if (normalizados.get(ord).equals(norm)) {
+                    originales.set(ord, nombre);
+                    return;
+                }
+                desindexar(ord);
+            } else if (!libres.isEmpty()) {
+                ord = libres.remove(libres.size() - 1);
+                ids.set(ord, id);
+            } else {
+                ord = ids.size();
+                ids.add(id);
+                originales.add(null);
+                normalizados.add(null);
+            }
+            ordinales.put(id, ord);
+            originales.set(ord, nombre);
+            normalizados.set(ord, norm);
+            indexar(ord, norm);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Quita un identificador del índice (no hace nada si no estaba). */
+    void remove(String id) {
+        lock.writeLock().lock();
+        try {
+            Integer ord = ordinales.remove(id);
+            if (ord == null) {
+                return;
+            }
+            desindexar(ord);
+            ids.set(ord, null);
+            originales.set(ord, null);
+            normalizados.set(ord, null);
+            libres.add(ord);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return ordinales.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Busca los nombres que contienen el texto, ordenados por relevancia:
+     * nombre idéntico, nombre que empieza por el texto, alguna palabra que
+     * empieza por él y, por último, coincidencia en medio de una palabra; a
+     * igual relevancia, los nombres más cortos primero.
+     *
+     * @param texto consulta (se normaliza igual que los nombres)
+     * @param limit número máximo de resultados
+     */
+    List<Coincidencia> buscar(String texto, int limit) {
+        String q = TextoNormalizado.normalizar(texto);
+        if (q.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Mejores mejores = new Mejores(limit);
+            if (q.length() < 3) {
+                candidatosCortos(q, limit, mejores);
+            } else {
+                candidatosPorTrigramas(q, mejores);
+            }
+            long[] orden = mejores.ordenados();
+            List<Coincidencia> out = new ArrayList<>(orden.length);
+            for (long clave : orden) {
+                int o = (int) clave;
+                out.add(new Coincidencia(ids.get(o), originales.get(o)));
+            }
+            return out;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Consultas de 1-2 caracteres: palabras que empiezan por el texto, en
+    // orden alfabético, hasta reunir suficientes candidatos.
+    private void candidatosCortos(String q, int limit, Mejores mejores) {
+        int maximo = limit * CANDIDATOS_POR_RESULTADO;
+        String conEspacio = " " + q;
+        int vistos = 0;
+        for (Map.Entry<String, OrdinalList> e : palabras.tailMap(q, true).entrySet()) {
+            if (!e.getKey().startsWith(q) || vistos >= maximo) {
+                break;
+            }
+            OrdinalList l = e.getValue();
+            for (int i = 0; i < l.size && vistos < maximo; i++, vistos++) {
+                int o = l.values[i];
+                mejores.ofrecer(clave(o, normalizados.get(o), q, conEspacio));
+            }
+        }
+    }
+
+    // Consultas de 3 o más caracteres: intersección de las listas de sus
+    // trigramas (empezando por la más corta) y verificación de la subcadena.
+    private void candidatosPorTrigramas(String q, Mejores mejores) {
+        long[] grams = trigramasDe(q);
+        OrdinalList[] listas = new OrdinalList[grams.length];
+        for (int i = 0; i < grams.length; i++) {
+            listas[i] = trigramas.get(grams[i]);
+            if (listas[i] == null) {
+                return;
+            }
+        }
+        Arrays.sort(listas, Comparator.comparingInt(l -> l.size));
+        int[] candidatos = Arrays.copyOf(listas[0].values, listas[0].size);
+        int n = candidatos.length;
+        for (int i = 1; i < listas.length && n > 0; i++) {
+            n = intersectar(candidatos, n, listas[i]);
+        }
+        String conEspacio = " " + q;
+        for (int i = 0; i < n; i++) {
+            int o = candidatos[i];
+            long clave = clave(o, normalizados.get(o), q, conEspacio);
+            if (clave >= 0) {
+                mejores.ofrecer(clave);
+            }
+        }
+    }
+
+    /**
+     * Relevancia empaquetada en un long (menor es mejor): rango en los bits
+     * altos, longitud del nombre y, como desempate estable, el ordinal.
+     * Devuelve -1 si el nombre no contiene la consulta.
+     */
+    private static long clave(int ord, String nombre, String q, String conEspacio) {
+        int idx = nombre.indexOf(q);
+        if (idx < 0) {
+            return -1;
+        }
+        int rango;
+        if (idx == 0) {
+            rango = (nombre.length() == q.length()) ? 0 : 1;
+        } else {
+            rango = (nombre.charAt(idx - 1) == ' ' || nombre.indexOf(conEspacio, idx) >= 0) ? 2 : 3;
+        }
+        long longitud = Math.min(nombre.length(), 0xFFFF);
+        return ((long) rango << 48) | (longitud << 32) | (ord & 0xFFFFFFFFL);
+    }
+
+    /** Montículo acotado con las {@code limit} mejores claves vistas. */
+    private static final class Mejores {
+        private final long[] heap;   // máximo en la raíz: la peor de las retenidas
+        private int size;
+
+        Mejores(int limit) {
+            this.heap = new long[limit];
+        }
+
+        void ofrecer(long clave) {
+            if (size < heap.length) {
+                heap[size] = clave;
+                subir(size++);
+            } else if (clave < heap[0]) {
+                heap[0] = clave;
+                bajar(0);
+            }
+        }
+
+        long[] ordenados() {
+            long[] out = Arrays.copyOf(heap, size);
+            Arrays.sort(out);
+            return out;
+        }
+
+        private void subir(int i) {
+            while (i > 0) {
+                int p = (i - 1) / 2;
+                if (heap[p] >= heap[i]) return;
+                long t = heap[p]; heap[p] = heap[i]; heap[i] = t;
+                i = p;
+            }
+        }
+
+        private void bajar(int i) {
+            while (true) {
+                int l = 2 * i + 1, r = l + 1, m = i;
+                if (l < size && heap[l] > heap[m]) m = l;
+                if (r < size && heap[r] > heap[m]) m = r;
+                if (m == i) return;
+                long t = heap[m]; heap[m] = heap[i]; heap[i] = t;
+                i = m;
+            }
+        }
+    }
+
+    private void indexar(int ord, String norm) {
+        for (long g : trigramasDe(norm)) {
+            trigramas.computeIfAbsent(g, k -> new OrdinalList()).add(ord);
+        }
+        for (String p : palabrasDe(norm)) {
+            palabras.computeIfAbsent(p, k -> new OrdinalList()).add(ord);
+        }
+    }
+
+    private void desindexar(int ord) {
+        String norm = normalizados.get(ord);
+        for (long g : trigramasDe(norm)) {
+            OrdinalList l = trigramas.get(g);
+            if (l != null && l.remove(ord) && l.size == 0) {
+                trigramas.remove(g);
+            }
+        }
+        for (String p : palabrasDe(norm)) {
+            OrdinalList l = palabras.get(p);
+            if (l != null && l.remove(ord) && l.size == 0) {
+                palabras.remove(p);
+            }
+        }
+    }
+
+    /** Trigramas distintos del texto, cada uno empaquetado en un long. */
+    private static long[] trigramasDe(String s) {
+        if (s.length() < 3) {
+            return new long[0];
+        }
+        long[] out = new long[s.length() - 2];
+        for (int i = 0; i + 3 <= s.length(); i++) {
+            out[i] = ((long) s.charAt(i) << 32) | ((long) s.charAt(i + 1) << 16) | s.charAt(i + 2);
+        }
+        Arrays.sort(out);
+        int n = 0;
+        for (int i = 0; i < out.length; i++) {
+            if (i == 0 || out[i] != out[i - 1]) out[n++] = out[i];
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    private static String[] palabrasDe(String s) {
+        return s.isEmpty() ? new String[0] : Arrays.stream(s.split(" ")).distinct().toArray(String[]::new);
+    }
+
+    /** Intersección in situ de candidatos (ordenados) con una lista; devuelve el nuevo tamaño. */
+    private static int intersectar(int[] candidatos, int n, OrdinalList l) {
+        int i = 0, j = 0, k = 0;
+        while (i < n && j < l.size) {
+            int a = candidatos[i], b = l.values[j];
+            if (a == b) {
+                candidatos[k++] = a;
+                i++;
+                j++;
+            } else if (a < b) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return k;
+    }
+
+    /** Lista ordenada y sin repetidos de ordinales. */
+    private static final class OrdinalList {
+        int[] values = new int[4];
+        int size;
+
+        void add(int v) {
+            int pos = Arrays.binarySearch(values, 0, size, v);
+            if (pos >= 0) {
+                return;
+            }
+            pos = -pos - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            System.arraycopy(values, pos, values, pos + 1, size - pos);
+            values[pos] = v;
+            size++;
+        }
+
+        boolean remove(int v) {
+            int pos = Arrays.binarySearch(values, 0, size, v);
+            if (pos < 0) {
+                return false;
+            }
+            System.arraycopy(values, pos + 1, values, pos, size - pos - 1);
+            size--;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.unibague.inventario.service;
+
+import com.unibague.inventario.repository.ResumenProveedorRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Reconstrucción y verificación de {@code resumen_proveedores}.
+ *
+ * <p>Al arrancar se recalculan todos los resúmenes (los datos precargados o
+ * escritos sin pasar por los servicios no los actualizan). Con una base en
+ * disco la tabla ya viene calculada del arranque anterior:
+ * {@code inventario.resumen.rebuild-on-startup=if-empty} solo la recalcula
+ * si está vacía. Después, cada {@code inventario.resumen.verify-interval-ms}
+ * se comparan con las semillas y, si alguno no coincide, se vuelven a
+ * calcular.</p>
+ */
+@Component
+public class ResumenProveedoresJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ResumenProveedoresJob.class);
+
+    private final ResumenProveedorRepository resumenRepository;
+    private final TableVersions tableVersions;
+    private final boolean siempreAlArrancar;
+
+    public ResumenProveedoresJob(ResumenProveedorRepository resumenRepository,
+                                 TableVersions tableVersions,
+                                 @Value("${inventario.resumen.rebuild-on-startup:always}") String alArrancar) {
+        this.resumenRepository = resumenRepository;
+        this.tableVersions = tableVersions;
+        this.siempreAlArrancar = SemillasRollup.siempre("inventario.resumen.rebuild-on-startup", alArrancar);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void alArrancar() {
+        long existentes = siempreAlArrancar ? 0 : resumenRepository.count();
+        if (existentes == 0) {
+            reconstruir();
+        } else {
+            log.info("Resumen de proveedores conservado de la base ({} proveedores)", existentes);
+        }
+    }
+
+    @Transactional
+    public void reconstruir() {
+        int filas = resumenRepository.reconstruir();
+        resumenRepository.eliminarHuerfanos();
+        tableVersions.touch(TableVersions.PROVEEDORES);
+        log.info("Resumen de proveedores reconstruido ({} proveedores)", filas);
+    }
+
+    @Scheduled(initialDelayString = "${inventario.resumen.verify-interval-ms:600000}",
+               fixedDelayString = "${inventario.resumen.verify-interval-ms:600000}")
+    @Transactional
+    public void verificar() {
+        long desviaciones = resumenRepository.contarDesviaciones();
+        if (desviaciones > 0) {
+            log.warn("{} resúmenes de proveedor no coinciden con sus semillas; se recalculan", desviaciones);
+            reconstruir();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.unibague.inventario.service;
+
+import com.unibague.inventario.dto.SugerenciaResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * Caso de uso de autocompletado sobre los nombres de proveedores y semillas.
+ *
+ * <p>Mantiene un {@link NombreIndex} por entidad: se carga al arrancar y
+ * los servicios de escritura lo actualizan tras el commit, así que nunca
+ * sugiere nombres de transacciones revertidas y las búsquedas no consultan
+ * la base de datos.</p>
+ */
+@Service
+public class SearchNombresService {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchNombresService.class);
+
+    static final int DEFAULT_LIMIT = 10;
+    static final int MAX_LIMIT = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NombreIndex proveedores = new NombreIndex();
+    private final NombreIndex semillas = new NombreIndex();
+
+    public SearchNombresService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<SugerenciaResponse> sugerirProveedores(String q, Integer limit) {
+        return buscar(proveedores, q, limit);
+    }
+
+    public List<SugerenciaResponse> sugerirSemillas(String q, Integer limit) {
+        return buscar(semillas, q, limit);
+    }
+
+    public void proveedorGuardado(String nit, String nombre) {
+        despuesDelCommit(() -> proveedores.put(nit, nombre));
+    }
+
+    public void proveedorEliminado(String nit) {
+        despuesDelCommit(() -> proveedores.remove(nit));
+    }
+
+    public void semillaGuardada(String codigo, String nombre) {
+        despuesDelCommit(() -> semillas.put(codigo, nombre));
+    }
+
+    public void semillaEliminada(String codigo) {
+        despuesDelCommit(() -> semillas.remove(codigo));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void cargar() {
+        jdbcTemplate.query("select nit, nombre from proveedores",
+                rs -> { proveedores.put(rs.getString(1), rs.getString(2)); });
+        jdbcTemplate.query("select codigo, nombre from semillas",
+                rs -> { semillas.put(rs.getString(1), rs.getString(2)); });
+        log.info("Índice de nombres cargado ({} proveedores, {} semillas)", proveedores.size(), semillas.size());
+    }
+
+    private static List<SugerenciaResponse> buscar(NombreIndex index, String q, Integer limit) {
+        int n = (limit == null) ? DEFAULT_LIMIT : limit;
+        if (n < 1 || n > MAX_LIMIT) {
+            throw new IllegalArgumentException("El parámetro 'limit' debe estar entre 1 y " + MAX_LIMIT);
+        }
+        return index.buscar(q, n).stream()
+                .map(c -> new SugerenciaResponse(c.id(), c.nombre()))
+                .toList();
+    }
+
+    private static void despuesDelCommit(Runnable accion) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    accion.run();
+                }
+            });
+        } else {
+            accion.run();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.unibague.inventario.service;
+
+import com.unibague.inventario.entity.Semilla;
+import com.unibague.inventario.repository.SemillaEliminada;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Mantenimiento de los agregados de semillas por tipo, día y germinación.
+ *
+ * <p>Cada escritura registra su aporte (positivo o negativo) como una fila
+ * en {@code rollup_semillas_delta}, dentro de la misma transacción. Cada
+ * {@code inventario.rollup.compact-interval-ms} los deltas se suman en
+ * {@code rollup_semillas} y se borran. Las consultas leen ambas tablas, de
+ * modo que ven los cambios confirmados aunque aún no se hayan compactado.</p>
+ *
+ * <p>Al arrancar se recalculan desde las semillas; con una base en disco,
+ * {@code inventario.rollup.rebuild-on-startup=if-empty} conserva los del
+ * arranque anterior si los hay.</p>
+ */
+@Component
+public class SemillasRollup {
+
+    private static final Logger log = LoggerFactory.getLogger(SemillasRollup.class);
+
+    /** Tramos de germinación de un punto porcentual: 0..100. */
+    public static final int BINS = 101;
+
+    static final String BIN_SQL =
+            "least(greatest(cast(floor(porcentaje_germinacion) as int), 0), 100)";
+
+    private static final String COLUMNS =
+            "(tipo_semilla, dia, bin_germinacion, cantidad, stock_total, valor_stock, suma_germinacion)";
+
+    private static final String INSERT_SQL =
+            "insert into rollup_semillas_delta " + COLUMNS + " values (?, ?, ?, ?, ?, ?, ?)";
+
+    // Movimiento de stock de una semilla (mismo orden de parámetros que el
+    // volcado de contadores en memoria: delta, código)
+    public static final String DELTA_STOCK_SQL =
+            "insert into rollup_semillas_delta " + COLUMNS + " " +
+            "select tipo_semilla, cast(fecha_ingreso as date), " + BIN_SQL + ", 0, ?1, ?1 * precio, 0 " +
+            "from semillas where codigo = ?2";
+
+    private static final String COMPACT_SQL =
+            "merge into rollup_semillas r using (" +
+            "select tipo_semilla, dia, bin_germinacion, sum(cantidad) cantidad, sum(stock_total) stock_total, " +
+            "sum(valor_stock) valor_stock, sum(suma_germinacion) suma_germinacion " +
+            "from rollup_semillas_delta where id <= ? group by tipo_semilla, dia, bin_germinacion) d " +
+            "on (r.tipo_semilla = d.tipo_semilla and r.dia = d.dia and r.bin_germinacion = d.bin_germinacion) " +
+            "when matched then update set r.cantidad = r.cantidad + d.cantidad, " +
+            "r.stock_total = r.stock_total + d.stock_total, r.valor_stock = r.valor_stock + d.valor_stock, " +
+            "r.suma_germinacion = r.suma_germinacion + d.suma_germinacion " +
+            "when not matched then insert " + COLUMNS + " values (d.tipo_semilla, d.dia, d.bin_germinacion, " +
+            "d.cantidad, d.stock_total, d.valor_stock, d.suma_germinacion)";
+
+    private static final String REBUILD_SQL =
+            "insert into rollup_semillas " + COLUMNS + " " +
+            "select tipo_semilla, cast(fecha_ingreso as date), " + BIN_SQL + ", count(*), sum(stock), " +
+            "sum(precio * stock), sum(porcentaje_germinacion) from semillas " +
+            "group by tipo_semilla, cast(fecha_ingreso as date), " + BIN_SQL;
+
+    /** Aporte de una semilla (o su retirada, con signo negativo) a su grupo. */
+    public record Aporte(String tipoSemilla, LocalDateTime fechaIngreso, double germinacion,
+                         int cantidad, long stock, double valor) {
+
+        public static Aporte de(Semilla s, int signo) {
+            return new Aporte(s.getTipoSemilla(), s.getFechaIngreso(), s.getPorcentajeGerminacion(),
+                    signo, (long) signo * s.getStock(), signo * s.getPrecio() * s.getStock());
+        }
+
+        public static Aporte de(SemillaEliminada s) {
+            return new Aporte(s.getTipoSemilla(), s.getFechaIngreso(), s.getGerminacion(),
+                    -1, -s.getStock(), -s.getPrecio() * s.getStock());
+        }
+
+        public Aporte negado() {
+            return new Aporte(tipoSemilla, fechaIngreso, germinacion, -cantidad, -stock, -valor);
+        }
+
+        Object[] fila() {
+            return new Object[]{tipoSemilla, Date.valueOf(fechaIngreso.toLocalDate()), bin(germinacion),
+                    cantidad, stock, valor, cantidad * germinacion};
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean siempreAlArrancar;
+
+    public SemillasRollup(JdbcTemplate jdbcTemplate,
+                          @Value("${inventario.rollup.rebuild-on-startup:always}") String alArrancar) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.siempreAlArrancar = siempre("inventario.rollup.rebuild-on-startup", alArrancar);
+    }
+
+    /** {@code true} para {@code always}, {@code false} para {@code if-empty}. */
+    static boolean siempre(String propiedad, String valor) {
+        return switch (valor) {
+            case "always" -> true;
+            case "if-empty" -> false;
+            default -> throw new IllegalArgumentException(propiedad + " debe ser always o if-empty: " + valor);
+        };
+    }
+
+    /** Tramo de germinación (0..100) de un porcentaje. */
+    public static int bin(double germinacion) {
+        return (int) Math.max(0, Math.min(100, Math.floor(germinacion)));
+    }
+
+    /** Registra los aportes en la transacción en curso (un lote JDBC). */
+    public void registrar(List<Aporte> aportes) {
+        if (aportes.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, aportes.stream().map(Aporte::fila).toList());
+    }
+
+    /** Registra un movimiento de stock de una semilla ya aplicado en la BD. */
+    public void registrarStock(String codigo, int delta) {
+        jdbcTemplate.update(DELTA_STOCK_SQL, delta, codigo);
+    }
+
+    /**
+     * Suma los deltas pendientes en el agregado. Con REPEATABLE READ el
+     * MERGE y el DELETE ven exactamente el mismo conjunto de deltas, aunque
+     * otras transacciones confirmen nuevos mientras tanto.
+     */
+    @Scheduled(fixedDelayString = "${inventario.rollup.compact-interval-ms:5000}")
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public void compactar() {
+        Long hasta = jdbcTemplate.queryForObject("select max(id) from rollup_semillas_delta", Long.class);
+        if (hasta == null) {
+            return;
+        }
+        jdbcTemplate.update(COMPACT_SQL, hasta);
+        int deltas = jdbcTemplate.update("delete from rollup_semillas_delta where id <= ?", hasta);
+        jdbcTemplate.update("delete from rollup_semillas where cantidad = 0");
+        log.debug("Rollup de semillas compactado ({} deltas)", deltas);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void alArrancar() {
+        boolean conservar = !siempreAlArrancar && Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "select exists(select 1 from rollup_semillas) or exists(select 1 from rollup_semillas_delta) " +
+                "or not exists(select 1 from semillas)", Boolean.class));
+        if (conservar) {
+            log.info("Rollup de semillas conservado de la base");
+        } else {
+            reconstruir();
+        }
+    }
+
+    /** Recalcula los agregados desde cero (al arrancar, con los datos precargados). */
+    @Transactional
+    public void reconstruir() {
+        jdbcTemplate.update("delete from rollup_semillas_delta");
+        jdbcTemplate.update("delete from rollup_semillas");
+        int grupos = jdbcTemplate.update(REBUILD_SQL);
+        log.info("Rollup de semillas reconstruido ({} grupos)", grupos);
+    }
+}
@@ -0,0 +1,177 @@
+package com.unibague.inventario.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Copias en caliente de la base H2 en disco (perfil {@code file}).
+ *
+ * <p>Cada {@code inventario.h2.snapshots.interval-ms} se ejecuta
+ * {@code BACKUP TO}, que copia el fichero MVStore a un zip sin detener las
+ * escrituras, en {@code inventario.h2.snapshots.dir}; se conservan las
+ * {@code inventario.h2.snapshots.keep} más recientes. El zip se escribe con
+ * otro nombre y se renombra al terminar, de modo que una copia a medias
+ * nunca se toma por válida.</p>
+ *
+ * <p>{@link #restaurar} devuelve la última copia al directorio de la base
+ * antes de que se abra (ver {@code H2FileConfig}); basta con extraer el
+ * fichero del zip, sin reimportar nada.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "inventario.h2.snapshots.enabled", havingValue = "true")
+public class SnapshotsH2Job {
+
+    private static final Logger log = LoggerFactory.getLogger(SnapshotsH2Job.class);
+
+    /** Nombre de la base dentro de {@code inventario.h2.dir}. */
+    public static final String BASE = "inventario";
+
+    private static final String PREFIJO = BASE + "-";
+    private static final String EXTENSION = ".zip";
+    private static final DateTimeFormatter SELLO = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss.SSS'Z'");
+
+    private final JdbcTemplate jdbc;
+    private final Path directorio;
+    private final int conservar;
+
+    public SnapshotsH2Job(JdbcTemplate jdbc,
+                          @Value("${inventario.h2.snapshots.dir}") Path directorio,
+                          @Value("${inventario.h2.snapshots.keep:5}") int conservar) {
+        if (conservar < 1) {
+            throw new IllegalArgumentException("inventario.h2.snapshots.keep debe ser al menos 1: " + conservar);
+        }
+        this.jdbc = jdbc;
+        this.directorio = directorio.toAbsolutePath();
+        this.conservar = conservar;
+    }
+
+    @Scheduled(initialDelayString = "${inventario.h2.snapshots.interval-ms:900000}",
+               fixedDelayString = "${inventario.h2.snapshots.interval-ms:900000}")
+    public void programado() {
+        crear();
+    }
+
+    /** Hace una copia ahora y devuelve su ruta. */
+    public synchronized Path crear() {
+        long inicio = System.nanoTime();
+        Path destino = directorio.resolve(PREFIJO + SELLO.format(LocalDateTime.now(ZoneOffset.UTC)) + EXTENSION);
+        Path parcial = directorio.resolve(destino.getFileName() + ".parcial");
+        try {
+            Files.createDirectories(directorio);
+            jdbc.execute("BACKUP TO '" + parcial.toString().replace("'", "''") + "'");
+            Files.move(parcial, destino, StandardCopyOption.ATOMIC_MOVE);
+            podar();
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo guardar la copia " + destino, e);
+        }
+        log.info("Copia de la base guardada en {} ({} KB, {} ms)", destino, tamanoKb(destino),
+                (System.nanoTime() - inicio) / 1_000_000);
+        return destino;
+    }
+
+    public List<Path> copias() {
+        return copias(directorio);
+    }
+
+    private void podar() throws IOException {
+        List<Path> todas = copias(directorio);
+        for (Path vieja : todas.subList(0, Math.max(0, todas.size() - conservar))) {
+            Files.deleteIfExists(vieja);
+        }
+    }
+
+    /**
+     * Restaura la última copia de {@code copias} en {@code directorioBase}.
+     *
+     * @param modo {@code if-missing} (solo si la base no existe),
+     *             {@code always} (reemplaza la base actual) o {@code never}
+     * @return la copia restaurada, si se restauró alguna
+     */
+    public static Optional<Path> restaurar(Path directorioBase, Path copias, String modo) {
+        if (!modo.equals("if-missing") && !modo.equals("always") && !modo.equals("never")) {
+            throw new IllegalArgumentException("inventario.h2.restore debe ser if-missing, always o never: " + modo);
+        }
+        Path fichero = directorioBase.resolve(BASE + ".mv.db");
+        if (modo.equals("never") || (modo.equals("if-missing") && Files.exists(fichero))) {
+            return Optional.empty();
+        }
+        Optional<Path> ultima = copias(copias.toAbsolutePath()).stream().reduce((a, b) -> b);
+        if (ultima.isEmpty()) {
+            log.info("No hay copias en {}; la base se abre tal cual", copias);
+            return ultima;
+        }
+        long inicio = System.nanoTime();
+        try {
+            Files.createDirectories(directorioBase);
+            Files.deleteIfExists(directorioBase.resolve(BASE + ".trace.db"));
+            descomprimir(ultima.get(), fichero);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo restaurar " + ultima.get() + " en " + directorioBase, e);
+        }
+        log.info("Base restaurada desde {} ({} ms)", ultima.get(), (System.nanoTime() - inicio) / 1_000_000);
+        return ultima;
+    }
+
+    /**
+     * Extrae el fichero MVStore de la copia (la única entrada {@code .mv.db}
+     * que escribe {@code BACKUP TO}) sobre {@code fichero}.
+     */
+    private static void descomprimir(Path copia, Path fichero) throws IOException {
+        Path parcial = fichero.resolveSibling(fichero.getFileName() + ".parcial");
+        try (InputStream in = Files.newInputStream(copia); ZipInputStream zip = new ZipInputStream(in)) {
+            for (ZipEntry e = zip.getNextEntry(); e != null; e = zip.getNextEntry()) {
+                if (e.getName().endsWith(".mv.db")) {
+                    Files.copy(zip, parcial, StandardCopyOption.REPLACE_EXISTING);
+                    Files.move(parcial, fichero, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    return;
+                }
+            }
+        }
+        throw new IOException("La copia " + copia + " no contiene un fichero .mv.db");
+    }
+
+    /** Copias completas del directorio, de la más antigua a la más reciente. */
+    private static List<Path> copias(Path directorio) {
+        if (!Files.isDirectory(directorio)) {
+            return List.of();
+        }
+        try (Stream<Path> ficheros = Files.list(directorio)) {
+            return ficheros
+                    .filter(p -> p.getFileName().toString().startsWith(PREFIJO)
+                            && p.getFileName().toString().endsWith(EXTENSION))
+                    .sorted(Comparator.comparing(p -> p.getFileName().toString()))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo leer " + directorio, e);
+        }
+    }
+
+    private static long tamanoKb(Path p) {
+        try {
+            return Files.size(p) / 1024;
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.unibague.inventario.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Contador de cambios por tabla, usado para las ETag de los listados.
+ *
+ * <p>Cada servicio que escribe en una tabla llama a {@link #touch(String)};
+ * el contador se incrementa después del commit, de modo que una ETag nunca
+ * se asocia a datos sin confirmar. El prefijo aleatorio de arranque evita
+ * que dos ejecuciones distintas del servicio produzcan la misma ETag.</p>
+ */
+@Component
+public class TableVersions {
+
+    public static final String SEMILLAS = "semillas";
+    public static final String PROVEEDORES = "proveedores";
+
+    private final String boot = Long.toHexString(UUID.randomUUID().getMostSignificantBits());
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    /** Versión actual de la tabla, como texto opaco. */
+    public String version(String table) {
+        return boot + "-" + counter(table).get();
+    }
+
+    /** Registra un cambio en la tabla (tras el commit si hay transacción activa). */
+    public void touch(String table) {
+        AtomicLong c = counter(table);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    c.incrementAndGet();
+                }
+            });
+        } else {
+            c.incrementAndGet();
+        }
+    }
+
+    private AtomicLong counter(String table) {
+        return versions.computeIfAbsent(table, t -> new AtomicLong());
+    }
+}
@@ -0,0 +1,121 @@
+package com.unibague.inventario.service;
+
+import com.unibague.inventario.domain.exception.ProveedorNotFoundException;
+import com.unibague.inventario.dto.Top2SemillasResponse;
+import com.unibague.inventario.entity.Proveedor;
+import com.unibague.inventario.entity.Semilla;
+import com.unibague.inventario.mapper.ProveedorMapper;
+import com.unibague.inventario.mapper.SemillaMapper;
+import com.unibague.inventario.repository.ProveedorRepository;
+import com.unibague.inventario.repository.SemillaRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Caso de uso para obtener las últimas N semillas de uno o varios proveedores.
+ *
+ * <p>Independientemente del número de proveedores se ejecutan dos consultas:
+ * una para los proveedores y otra, con {@code ROW_NUMBER()} por proveedor,
+ * para sus semillas más recientes.</p>
+ */
+@Service
+public class TopSemillasService {
+
+    static final int MAX_N = 50;
+    static final int MAX_NITS = 500;
+
+    private final ProveedorRepository proveedorRepository;
+    private final SemillaRepository semillaRepository;
+
+    public TopSemillasService(ProveedorRepository proveedorRepository,
+                              SemillaRepository semillaRepository) {
+        this.proveedorRepository = proveedorRepository;
+        this.semillaRepository = semillaRepository;
+    }
+
+    /**
+     * Últimas {@code n} semillas de un proveedor.
+     *
+     * @throws ProveedorNotFoundException si el NIT no existe
+     */
+    @Transactional(readOnly = true)
+    public Top2SemillasResponse top(String nit, int n) {
+        List<Top2SemillasResponse> r = top(List.of(nit), n);
+        if (r.isEmpty()) {
+            throw new ProveedorNotFoundException(nit);
+        }
+        return r.get(0);
+    }
+
+    /**
+     * Últimas {@code n} semillas de cada proveedor indicado, en el orden
+     * recibido. Los NIT inexistentes se omiten del resultado.
+     */
+    @Transactional(readOnly = true)
+    public List<Top2SemillasResponse> top(Collection<String> nits, int n) {
+        validarN(n);
+        Set<String> unicos = nitsUnicos(nits);
+        Map<String, Proveedor> proveedores = proveedorRepository.findAllById(unicos).stream()
+                .collect(Collectors.toMap(Proveedor::getNit, Function.identity()));
+        List<Proveedor> ordenados = unicos.stream()
+                .map(proveedores::get)
+                .filter(p -> p != null)
+                .toList();
+        return agrupar(ordenados, semillaRepository.findTopNByProveedores(proveedores.keySet(), n));
+    }
+
+    /** Últimas {@code n} semillas de cada proveedor activo, ordenados por NIT. */
+    @Transactional(readOnly = true)
+    public List<Top2SemillasResponse> topActivos(int n) {
+        validarN(n);
+        List<Proveedor> activos = new ArrayList<>(proveedorRepository.findByActivo(true));
+        activos.sort(Comparator.comparing(Proveedor::getNit));
+        return agrupar(activos, semillaRepository.findTopNByProveedoresActivos(n));
+    }
+
+    private static List<Top2SemillasResponse> agrupar(List<Proveedor> proveedores, List<Semilla> semillas) {
+        // La consulta ya viene ordenada por proveedor y fecha descendente
+        Map<String, List<Semilla>> porNit = semillas.stream()
+                .collect(Collectors.groupingBy(s -> s.getProveedor().getNit()));
+        return proveedores.stream()
+                .map(p -> new Top2SemillasResponse(
+                        ProveedorMapper.toResponse(p),
+                        porNit.getOrDefault(p.getNit(), List.of()).stream()
+                                .map(SemillaMapper::toResponse)
+                                .toList()))
+                .toList();
+    }
+
+    /**
+     * NIT sin repetir, en el orden recibido.
+     *
+     * @throws IllegalArgumentException si no hay ninguno o superan {@value #MAX_NITS}
+     */
+    public static Set<String> nitsUnicos(Collection<String> nits) {
+        Set<String> unicos = new LinkedHashSet<>(nits);
+        if (unicos.isEmpty()) {
+            throw new IllegalArgumentException("Debe indicar al menos un NIT");
+        }
+        if (unicos.size() > MAX_NITS) {
+            throw new IllegalArgumentException("No se pueden consultar más de " + MAX_NITS + " proveedores a la vez");
+        }
+        return unicos;
+    }
+
+    /** @throws IllegalArgumentException si {@code n} está fuera de 1..{@value #MAX_N} */
+    public static void validarN(int n) {
+        if (n < 1 || n > MAX_N) {
+            throw new IllegalArgumentException("El parámetro 'n' debe estar entre 1 y " + MAX_N);
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package com.unibague.inventario.service;
 
+import com.unibague.inventario.config.CacheConfig;
+import com.unibague.inventario.domain.exception.PreconditionFailedException;
 import com.unibague.inventario.domain.exception.ProveedorNotFoundException;
 import com.unibague.inventario.dto.ProveedorRequest;
 import com.unibague.inventario.dto.ProveedorResponse;
 import com.unibague.inventario.entity.Proveedor;
 import com.unibague.inventario.mapper.ProveedorMapper;
 import com.unibague.inventario.repository.ProveedorRepository;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,25 +19,51 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class UpdateProveedorService {
     private final ProveedorRepository proveedorRepository;
+    private final SearchNombresService searchService;
+    private final TableVersions tableVersions;
 
-    public UpdateProveedorService(ProveedorRepository proveedorRepository) {
+    public UpdateProveedorService(ProveedorRepository proveedorRepository,
+                                  SearchNombresService searchService,
+                                  TableVersions tableVersions) {
         this.proveedorRepository = proveedorRepository;
+        this.searchService = searchService;
+        this.tableVersions = tableVersions;
     }
 
     /**
-     * Actualiza un proveedor con los datos proporcionados.
+     * Actualiza un proveedor con los datos proporcionados. Si la petición trae
+     * la versión leída y no coincide con la vigente se rechaza (409).
      *
      * @param nit     identificador del proveedor a actualizar
      * @param request DTO con los datos actualizados
      * @return DTO de salida
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PROVEEDORES, key = "#nit")
     public ProveedorResponse update(String nit, ProveedorRequest request) {
+        return update(nit, request, null);
+    }
+
+    /**
+     * Igual que {@link #update(String, ProveedorRequest)} pero condicionado a
+     * la versión indicada en la cabecera If-Match (412 si ya no es la vigente).
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PROVEEDORES, key = "#nit")
+    public ProveedorResponse update(String nit, ProveedorRequest request, Long ifMatchVersion) {
         Proveedor proveedor = proveedorRepository.findById(nit)
                 .orElseThrow(() -> new ProveedorNotFoundException(nit));
-        // Actualizar campos
+        if (ifMatchVersion != null && !ifMatchVersion.equals(proveedor.getVersion())) {
+            throw new PreconditionFailedException(nit);
+        }
+        if (request.getVersion() != null && !request.getVersion().equals(proveedor.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Proveedor.class, nit);
+        }
+        // Actualizar campos: la entidad está gestionada, el UPDATE sale al confirmar
         ProveedorMapper.updateEntity(proveedor, request);
-        proveedorRepository.save(proveedor);
+        proveedorRepository.flush();
+        searchService.proveedorGuardado(nit, proveedor.getNombre());
+        tableVersions.touch(TableVersions.PROVEEDORES);
         return ProveedorMapper.toResponse(proveedor);
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.unibague.inventario.service;
 
+import com.unibague.inventario.config.CacheConfig;
+import com.unibague.inventario.domain.exception.PreconditionFailedException;
 import com.unibague.inventario.domain.exception.ProveedorNotFoundException;
 import com.unibague.inventario.domain.exception.SemillaNotFoundException;
 import com.unibague.inventario.dto.SemillaRequest;
@@ -8,35 +10,122 @@ import com.unibague.inventario.entity.Proveedor;
 import com.unibague.inventario.entity.Semilla;
 import com.unibague.inventario.mapper.SemillaMapper;
 import com.unibague.inventario.repository.ProveedorRepository;
+import com.unibague.inventario.repository.ResumenProveedorRepository;
 import com.unibague.inventario.repository.SemillaRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 public class UpdateSemillaService {
     private final SemillaRepository semillaRepository;
     private final ProveedorRepository proveedorRepository;
+    private final EntityManager entityManager;
+    private final HotStockCounters hotCounters;
+    private final ResumenProveedorRepository resumenRepository;
+    private final SemillasRollup rollup;
+    private final SearchNombresService searchService;
+    private final TableVersions tableVersions;
 
     public UpdateSemillaService(SemillaRepository semillaRepository,
-                                ProveedorRepository proveedorRepository) {
+                                ProveedorRepository proveedorRepository,
+                                EntityManager entityManager,
+                                HotStockCounters hotCounters,
+                                ResumenProveedorRepository resumenRepository,
+                                SemillasRollup rollup,
+                                SearchNombresService searchService,
+                                TableVersions tableVersions) {
         this.semillaRepository = semillaRepository;
         this.proveedorRepository = proveedorRepository;
+        this.entityManager = entityManager;
+        this.hotCounters = hotCounters;
+        this.resumenRepository = resumenRepository;
+        this.rollup = rollup;
+        this.searchService = searchService;
+        this.tableVersions = tableVersions;
     }
 
+    /**
+     * Actualiza una semilla: un SELECT por clave y un UPDATE. El proveedor se
+     * asigna por referencia (sin SELECT); si no existe, la clave foránea
+     * falla y se responde 404. Si el cliente envía la versión que leyó y ya
+     * no es la vigente se responde 409 en lugar de sobrescribir.
+     */
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.SEMILLAS, key = "#codigo")
     public SemillaResponse update(String codigo, SemillaRequest request) {
+        return update(codigo, request, null);
+    }
+
+    /**
+     * Igual que {@link #update(String, SemillaRequest)} pero condicionado a la
+     * versión indicada en la cabecera If-Match (412 si ya no es la vigente).
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.SEMILLAS, key = "#codigo")
+    public SemillaResponse update(String codigo, SemillaRequest request, Long ifMatchVersion) {
         if (!codigo.equals(request.getCodigo())) {
             throw new IllegalArgumentException("El código de la URL y del cuerpo no coinciden");
         }
 
-        Semilla semilla = semillaRepository.findById(codigo)
+        // El PUT fija el stock de forma absoluta: volcar y soltar el contador en memoria
+        hotCounters.evict(codigo);
+
+        // El volcado no sube la versión: con contador, la fila se bloquea para
+        // que ningún volcado cambie el stock entre esta lectura y el UPDATE
+        Semilla semilla = (hotCounters.isHot(codigo)
+                ? semillaRepository.findForUpdate(codigo)
+                : semillaRepository.findById(codigo))
                 .orElseThrow(() -> new SemillaNotFoundException(codigo));
+        if (ifMatchVersion != null && !ifMatchVersion.equals(semilla.getVersion())) {
+            throw new PreconditionFailedException(codigo);
+        }
+        if (request.getVersion() != null && !request.getVersion().equals(semilla.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Semilla.class, codigo);
+        }
+
+        // Aporte anterior al resumen del proveedor, para restarlo tras el UPDATE
+        String nitAnterior = semilla.getProveedor().getNit();
+        int stockAnterior = semilla.getStock();
+        double valorAnterior = semilla.getPrecio() * semilla.getStock();
+        double germinacionAnterior = semilla.getPorcentajeGerminacion();
+        SemillasRollup.Aporte aporteAnterior = SemillasRollup.Aporte.de(semilla, 1);
 
-        Proveedor proveedor = proveedorRepository.findById(request.getProveedorNit())
-                .orElseThrow(() -> new ProveedorNotFoundException(request.getProveedorNit()));
+        Proveedor proveedor = proveedorRepository.getReferenceById(request.getProveedorNit());
 
         SemillaMapper.updateEntity(semilla, request, proveedor);
-        Semilla guardada = semillaRepository.save(semilla);
-        return SemillaMapper.toResponse(guardada);
+        try {
+            entityManager.flush();
+        } catch (PersistenceException ex) {
+            if (ConstraintViolations.isForeignKey(ex)) {
+                throw new ProveedorNotFoundException(request.getProveedorNit());
+            }
+            throw ex;
+        }
+
+        double valor = semilla.getPrecio() * semilla.getStock();
+        if (nitAnterior.equals(request.getProveedorNit())) {
+            if (semilla.getStock() != stockAnterior || valor != valorAnterior
+                    || semilla.getPorcentajeGerminacion() != germinacionAnterior) {
+                resumenRepository.aplicarDelta(nitAnterior, 0, semilla.getStock() - stockAnterior,
+                        valor - valorAnterior, semilla.getPorcentajeGerminacion() - germinacionAnterior);
+            }
+        } else {
+            resumenRepository.aplicarDelta(nitAnterior, -1, -stockAnterior, -valorAnterior, -germinacionAnterior);
+            resumenRepository.aplicarDelta(request.getProveedorNit(), 1, semilla.getStock(), valor,
+                    semilla.getPorcentajeGerminacion());
+        }
+        SemillasRollup.Aporte aporteNuevo = SemillasRollup.Aporte.de(semilla, 1);
+        if (!aporteNuevo.equals(aporteAnterior)) {
+            rollup.registrar(List.of(aporteAnterior.negado(), aporteNuevo));
+        }
+        searchService.semillaGuardada(codigo, semilla.getNombre());
+        tableVersions.touch(TableVersions.SEMILLAS);
+        return SemillaMapper.toResponse(semilla);
     }
 }
@@ -0,0 +1,65 @@
+-- Esquema inicial del inventario. Hibernate solo lo valida
+-- (spring.jpa.hibernate.ddl-auto=validate): cualquier cambio de tablas o
+-- columnas va en una migración nueva, nunca editando esta.
+
+create table proveedores (
+    nit            varchar(20)  not null,
+    nombre         varchar(255) not null,
+    ciudad         varchar(255) not null,
+    -- formas normalizadas (sin tildes ni mayúsculas) que usan los filtros
+    nombre_norm    varchar(255),
+    ciudad_norm    varchar(255),
+    telefono       varchar(255) not null,
+    fecha_registro timestamp(6) not null,
+    activo         boolean      not null,
+    version        bigint       not null,
+    primary key (nit)
+);
+
+create table semillas (
+    codigo                 varchar(20)  not null,
+    nombre                 varchar(255) not null,
+    precio                 float(53)    not null,
+    stock                  integer      not null,
+    tipo_semilla           varchar(255) not null,
+    porcentaje_germinacion float(53)    not null,
+    fecha_ingreso          timestamp(6) not null,
+    proveedor_nit          varchar(20)  not null,
+    version                bigint       not null,
+    primary key (codigo),
+    constraint fk_semillas_proveedor foreign key (proveedor_nit) references proveedores (nit)
+);
+
+-- Totales por proveedor, mantenidos de forma incremental (ResumenProveedor)
+create table resumen_proveedores (
+    proveedor_nit     varchar(20) not null,
+    cantidad_semillas bigint      not null,
+    stock_total       bigint      not null,
+    valor_stock       float(53)   not null,
+    suma_germinacion  float(53)   not null,
+    primary key (proveedor_nit)
+);
+
+-- Agregados por tipo, día y tramo de germinación (RollupSemilla) y sus deltas pendientes
+create table rollup_semillas (
+    tipo_semilla     varchar(255) not null,
+    dia              date         not null,
+    bin_germinacion  integer      not null,
+    cantidad         bigint       not null,
+    stock_total      bigint       not null,
+    valor_stock      float(53)    not null,
+    suma_germinacion float(53)    not null,
+    primary key (tipo_semilla, dia, bin_germinacion)
+);
+
+create table rollup_semillas_delta (
+    id               bigint generated by default as identity,
+    tipo_semilla     varchar(255) not null,
+    dia              date         not null,
+    bin_germinacion  integer      not null,
+    cantidad         bigint       not null,
+    stock_total      bigint       not null,
+    valor_stock      float(53)    not null,
+    suma_germinacion float(53)    not null,
+    primary key (id)
+);
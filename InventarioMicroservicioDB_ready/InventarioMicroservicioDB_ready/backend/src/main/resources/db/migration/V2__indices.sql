@@ -0,0 +1,22 @@
+-- Índices secundarios. Cada clave de orden de la paginación por cursor lleva
+-- la clave primaria como desempate, para que (campo, id) > (valor, id) recorra
+-- el índice en orden sin ordenar en memoria.
+
+-- semillas: claves de orden del listado
+create index idx_semillas_fecha_ingreso on semillas (fecha_ingreso, codigo);
+create index idx_semillas_precio on semillas (precio, codigo);
+create index idx_semillas_germinacion on semillas (porcentaje_germinacion, codigo);
+create index idx_semillas_stock on semillas (stock, codigo);
+
+-- semillas: filtros combinables del listado
+create index idx_semillas_tipo on semillas (tipo_semilla, codigo);
+-- semillas de un proveedor por fecha (también respalda la clave foránea)
+create index idx_semillas_proveedor_fecha on semillas (proveedor_nit, fecha_ingreso);
+
+-- proveedores: claves de orden del listado
+create index idx_proveedores_nombre on proveedores (nombre, nit);
+create index idx_proveedores_fecha_registro on proveedores (fecha_registro, nit);
+
+-- proveedores: filtros ciudad/activo sin distinguir mayúsculas ni tildes, ya en orden de NIT
+create index idx_proveedores_ciudad_activo on proveedores (ciudad_norm, activo, nit);
+create index idx_proveedores_activo on proveedores (activo, nit);
@@ -0,0 +1,6 @@
+-- Orden por defecto del listado de semillas con rango de germinación o de
+-- fechas: de mayor a menor. H2 no recorre un índice ascendente hacia atrás,
+-- así que cada clave lleva su índice descendente (con el código como
+-- desempate, también descendente) para leer la página sin ordenar en memoria.
+create index idx_semillas_germinacion_desc on semillas (porcentaje_germinacion desc, codigo desc);
+create index idx_semillas_fecha_ingreso_desc on semillas (fecha_ingreso desc, codigo desc);
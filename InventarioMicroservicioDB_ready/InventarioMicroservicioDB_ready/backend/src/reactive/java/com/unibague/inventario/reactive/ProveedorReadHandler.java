@@ -0,0 +1,228 @@
+package com.unibague.inventario.reactive;
+
+import com.unibague.inventario.controller.ETags;
+import com.unibague.inventario.domain.TextoNormalizado;
+import com.unibague.inventario.domain.exception.ProveedorNotFoundException;
+import com.unibague.inventario.dto.ProveedorResponse;
+import com.unibague.inventario.dto.SemillaResponse;
+import com.unibague.inventario.dto.Top2SemillasResponse;
+import com.unibague.inventario.repository.SemillaRepository;
+import com.unibague.inventario.service.SearchNombresService;
+import com.unibague.inventario.service.TableVersions;
+import com.unibague.inventario.service.TopSemillasService;
+import io.r2dbc.spi.Readable;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Lecturas de proveedores de la API reactiva ({@code GET /api/v1/proveedores/**}).
+ *
+ * <p>Cubre los GET de {@code ProveedorController} y
+ * {@code ProveedorExtraController} con las mismas respuestas y ETag. El
+ * listado incluye el resumen de inventario con un LEFT JOIN a
+ * {@code resumen_proveedores} y, como el de semillas, pagina por clave
+ * primaria o se emite como NDJSON.</p>
+ */
+final class ProveedorReadHandler {
+
+    static final String COLUMNS = "select p.nit, p.nombre, p.ciudad, p.telefono, p.fecha_registro, p.activo, p.version "
+            + "from proveedores p";
+
+    private static final String LIST_COLUMNS = "select p.nit, p.nombre, p.ciudad, p.telefono, p.fecha_registro, "
+            + "p.activo, p.version, r.cantidad_semillas, r.stock_total, r.valor_stock, r.suma_germinacion "
+            + "from proveedores p left join resumen_proveedores r on r.proveedor_nit = p.nit";
+
+    private final DatabaseClient db;
+    private final TableVersions tableVersions;
+    private final SearchNombresService searchService;
+
+    ProveedorReadHandler(DatabaseClient db,
+                         TableVersions tableVersions,
+                         SearchNombresService searchService) {
+        this.db = db;
+        this.tableVersions = tableVersions;
+        this.searchService = searchService;
+    }
+
+    Mono<ServerResponse> get(ServerRequest req) {
+        String nit = req.pathVariable("nit");
+        return db.sql(COLUMNS + " where p.nit = :nit")
+                .bind("nit", nit)
+                .map(ProveedorReadHandler::toResponse)
+                .one()
+                .switchIfEmpty(Mono.error(() -> new ProveedorNotFoundException(nit)))
+                .flatMap(p -> {
+                    String etag = ETags.ofProveedor(p);
+                    return req.checkNotModified(etag)
+                            .switchIfEmpty(Mono.defer(() -> ServerResponse.ok().eTag(etag).bodyValue(p)));
+                });
+    }
+
+    Mono<ServerResponse> list(ServerRequest req) {
+        // El listado incluye los totales de inventario: depende también de semillas
+        String etag = ETags.ofList(tableVersions.version(TableVersions.PROVEEDORES)
+                        + "." + tableVersions.version(TableVersions.SEMILLAS),
+                req.uri().getRawQuery());
+        return req.checkNotModified(etag).switchIfEmpty(Mono.defer(() -> {
+            boolean stream = ReadParams.stream(req);
+            Integer limit = ReadParams.limit(req, stream);
+            SqlWhere where = filtros(req);
+            String orden = orden(req);
+            if (stream) {
+                return ServerResponse.ok().eTag(etag)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .body(consultar(where, orden, limit), ProveedorResponse.class);
+            }
+            return consultar(where, orden, limit + 1).collectList().flatMap(filas -> {
+                ServerResponse.BodyBuilder ok = ServerResponse.ok().eTag(etag);
+                List<ProveedorResponse> pagina = filas;
+                if (filas.size() > limit) {
+                    pagina = filas.subList(0, limit);
+                    ok.header("X-Next-Cursor", pagina.get(limit - 1).getNit());
+                }
+                return ok.contentType(MediaType.APPLICATION_JSON).bodyValue(pagina);
+            });
+        }));
+    }
+
+    Mono<ServerResponse> sugerencias(ServerRequest req) {
+        return ServerResponse.ok().bodyValue(
+                searchService.sugerirProveedores(ReadParams.required(req, "q"), ReadParams.integer(req, "limit")));
+    }
+
+    Mono<ServerResponse> top2(ServerRequest req) {
+        String nit = req.pathVariable("nit");
+        return top(List.of(nit), 2)
+                .next()
+                .switchIfEmpty(Mono.error(() -> new ProveedorNotFoundException(nit)))
+                .flatMap(t -> ServerResponse.ok().bodyValue(t));
+    }
+
+    Mono<ServerResponse> top(ServerRequest req) {
+        Integer n = ReadParams.integer(req, "n");
+        int tamano = (n != null) ? n : 2;
+        List<String> nits = req.queryParams().getOrDefault("nits", List.of()).stream()
+                .flatMap(v -> Arrays.stream(v.split(",")))
+                .map(String::trim)
+                .filter(v -> !v.isEmpty())
+                .toList();
+        Flux<Top2SemillasResponse> r = nits.isEmpty() ? topActivos(tamano) : top(nits, tamano);
+        return r.collectList().flatMap(l -> ServerResponse.ok().bodyValue(l));
+    }
+
+    /** Como {@code TopSemillasService.top}: NIT en el orden recibido, los inexistentes se omiten. */
+    private Flux<Top2SemillasResponse> top(Collection<String> nits, int n) {
+        TopSemillasService.validarN(n);
+        Set<String> unicos = TopSemillasService.nitsUnicos(nits);
+        Mono<Map<String, ProveedorResponse>> proveedores = db.sql(COLUMNS + " where p.nit in (:nits)")
+                .bind("nits", unicos)
+                .map(ProveedorReadHandler::toResponse)
+                .all()
+                .collectMap(ProveedorResponse::getNit);
+        Mono<Map<String, Collection<SemillaResponse>>> semillas = db.sql(SemillaRepository.TOP_N_COLUMNS
+                        + "where s.proveedor_nit in (:nits)) t where t.rn <= :n order by t.proveedor_nit, t.rn")
+                .bind("nits", unicos)
+                .bind("n", n)
+                .map(SemillaReadHandler::toResponse)
+                .all()
+                .collectMultimap(SemillaResponse::getProveedorNit);
+        return Mono.zip(proveedores, semillas).flatMapMany(t -> Flux.fromIterable(unicos)
+                .filter(t.getT1()::containsKey)
+                .map(nit -> agrupar(t.getT1().get(nit), t.getT2())));
+    }
+
+    /** Como {@code TopSemillasService.topActivos}: proveedores activos ordenados por NIT. */
+    private Flux<Top2SemillasResponse> topActivos(int n) {
+        TopSemillasService.validarN(n);
+        Flux<ProveedorResponse> proveedores = db.sql(COLUMNS + " where p.activo = true order by p.nit")
+                .map(ProveedorReadHandler::toResponse)
+                .all();
+        Mono<Map<String, Collection<SemillaResponse>>> semillas = db.sql(SemillaRepository.TOP_N_COLUMNS
+                        + "where s.proveedor_nit in (select p.nit from proveedores p where p.activo = true)) t "
+                        + "where t.rn <= :n order by t.proveedor_nit, t.rn")
+                .bind("n", n)
+                .map(SemillaReadHandler::toResponse)
+                .all()
+                .collectMultimap(SemillaResponse::getProveedorNit);
+        return semillas.flatMapMany(porNit -> proveedores.map(p -> agrupar(p, porNit)));
+    }
+
+    private static Top2SemillasResponse agrupar(ProveedorResponse p, Map<String, Collection<SemillaResponse>> porNit) {
+        Collection<SemillaResponse> s = porNit.get(p.getNit());
+        return new Top2SemillasResponse(p, s != null ? List.copyOf(s) : List.of());
+    }
+
+    /** Filtros combinables del listado sobre las columnas normalizadas. */
+    private static SqlWhere filtros(ServerRequest req) {
+        String nombre = ReadParams.text(req, "nombre");
+        String ciudad = ReadParams.text(req, "ciudad");
+        Boolean activo = ReadParams.bool(req, "activo");
+        return new SqlWhere()
+                .and("p.nombre_norm like :nombre", "nombre",
+                        nombre != null ? "%" + TextoNormalizado.normalizar(nombre) + "%" : null)
+                .and("p.ciudad_norm = :ciudad", "ciudad",
+                        ciudad != null ? TextoNormalizado.normalizar(ciudad) : null)
+                .and("p.activo = :activo", "activo", activo)
+                .and("p.nit > :after", "after", ReadParams.text(req, "after"));
+    }
+
+    /**
+     * Como {@code ListProveedoresService}: con ciudad y activo, o solo activo,
+     * fijos el orden empieza por esas columnas para que H2 lo lea ya ordenado
+     * de {@code idx_proveedores_ciudad_activo} o {@code idx_proveedores_activo}.
+     */
+    private static String orden(ServerRequest req) {
+        if (ReadParams.bool(req, "activo") == null) {
+            return " order by p.nit";
+        }
+        return ReadParams.text(req, "ciudad") != null
+                ? " order by p.ciudad_norm, p.activo, p.nit"
+                : " order by p.activo, p.nit";
+    }
+
+    private Flux<ProveedorResponse> consultar(SqlWhere where, String orden, Integer limit) {
+        String sql = LIST_COLUMNS + where.sql() + orden + (limit != null ? " limit " + limit : "");
+        return where.bind(db.sql(sql))
+                .map(ProveedorReadHandler::toResponseConResumen)
+                .all();
+    }
+
+    static ProveedorResponse toResponse(Readable row) {
+        LocalDateTime fecha = row.get("fecha_registro", LocalDateTime.class);
+        ProveedorResponse r = new ProveedorResponse(
+                row.get("nit", String.class),
+                row.get("nombre", String.class),
+                row.get("ciudad", String.class),
+                row.get("telefono", String.class),
+                fecha != null ? fecha.toString() : null,
+                Boolean.TRUE.equals(row.get("activo", Boolean.class)));
+        r.setVersion(row.get("version", Long.class));
+        return r;
+    }
+
+    /** Como {@code ProveedorMapper.toResponse(p, resumen)}: sin resumen, totales en cero. */
+    private static ProveedorResponse toResponseConResumen(Readable row) {
+        ProveedorResponse r = toResponse(row);
+        Long cantidad = row.get("cantidad_semillas", Long.class);
+        Long stock = row.get("stock_total", Long.class);
+        Double valor = row.get("valor_stock", Double.class);
+        Double germinacion = row.get("suma_germinacion", Double.class);
+        long c = (cantidad != null) ? cantidad : 0L;
+        r.setCantidadSemillas(c);
+        r.setStockTotal(stock != null ? stock : 0L);
+        r.setValorStock(valor != null ? valor : 0.0);
+        r.setGerminacionPromedio(c > 0 && germinacion != null ? germinacion / c : null);
+        return r;
+    }
+}
@@ -0,0 +1,131 @@
+package com.unibague.inventario.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unibague.inventario.service.AnalyticsSemillasService;
+import com.unibague.inventario.service.HotStockCounters;
+import com.unibague.inventario.service.SearchNombresService;
+import com.unibague.inventario.service.TableVersions;
+import com.unibague.inventario.repository.H2Sql;
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsWebFilter;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.util.List;
+
+/**
+ * API de lectura reactiva (opcional): sirve los GET de semillas y
+ * proveedores con WebFlux funcional sobre Reactor Netty, en un puerto
+ * propio, y lee la BD con R2DBC.
+ *
+ * <p>Se activa con {@code inventario.reactive.enabled=true} y convive con
+ * la API MVC, que sigue atendiendo las escrituras: ambas usan la misma base
+ * H2 (la URL R2DBC se deriva de {@code spring.datasource.url}), las mismas
+ * ETag y el mismo contador de versiones de tabla. Un hilo de Tomcat ya no
+ * queda ocupado durante toda la lectura, y los listados en NDJSON se emiten
+ * según la demanda del cliente en lugar de acumularse en memoria.</p>
+ *
+ * <p>El pool R2DBC no se publica como bean: un {@code ConnectionFactory} en
+ * el contexto desactivaría el {@code DataSource} de JPA.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "inventario.reactive.enabled", havingValue = "true")
+public class ReactiveReadServer implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveReadServer.class);
+
+    private final ConnectionPool pool;
+    private final HttpHandler httpHandler;
+    private final int port;
+    private volatile DisposableServer server;
+
+    public ReactiveReadServer(@Value("${spring.datasource.url}") String jdbcUrl,
+                              @Value("${spring.datasource.username:sa}") String username,
+                              @Value("${spring.datasource.password:}") String password,
+                              @Value("${inventario.reactive.port:8081}") int port,
+                              @Value("${inventario.reactive.pool-max-size:20}") int poolMaxSize,
+                              ObjectMapper objectMapper,
+                              HotStockCounters hotCounters,
+                              TableVersions tableVersions,
+                              SearchNombresService searchService,
+                              AnalyticsSemillasService analyticsService) {
+        H2Sql.requireH2(jdbcUrl, "La API reactiva");
+        H2ConnectionConfiguration config = H2ConnectionConfiguration.builder()
+                .url(jdbcUrl.substring(H2Sql.JDBC_H2.length()))
+                .username(username)
+                .password(password)
+                .build();
+        this.pool = new ConnectionPool(ConnectionPoolConfiguration.builder(new H2ConnectionFactory(config))
+                .maxSize(poolMaxSize)
+                .build());
+        DatabaseClient db = DatabaseClient.create(pool);
+
+        // Mismo ObjectMapper que la API MVC (fechas ISO, zona UTC)
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(c -> {
+                    c.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    c.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .webFilter(new CorsWebFilter(cors()))
+                .build();
+        this.httpHandler = RouterFunctions.toHttpHandler(ReadRoutes.router(
+                new SemillaReadHandler(db, hotCounters, tableVersions, searchService, analyticsService),
+                new ProveedorReadHandler(db, tableVersions, searchService)), strategies);
+        this.port = port;
+    }
+
+    @Override
+    public void start() {
+        server = HttpServer.create()
+                .port(port)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+        log.info("API de lectura reactiva escuchando en el puerto {}", server.port());
+    }
+
+    @Override
+    public void stop() {
+        DisposableServer s = server;
+        server = null;
+        if (s != null) {
+            s.disposeNow();
+        }
+        pool.dispose();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /** Mismas reglas que {@code CorsConfig}, limitadas a lectura. */
+    private static UrlBasedCorsConfigurationSource cors() {
+        CorsConfiguration c = new CorsConfiguration();
+        c.addAllowedOrigin("*");
+        c.setAllowedMethods(List.of("GET", "OPTIONS"));
+        c.addAllowedHeader("*");
+        c.setExposedHeaders(List.of("X-Next-Cursor", "X-Total-Count", HttpHeaders.ETAG));
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", c);
+        return source;
+    }
+}
@@ -0,0 +1,100 @@
+package com.unibague.inventario.reactive;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.ServerRequest;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Lectura de parámetros de la query string para los handlers reactivos.
+ *
+ * <p>Los formatos inválidos se informan con {@link IllegalArgumentException}
+ * y los mismos mensajes que la API MVC, que el router traduce a 400.</p>
+ */
+final class ReadParams {
+
+    static final int DEFAULT_LIMIT = 50;
+    static final int MAX_LIMIT = 500;
+
+    private ReadParams() {}
+
+    /** Valor sin espacios del parámetro, o {@code null} si falta o está en blanco. */
+    static String text(ServerRequest req, String name) {
+        return req.queryParam(name)
+                .filter(v -> !v.isBlank())
+                .map(String::trim)
+                .orElse(null);
+    }
+
+    static String required(ServerRequest req, String name) {
+        return req.queryParam(name)
+                .orElseThrow(() -> new IllegalArgumentException("Falta el parámetro obligatorio '" + name + "'"));
+    }
+
+    static Integer integer(ServerRequest req, String name) {
+        String v = text(req, name);
+        if (v == null) return null;
+        try {
+            return Integer.valueOf(v);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Valor entero inválido para '" + name + "': " + v);
+        }
+    }
+
+    static Double decimal(ServerRequest req, String name) {
+        String v = text(req, name);
+        if (v == null) return null;
+        try {
+            return Double.valueOf(v);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Valor numérico inválido para '" + name + "': " + v);
+        }
+    }
+
+    /** Solo {@code true} o {@code false} (sin distinguir mayúsculas). */
+    static Boolean bool(ServerRequest req, String name) {
+        String v = text(req, name);
+        if (v == null) return null;
+        if (v.equalsIgnoreCase("true")) return Boolean.TRUE;
+        if (v.equalsIgnoreCase("false")) return Boolean.FALSE;
+        throw new IllegalArgumentException("Valor booleano inválido para '" + name + "' (use true o false): " + v);
+    }
+
+    static LocalDateTime fecha(ServerRequest req, String name) {
+        String v = text(req, name);
+        if (v == null) return null;
+        try {
+            return LocalDateTime.parse(v);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Fecha inválida para '" + name
+                    + "' (formato esperado yyyy-MM-dd'T'HH:mm:ss): " + v);
+        }
+    }
+
+    /**
+     * Tamaño de página. En streaming ({@code Accept: application/x-ndjson})
+     * es opcional y sin máximo: {@code null} recorre todas las filas. Una
+     * página JSON tiene siempre límite, {@value #DEFAULT_LIMIT} si no se
+     * indica, igual que en la API MVC.
+     */
+    static Integer limit(ServerRequest req, boolean stream) {
+        Integer limit = integer(req, "limit");
+        if (limit == null) {
+            return stream ? null : DEFAULT_LIMIT;
+        }
+        if (stream && limit < 1) {
+            throw new IllegalArgumentException("El parámetro 'limit' debe ser mayor que 0");
+        }
+        if (!stream && (limit < 1 || limit > MAX_LIMIT)) {
+            throw new IllegalArgumentException("El parámetro 'limit' debe estar entre 1 y " + MAX_LIMIT);
+        }
+        return limit;
+    }
+
+    /** El cliente pide el listado como flujo NDJSON en lugar de una página JSON. */
+    static boolean stream(ServerRequest req) {
+        return req.headers().accept().stream()
+                .anyMatch(m -> m.isConcrete() && m.isCompatibleWith(MediaType.APPLICATION_NDJSON));
+    }
+}
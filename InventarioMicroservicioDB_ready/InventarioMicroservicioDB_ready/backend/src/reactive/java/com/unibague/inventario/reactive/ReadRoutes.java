@@ -0,0 +1,65 @@
+package com.unibague.inventario.reactive;
+
+import com.unibague.inventario.domain.exception.ProveedorNotFoundException;
+import com.unibague.inventario.domain.exception.SemillaNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+/**
+ * Rutas de la API de lectura reactiva y traducción de errores.
+ *
+ * <p>Las rutas fijas se declaran antes que las que llevan variable para
+ * que {@code /sugerencias} o {@code /top} no se tomen como un código o un
+ * NIT. Los errores producen el mismo cuerpo que {@code RestExceptionHandler}.</p>
+ */
+final class ReadRoutes {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadRoutes.class);
+
+    private ReadRoutes() {}
+
+    static RouterFunction<ServerResponse> router(SemillaReadHandler semillas, ProveedorReadHandler proveedores) {
+        return route()
+                .GET("/api/v1/semillas", semillas::list)
+                .GET("/api/v1/semillas/sugerencias", semillas::sugerencias)
+                .GET("/api/v1/semillas/analytics", semillas::analytics)
+                .GET("/api/v1/semillas/export", semillas::export)
+                .GET("/api/v1/semillas/{codigo}", semillas::get)
+                .GET("/api/v1/proveedores", proveedores::list)
+                .GET("/api/v1/proveedores/sugerencias", proveedores::sugerencias)
+                .GET("/api/v1/proveedores/top", proveedores::top)
+                .GET("/api/v1/proveedores/{nit}/top2", proveedores::top2)
+                .GET("/api/v1/proveedores/{nit}", proveedores::get)
+                // Los handlers pueden lanzar al validar parámetros, antes de devolver el Mono
+                .filter((req, next) -> Mono.defer(() -> next.handle(req)).onErrorResume(ReadRoutes::error))
+                .build();
+    }
+
+    private static Mono<ServerResponse> error(Throwable ex) {
+        HttpStatus status;
+        if (ex instanceof IllegalArgumentException) {
+            status = HttpStatus.BAD_REQUEST;
+        } else if (ex instanceof SemillaNotFoundException || ex instanceof ProveedorNotFoundException) {
+            status = HttpStatus.NOT_FOUND;
+        } else {
+            status = HttpStatus.INTERNAL_SERVER_ERROR;
+            log.error("Error en la API de lectura reactiva", ex);
+        }
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", status.value());
+        body.put("error", status.getReasonPhrase());
+        body.put("message", ex.getMessage());
+        return ServerResponse.status(status).bodyValue(body);
+    }
+}
@@ -0,0 +1,177 @@
+package com.unibague.inventario.reactive;
+
+import com.unibague.inventario.controller.ETags;
+import com.unibague.inventario.domain.exception.SemillaNotFoundException;
+import com.unibague.inventario.dto.SemillaResponse;
+import com.unibague.inventario.service.AnalyticsSemillasService;
+import com.unibague.inventario.service.ExportSemillasService;
+import com.unibague.inventario.service.HotStockCounters;
+import com.unibague.inventario.service.SearchNombresService;
+import com.unibague.inventario.service.TableVersions;
+import io.r2dbc.spi.Readable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Lecturas de semillas de la API reactiva ({@code GET /api/v1/semillas/**}).
+ *
+ * <p>Las respuestas tienen la misma forma y ETag que las de
+ * {@code SemillaController}. El listado se ordena por código y pagina con
+ * {@code after=<último código>}; con {@code Accept: application/x-ndjson}
+ * se emite como flujo, fila a fila según la demanda del cliente.</p>
+ */
+final class SemillaReadHandler {
+
+    static final String COLUMNS = "select codigo, nombre, precio, stock, tipo_semilla, porcentaje_germinacion, "
+            + "fecha_ingreso, proveedor_nit, version from semillas";
+
+    private final DatabaseClient db;
+    private final HotStockCounters hotCounters;
+    private final TableVersions tableVersions;
+    private final SearchNombresService searchService;
+    private final AnalyticsSemillasService analyticsService;
+
+    SemillaReadHandler(DatabaseClient db,
+                       HotStockCounters hotCounters,
+                       TableVersions tableVersions,
+                       SearchNombresService searchService,
+                       AnalyticsSemillasService analyticsService) {
+        this.db = db;
+        this.hotCounters = hotCounters;
+        this.tableVersions = tableVersions;
+        this.searchService = searchService;
+        this.analyticsService = analyticsService;
+    }
+
+    Mono<ServerResponse> get(ServerRequest req) {
+        String codigo = req.pathVariable("codigo");
+        return db.sql(COLUMNS + " where codigo = :codigo")
+                .bind("codigo", codigo)
+                .map(SemillaReadHandler::toResponse)
+                .one()
+                .switchIfEmpty(Mono.error(() -> new SemillaNotFoundException(codigo)))
+                .map(hotCounters::overlay)
+                .flatMap(r -> {
+                    String etag = ETags.ofSemilla(r);
+                    return req.checkNotModified(etag)
+                            .switchIfEmpty(Mono.defer(() -> ServerResponse.ok().eTag(etag).bodyValue(r)));
+                });
+    }
+
+    Mono<ServerResponse> list(ServerRequest req) {
+        String etag = ETags.ofList(tableVersions.version(TableVersions.SEMILLAS), req.uri().getRawQuery());
+        return req.checkNotModified(etag).switchIfEmpty(Mono.defer(() -> {
+            boolean stream = ReadParams.stream(req);
+            Integer limit = ReadParams.limit(req, stream);
+            SqlWhere where = filtros(req);
+            if (stream) {
+                return ServerResponse.ok().eTag(etag)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .body(consultar(where, orden(req), limit), SemillaResponse.class);
+            }
+            // Una fila de más indica si existe página siguiente
+            return consultar(where, orden(req), limit + 1).collectList().flatMap(filas -> {
+                ServerResponse.BodyBuilder ok = ServerResponse.ok().eTag(etag);
+                List<SemillaResponse> pagina = filas;
+                if (filas.size() > limit) {
+                    pagina = filas.subList(0, limit);
+                    ok.header("X-Next-Cursor", pagina.get(limit - 1).getCodigo());
+                }
+                return ok.contentType(MediaType.APPLICATION_JSON).bodyValue(pagina);
+            });
+        }));
+    }
+
+    Mono<ServerResponse> sugerencias(ServerRequest req) {
+        // Índice en memoria: no bloquea
+        return ServerResponse.ok().bodyValue(
+                searchService.sugerirSemillas(ReadParams.required(req, "q"), ReadParams.integer(req, "limit")));
+    }
+
+    Mono<ServerResponse> analytics(ServerRequest req) {
+        // Lectura JDBC sobre los agregados: fuera del event loop
+        return Mono.fromCallable(() -> analyticsService.resumen(
+                        ReadParams.text(req, "agrupar"),
+                        ReadParams.text(req, "tipo"),
+                        ReadParams.text(req, "desde"),
+                        ReadParams.text(req, "hasta")))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(r -> ServerResponse.ok().bodyValue(r));
+    }
+
+    Mono<ServerResponse> export(ServerRequest req) {
+        ExportSemillasService.Formato formato = ExportSemillasService.formato(ReadParams.text(req, "format"));
+        Flux<SemillaResponse> filas = db.sql(COLUMNS + " order by codigo")
+                .map(row -> hotCounters.overlay(toResponse(row)))
+                .all();
+        if (formato == ExportSemillasService.Formato.CSV) {
+            Flux<String> lineas = Flux.concat(
+                    Mono.just(ExportSemillasService.CSV_HEADER + "\n"),
+                    filas.map(s -> ExportSemillasService.csvLine(s) + "\n"));
+            return ServerResponse.ok()
+                    .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"semillas.csv\"")
+                    .body(lineas, String.class);
+        }
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"semillas.ndjson\"")
+                .body(filas, SemillaResponse.class);
+    }
+
+    /** Mismos filtros combinables que el listado MVC, sobre columnas indexadas. */
+    private static SqlWhere filtros(ServerRequest req) {
+        return new SqlWhere()
+                .and("tipo_semilla = :tipo", "tipo", ReadParams.text(req, "tipo"))
+                .and("proveedor_nit = :nit", "nit", ReadParams.text(req, "proveedorNit"))
+                .and("porcentaje_germinacion >= :gMin", "gMin", ReadParams.decimal(req, "germinacionMin"))
+                .and("porcentaje_germinacion <= :gMax", "gMax", ReadParams.decimal(req, "germinacionMax"))
+                .and("fecha_ingreso >= :desde", "desde", ReadParams.fecha(req, "desde"))
+                .and("fecha_ingreso <= :hasta", "hasta", ReadParams.fecha(req, "hasta"))
+                .and("precio >= :pMin", "pMin", ReadParams.decimal(req, "precioMin"))
+                .and("precio <= :pMax", "pMax", ReadParams.decimal(req, "precioMax"))
+                .and("stock >= :sMin", "sMin", ReadParams.integer(req, "stockMin"))
+                .and("stock <= :sMax", "sMax", ReadParams.integer(req, "stockMax"))
+                .and("codigo > :after", "after", ReadParams.text(req, "after"));
+    }
+
+    /**
+     * Con {@code tipo} fijo el orden por {@code (tipo_semilla, codigo)} es el
+     * mismo que por código, pero H2 lo lee ya ordenado del índice compuesto.
+     */
+    private static String orden(ServerRequest req) {
+        return ReadParams.text(req, "tipo") != null ? " order by tipo_semilla, codigo" : " order by codigo";
+    }
+
+    private Flux<SemillaResponse> consultar(SqlWhere where, String orden, Integer limit) {
+        String sql = COLUMNS + where.sql() + orden + (limit != null ? " limit " + limit : "");
+        return where.bind(db.sql(sql))
+                .map(row -> hotCounters.overlay(toResponse(row)))
+                .all();
+    }
+
+    static SemillaResponse toResponse(Readable row) {
+        LocalDateTime fecha = row.get("fecha_ingreso", LocalDateTime.class);
+        SemillaResponse r = new SemillaResponse(
+                row.get("codigo", String.class),
+                row.get("nombre", String.class),
+                row.get("precio", Double.class),
+                row.get("stock", Integer.class),
+                row.get("tipo_semilla", String.class),
+                row.get("porcentaje_germinacion", Double.class),
+                row.get("proveedor_nit", String.class),
+                fecha != null ? fecha.toString() : null);
+        r.setVersion(row.get("version", Long.class));
+        return r;
+    }
+}
@@ -0,0 +1,40 @@
+package com.unibague.inventario.reactive;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Cláusula WHERE armada a partir de filtros opcionales.
+ *
+ * <p>Cada condición lleva su parámetro con nombre; las que reciben un valor
+ * {@code null} se omiten, igual que los predicados de las Specifications de
+ * la API MVC.</p>
+ */
+final class SqlWhere {
+
+    private final StringJoiner condiciones = new StringJoiner(" and ", " where ", "").setEmptyValue("");
+    private final Map<String, Object> valores = new LinkedHashMap<>();
+
+    /** Añade {@code condicion} si {@code valor} no es {@code null}. */
+    SqlWhere and(String condicion, String param, Object valor) {
+        if (valor != null) {
+            condiciones.add(condicion);
+            valores.put(param, valor);
+        }
+        return this;
+    }
+
+    String sql() {
+        return condiciones.toString();
+    }
+
+    DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec) {
+        for (Map.Entry<String, Object> e : valores.entrySet()) {
+            spec = spec.bind(e.getKey(), e.getValue());
+        }
+        return spec;
+    }
+}
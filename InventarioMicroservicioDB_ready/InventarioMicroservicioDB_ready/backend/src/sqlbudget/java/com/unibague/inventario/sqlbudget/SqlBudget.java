@@ -0,0 +1,149 @@
+package com.unibague.inventario.sqlbudget;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Presupuesto de sentencias SQL por endpoint.
+ *
+ * <p>Cada llamada a {@link #esperar} envía una petición a la API y lee la
+ * cabecera {@code X-SQL-Count} que añade {@code SqlAccountingFilter}; si el
+ * número de sentencias supera el máximo declarado, o la respuesta no es
+ * 2xx/304, se anota una infracción. {@link #exacto} exige además el
+ * número justo de sentencias y un código HTTP concreto, para las rutas de
+ * escritura y sus errores (409, 404, 412). {@link #verificar()} lanza
+ * {@link AssertionError} con todas ellas.</p>
+ *
+ * <pre>
+ * SqlBudget budget = new SqlBudget("http://localhost:8080/api/v1");
+ * budget.esperar("listar semillas", budget.get("/semillas?limit=50"), 1);
+ * budget.verificar();
+ * </pre>
+ */
+public final class SqlBudget {
+
+    /**
+     * Resultado de una comprobación. Con {@code statusEsperado} 0 vale
+     * cualquier 2xx/304 y {@code maximo} es un tope; si no, el código debe
+     * coincidir y las sentencias deben ser exactamente {@code maximo}.
+     */
+    public record Medida(String nombre, String metodo, String ruta, int status, int sentencias, int maximo,
+                         int statusEsperado) {
+        boolean cumple() {
+            if (sentencias < 0) {
+                return false;
+            }
+            if (statusEsperado == 0) {
+                return (status / 100 == 2 || status == 304) && sentencias <= maximo;
+            }
+            return status == statusEsperado && sentencias == maximo;
+        }
+    }
+
+    private final String base;
+    private final HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final List<Medida> medidas = new ArrayList<>();
+
+    public SqlBudget(String base) {
+        this.base = base.replaceAll("/+$", "");
+    }
+
+    public HttpRequest get(String ruta) {
+        return peticion("GET", ruta, null);
+    }
+
+    public HttpRequest post(String ruta, String json) {
+        return peticion("POST", ruta, json);
+    }
+
+    public HttpRequest put(String ruta, String json) {
+        return peticion("PUT", ruta, json);
+    }
+
+    /** PUT condicionado a la ETag {@code ifMatch}. */
+    public HttpRequest put(String ruta, String json, String ifMatch) {
+        HttpRequest r = put(ruta, json);
+        return HttpRequest.newBuilder(r, (k, v) -> true).header("If-Match", ifMatch).build();
+    }
+
+    public HttpRequest patch(String ruta, String json) {
+        return peticion("PATCH", ruta, json);
+    }
+
+    public HttpRequest delete(String ruta) {
+        return peticion("DELETE", ruta, null);
+    }
+
+    /** DELETE condicionado a la ETag {@code ifMatch}. */
+    public HttpRequest delete(String ruta, String ifMatch) {
+        HttpRequest r = delete(ruta);
+        return HttpRequest.newBuilder(r, (k, v) -> true).header("If-Match", ifMatch).build();
+    }
+
+    /**
+     * Envía la petición y comprueba que no ejecute más de {@code maximo}
+     * sentencias.
+     */
+    public Medida esperar(String nombre, HttpRequest request, int maximo) throws IOException, InterruptedException {
+        return medir(nombre, request, maximo, 0);
+    }
+
+    /**
+     * Envía la petición y comprueba que responda {@code status} con
+     * exactamente {@code sentencias} sentencias.
+     */
+    public Medida exacto(String nombre, HttpRequest request, int status, int sentencias)
+            throws IOException, InterruptedException {
+        return medir(nombre, request, sentencias, status);
+    }
+
+    /** ETag vigente de un recurso; la lectura no cuenta para el presupuesto. */
+    public String etag(String ruta) throws IOException, InterruptedException {
+        HttpResponse<Void> r = http.send(get(ruta), HttpResponse.BodyHandlers.discarding());
+        return r.headers().firstValue("ETag")
+                .orElseThrow(() -> new AssertionError("GET " + ruta + " sin ETag (HTTP " + r.statusCode() + ")"));
+    }
+
+    private Medida medir(String nombre, HttpRequest request, int maximo, int statusEsperado)
+            throws IOException, InterruptedException {
+        HttpResponse<Void> r = http.send(request, HttpResponse.BodyHandlers.discarding());
+        int sentencias = r.headers().firstValue("X-SQL-Count").map(Integer::parseInt).orElse(-1);
+        Medida m = new Medida(nombre, request.method(), request.uri().getRawPath()
+                + (request.uri().getRawQuery() != null ? "?" + request.uri().getRawQuery() : ""),
+                r.statusCode(), sentencias, maximo, statusEsperado);
+        medidas.add(m);
+        return m;
+    }
+
+    public List<Medida> medidas() {
+        return List.copyOf(medidas);
+    }
+
+    /** Lanza {@link AssertionError} si alguna comprobación no se cumplió. */
+    public void verificar() {
+        List<String> fallos = medidas.stream().filter(m -> !m.cumple())
+                .map(m -> m.nombre() + " (" + m.metodo() + " " + m.ruta() + "): HTTP " + m.status()
+                        + (m.statusEsperado() == 0 ? "" : " (esperado " + m.statusEsperado() + ")")
+                        + ", " + (m.sentencias() < 0 ? "sin cabecera X-SQL-Count" : m.sentencias() + " sentencias")
+                        + (m.statusEsperado() == 0 ? ", máximo " : ", exactas ") + m.maximo())
+                .toList();
+        if (!fallos.isEmpty()) {
+            throw new AssertionError("Presupuesto de sentencias SQL superado:\n  " + String.join("\n  ", fallos));
+        }
+    }
+
+    private HttpRequest peticion(String metodo, String ruta, String json) {
+        HttpRequest.Builder b = HttpRequest.newBuilder(URI.create(base + ruta));
+        if (json != null) {
+            b.header("Content-Type", "application/json");
+        }
+        return b.method(metodo, json != null
+                ? HttpRequest.BodyPublishers.ofString(json)
+                : HttpRequest.BodyPublishers.noBody()).build();
+    }
+}
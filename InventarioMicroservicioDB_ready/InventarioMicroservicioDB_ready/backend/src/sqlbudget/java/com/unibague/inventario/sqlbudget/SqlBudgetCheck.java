@@ -0,0 +1,169 @@
+package com.unibague.inventario.sqlbudget;
+
+import com.unibague.inventario.InventarioDbApplication;
+import com.unibague.inventario.dto.SemillaRequest;
+import com.unibague.inventario.service.CreateSemillasBatchService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Comprueba el presupuesto de sentencias SQL de cada endpoint.
+ *
+ * <p>Arranca la aplicación en este proceso (puerto libre), siembra
+ * {@value #SEMILLAS} semillas para que un listado de 50 filas con una
+ * consulta por fila (N+1) se note, y recorre los endpoints con
+ * {@link SqlBudget}. Termina con código 1 si alguno ejecuta más sentencias
+ * de las previstas, de modo que {@code mvn verify} falla.</p>
+ *
+ * <p>Las escrituras se comprueban con {@link SqlBudget#exacto}: código HTTP
+ * y número justo de sentencias, también cuando fallan por clave duplicada
+ * (409), fila inexistente (404) o ETag obsoleta (412).</p>
+ *
+ * <p>{@value #CALIENTE} tiene contador de stock en memoria: tras mover su
+ * stock, un PUT y un DELETE con la ETag recién leída deben responder 200 y
+ * 204 aunque la escritura vuelque antes los movimientos pendientes.</p>
+ *
+ * <p>Los máximos son los valores actuales: si un cambio los reduce, se
+ * bajan aquí; si los sube, debe justificarse en la revisión.</p>
+ */
+public final class SqlBudgetCheck {
+
+    static final int SEMILLAS = 300;
+
+    /** Código con contador de stock en memoria; sin volcado periódico, solo el de PUT/DELETE. */
+    static final String CALIENTE = "Q00299";
+
+    private static final String SEMILLA_JSON = """
+            {"codigo":"%s","nombre":"Maíz amarillo","precio":1200.0,"stock":50,"tipoSemilla":"Cereal",
+             "porcentajeGerminacion":92.5,"proveedorNit":"900123456","fechaIngreso":"2025-03-01T10:15:30"}""";
+
+    private static final String PROVEEDOR_JSON = """
+            {"nit":"%s","nombre":"Semillas de Prueba","ciudad":"Ibagué","telefono":"3000000000",
+             "fechaRegistro":"2024-01-01T00:00:00","activo":true}""";
+
+    private SqlBudgetCheck() {}
+
+    public static void main(String[] args) throws Exception {
+        // Como argumentos: las propiedades por defecto del builder no ganan a application.properties
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(InventarioDbApplication.class)
+                .run("--server.port=0",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--inventario.stock.hot-counters.enabled=true",
+                        "--inventario.stock.hot-counters.codigos=" + CALIENTE,
+                        "--inventario.stock.hot-counters.flush-interval-ms=3600000");
+        int codigo;
+        try {
+            sembrar(context.getBean(CreateSemillasBatchService.class));
+            String port = context.getEnvironment().getProperty("local.server.port");
+            SqlBudget budget = new SqlBudget("http://localhost:" + port + "/api/v1");
+            recorrer(budget);
+            imprimir(budget.medidas());
+            budget.verificar();
+            codigo = 0;
+        } catch (AssertionError e) {
+            System.err.println(e.getMessage());
+            codigo = 1;
+        } finally {
+            context.close();
+        }
+        System.exit(codigo);
+    }
+
+    private static void recorrer(SqlBudget b) throws Exception {
+        // Semillas: lecturas
+        b.esperar("semilla por código (fallo de caché)", b.get("/semillas/Q00001"), 1);
+        b.esperar("semilla por código (acierto de caché)", b.get("/semillas/Q00001"), 0);
+        b.esperar("listar semillas", b.get("/semillas?limit=50"), 1);
+        b.esperar("listar semillas con total", b.get("/semillas?limit=50&count=true"), 2);
+        b.esperar("listar semillas filtradas", b.get(
+                "/semillas?tipo=Cereal&desde=2025-01-10T00:00:00&sort=fechaIngreso&limit=50"), 1);
+        b.esperar("sugerencias de semillas", b.get("/semillas/sugerencias?q=maiz"), 0);
+        b.esperar("analítica de semillas", b.get("/semillas/analytics?agrupar=tipo,mes"), 1);
+
+        // Proveedores: lecturas
+        b.esperar("proveedor por NIT", b.get("/proveedores/900654321"), 1);
+        b.esperar("listar proveedores", b.get("/proveedores?limit=50"), 2);
+        b.esperar("listar proveedores por ciudad", b.get("/proveedores?ciudad=bogota&activo=true"), 2);
+        b.esperar("sugerencias de proveedores", b.get("/proveedores/sugerencias?q=agro"), 0);
+        b.esperar("top2 de un proveedor", b.get("/proveedores/900123456/top2"), 2);
+        b.esperar("top de proveedores", b.get("/proveedores/top?n=5"), 2);
+
+        // Semillas: escrituras (número exacto de sentencias, también en los errores)
+        b.exacto("crear semilla", b.post("/semillas", SEMILLA_JSON.formatted("PRESUP1")), 201, 3);
+        b.exacto("crear semilla duplicada", b.post("/semillas", SEMILLA_JSON.formatted("PRESUP1")), 409, 1);
+        b.exacto("crear semilla de proveedor inexistente", b.post("/semillas",
+                SEMILLA_JSON.formatted("PRESUP2").replace("900123456", "800999999")), 404, 1);
+        b.esperar("carga masiva de 100 semillas", b.post("/semillas/batch", lote("PRESUPL", 100)), 6);
+        b.exacto("actualizar semilla", b.put("/semillas/PRESUP1",
+                SEMILLA_JSON.formatted("PRESUP1").replace("\"stock\":50", "\"stock\":60")), 200, 4);
+        String etag = b.etag("/semillas/PRESUP1");
+        b.exacto("actualizar semilla con If-Match", b.put("/semillas/PRESUP1",
+                SEMILLA_JSON.formatted("PRESUP1").replace("\"stock\":50", "\"stock\":70"), etag), 200, 4);
+        b.exacto("actualizar semilla con If-Match obsoleto", b.put("/semillas/PRESUP1",
+                SEMILLA_JSON.formatted("PRESUP1"), etag), 412, 1);
+        b.exacto("actualizar semilla inexistente", b.put("/semillas/NOEXISTE",
+                SEMILLA_JSON.formatted("NOEXISTE")), 404, 1);
+        b.esperar("mover stock", b.patch("/semillas/PRESUP1/stock", "{\"delta\":-1}"), 3);
+        b.exacto("eliminar semilla", b.delete("/semillas/PRESUP1"), 204, 3);
+        b.exacto("eliminar semilla inexistente", b.delete("/semillas/PRESUP1"), 404, 1);
+
+        // Código caliente: el volcado previo a la escritura no invalida la ETag leída
+        String ruta = "/semillas/" + CALIENTE;
+        for (int i = 0; i < 3; i++) {
+            b.esperar("mover stock en memoria", b.patch(ruta + "/stock", "{\"delta\":-1}"), 1);
+        }
+        b.exacto("actualizar semilla caliente con If-Match", b.put(ruta,
+                SEMILLA_JSON.formatted(CALIENTE), b.etag(ruta)), 200, 7);
+        b.esperar("mover stock en memoria", b.patch(ruta + "/stock", "{\"delta\":-1}"), 1);
+        b.exacto("eliminar semilla caliente con If-Match", b.delete(ruta, b.etag(ruta)), 204, 6);
+
+        // Proveedores: escrituras
+        b.exacto("crear proveedor", b.post("/proveedores", PROVEEDOR_JSON.formatted("800000001")), 201, 2);
+        b.exacto("crear proveedor duplicado", b.post("/proveedores", PROVEEDOR_JSON.formatted("800000001")), 409, 1);
+        b.exacto("actualizar proveedor", b.put("/proveedores/800000001",
+                PROVEEDOR_JSON.formatted("800000001").replace("3000000000", "3110000000")), 200, 1);
+        b.exacto("actualizar proveedor inexistente", b.put("/proveedores/800000002",
+                PROVEEDOR_JSON.formatted("800000002")), 404, 1);
+        b.exacto("eliminar proveedor", b.delete("/proveedores/800000001"), 204, 2);
+        b.exacto("eliminar proveedor inexistente", b.delete("/proveedores/800000001"), 404, 1);
+    }
+
+    private static void sembrar(CreateSemillasBatchService batch) {
+        List<SemillaRequest> lote = new ArrayList<>(SEMILLAS);
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        for (int i = 0; i < SEMILLAS; i++) {
+            SemillaRequest r = new SemillaRequest();
+            r.setCodigo(String.format("Q%05d", i));
+            r.setNombre((i % 2 == 0 ? "Maíz " : "Frijol ") + i);
+            r.setPrecio(1000.0 + i);
+            r.setStock(10 + i % 90);
+            r.setTipoSemilla(i % 2 == 0 ? "Cereal" : "Leguminosa");
+            r.setPorcentajeGerminacion(70.0 + i % 30);
+            r.setProveedorNit(i % 3 == 0 ? "900654321" : "900123456");
+            r.setFechaIngreso(base.plusHours(i));
+            lote.add(r);
+        }
+        batch.createAll(lote);
+    }
+
+    private static String lote(String prefijo, int n) {
+        List<String> filas = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            filas.add(SEMILLA_JSON.formatted(prefijo + i));
+        }
+        return "[" + String.join(",", filas) + "]";
+    }
+
+    private static void imprimir(List<SqlBudget.Medida> medidas) {
+        System.out.printf("%n%-42s %6s %10s %8s  %s%n", "endpoint", "HTTP", "sentencias", "previsto", "");
+        for (SqlBudget.Medida m : medidas) {
+            System.out.printf("%-42s %6d %10d %8d  %s%n", m.nombre(), m.status(), m.sentencias(), m.maximo(),
+                    m.cumple() ? "" : "<-- " + m.metodo() + " " + m.ruta());
+        }
+    }
+}
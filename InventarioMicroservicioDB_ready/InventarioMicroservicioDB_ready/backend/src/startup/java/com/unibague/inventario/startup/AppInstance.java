@@ -0,0 +1,108 @@
+package com.unibague.inventario.startup;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * La aplicación arrancada en otra JVM desde un jar, con el tiempo contado
+ * desde el lanzamiento del proceso.
+ */
+final class AppInstance implements AutoCloseable {
+
+    static final HttpClient HTTP = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(2))
+            .build();
+
+    private final Process proceso;
+    private final long inicio;
+    private final String base;
+
+    private AppInstance(Process proceso, long inicio, int port) {
+        this.proceso = proceso;
+        this.inicio = inicio;
+        this.base = "http://localhost:" + port;
+    }
+
+    /**
+     * Lanza {@code java <jvm> -jar <jar>} sin SQL ni registros por debajo de
+     * WARN, y con la salida en {@code log}.
+     */
+    static AppInstance lanzar(List<String> jvm, Path jar, int port, List<String> appArgs, Path log)
+            throws IOException {
+        List<String> cmd = new ArrayList<>();
+        cmd.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        cmd.addAll(jvm);
+        cmd.addAll(List.of("-jar", jar.toString(),
+                "--server.port=" + port,
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN"));
+        cmd.addAll(appArgs);
+        Files.createDirectories(log.getParent());
+        long inicio = System.nanoTime();
+        Process p = new ProcessBuilder(cmd)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        return new AppInstance(p, inicio, port);
+    }
+
+    /** Instante del lanzamiento, en {@link System#nanoTime()}. */
+    long inicio() {
+        return inicio;
+    }
+
+    URI uri(String ruta) {
+        return URI.create(base + ruta);
+    }
+
+    /**
+     * Espera a que {@code /actuator/health/readiness} responda 200 y devuelve
+     * los nanosegundos desde el lanzamiento.
+     */
+    long esperarLista() throws InterruptedException {
+        HttpRequest req = HttpRequest.newBuilder(uri("/actuator/health/readiness"))
+                .timeout(Duration.ofSeconds(2)).build();
+        long limite = inicio + TimeUnit.MINUTES.toNanos(10);
+        while (System.nanoTime() < limite) {
+            if (!proceso.isAlive()) {
+                throw new IllegalStateException("La aplicación terminó al arrancar (código " + proceso.exitValue() + ")");
+            }
+            try {
+                if (HTTP.send(req, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return System.nanoTime() - inicio;
+                }
+            } catch (IOException ex) {
+                // todavía arrancando
+            }
+            Thread.sleep(20);
+        }
+        throw new IllegalStateException("La aplicación no estuvo lista en 10 minutos");
+    }
+
+    /** SIGTERM y espera: Spring se cierra ordenadamente y la JVM ejecuta sus tareas de salida. */
+    @Override
+    public void close() throws InterruptedException {
+        proceso.destroy();
+        if (!proceso.waitFor(2, TimeUnit.MINUTES)) {
+            proceso.destroyForcibly().waitFor();
+        }
+    }
+
+    static List<String> separar(String args) {
+        List<String> l = new ArrayList<>();
+        for (String a : args.trim().split("\\s+")) {
+            if (!a.isEmpty()) l.add(a);
+        }
+        return l;
+    }
+}
@@ -0,0 +1,76 @@
+package com.unibague.inventario.startup;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Genera el archivo AppCDS de la aplicación extraída.
+ *
+ * <p>Arranca el jar extraído con {@code -XX:ArchiveClassesAtExit} y el modo
+ * AOT, deja que haga el calentamiento (que recorre los endpoints
+ * principales), espera a que esté lista y la detiene; al salir, la JVM
+ * guarda en el archivo todas las clases cargadas. Así el archivo cubre
+ * también las clases del camino de una petición (Tomcat, Jackson, consultas
+ * de Hibernate), no solo las del arranque del contexto.</p>
+ *
+ * <p>El archivo solo es válido con la misma JVM y el mismo classpath: se
+ * usa con {@code java -XX:SharedArchiveFile=<archive>
+ * -Dspring.aot.enabled=true -jar <jar>}. Argumentos {@code clave=valor}:</p>
+ *
+ * <pre>
+ * jar=target/fast-startup/inventario-db-microservice-0.0.1-SNAPSHOT.jar
+ * archive=target/fast-startup/application.jsa warmup=20 port=18094 jvmArgs=-Xmx512m
+ * </pre>
+ */
+public final class CdsTraining {
+
+    private static final Set<String> CLAVES = Set.of("jar", "archive", "warmup", "port", "jvmArgs");
+
+    private CdsTraining() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> cfg = new HashMap<>();
+        for (String a : args) {
+            int eq = a.indexOf('=');
+            if (eq <= 0 || !CLAVES.contains(a.substring(0, eq))) {
+                throw new IllegalArgumentException("Argumento no reconocido: '" + a + "'. Claves válidas: " + CLAVES);
+            }
+            cfg.put(a.substring(0, eq), a.substring(eq + 1));
+        }
+        Path jar = requerido(cfg, "jar");
+        Path archivo = requerido(cfg, "archive");
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalArgumentException("No existe el jar extraído " + jar);
+        }
+        Files.deleteIfExists(archivo);
+
+        List<String> jvm = new ArrayList<>(AppInstance.separar(cfg.getOrDefault("jvmArgs", "-Xmx512m")));
+        jvm.add("-XX:ArchiveClassesAtExit=" + archivo);
+        jvm.add("-Dspring.aot.enabled=true");
+        Path log = archivo.resolveSibling("entrenamiento-cds.log");
+        System.out.println("Entrenando el archivo CDS (registro en " + log + ")");
+        try (AppInstance app = AppInstance.lanzar(jvm, jar, Integer.parseInt(cfg.getOrDefault("port", "18094")),
+                List.of("--inventario.warmup.iterations=" + cfg.getOrDefault("warmup", "20")), log)) {
+            long nanos = app.esperarLista();
+            System.out.printf("Lista en %.2f s; deteniendo para guardar el archivo%n", nanos / 1e9);
+        }
+        if (!Files.isRegularFile(archivo)) {
+            throw new IllegalStateException("La JVM no generó " + archivo + "; ver " + log);
+        }
+        System.out.printf("Archivo CDS: %s (%d MB)%n", archivo, Files.size(archivo) / (1024 * 1024));
+    }
+
+    private static Path requerido(Map<String, String> cfg, String clave) {
+        String v = cfg.get(clave);
+        if (v == null || v.isBlank()) {
+            throw new IllegalArgumentException("Falta el argumento '" + clave + "='");
+        }
+        return Path.of(v).toAbsolutePath();
+    }
+}
@@ -0,0 +1,242 @@
+package com.unibague.inventario.startup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Tiempo hasta la primera petición y hasta un p99 estable, por modo de
+ * arranque.
+ *
+ * <p>Compara el jar de siempre con el jar extraído con clases Spring AOT y
+ * archivo AppCDS (ver {@link CdsTraining}), cada uno con y sin
+ * calentamiento ({@code inventario.warmup.iterations}). Cada ejecución
+ * lanza una JVM nueva y mide, desde el lanzamiento:</p>
+ * <ul>
+ *   <li><b>lista</b>: {@code /actuator/health/readiness} responde 200 (el
+ *       calentamiento, si lo hay, ocurre antes);</li>
+ *   <li><b>primera petición</b>: respuesta del primer listado de semillas,
+ *       pedido en cuanto la instancia está lista, y su latencia;</li>
+ *   <li>después, durante {@code duration} segundos, una mezcla de lecturas a
+ *       {@code rate} peticiones por segundo. La latencia se cuenta desde el
+ *       instante programado, así que una petición lenta también retrasa las
+ *       siguientes. El <b>p99 estable</b> es el del último tercio; <b>hasta
+ *       p99 estable</b> es el primer segundo a partir del cual el p99 de todo
+ *       lo que queda no supera en más de un 20&nbsp;% al estable.</li>
+ * </ul>
+ * <p>Los modos se alternan en cada ronda para repartir el ruido de la
+ * máquina; se informa la mediana de {@code runs} rondas. Argumentos
+ * {@code clave=valor}:</p>
+ *
+ * <pre>
+ * fatJar=target/inventario-db-microservice-0.0.1-SNAPSHOT.jar dir=target/fast-startup
+ * runs=3 duration=30 rate=50 warmup=50 port=18095 jvmArgs=-Xmx512m
+ * </pre>
+ */
+public final class StartupReport {
+
+    private static final Set<String> CLAVES = Set.of("fatJar", "dir", "runs", "duration", "rate", "warmup",
+            "port", "jvmArgs");
+    private static final String[] METRICAS = {"listaS", "primeraPeticionS", "primeraPeticionMs",
+            "p99PrimerSegundoMs", "p99EstableMs", "hastaP99EstableS"};
+    private static final double TOLERANCIA = 1.2;
+
+    /** Una forma de arrancar la aplicación. */
+    private record Modo(String nombre, List<String> jvm, Path jar, List<String> appArgs) {}
+
+    private final Map<String, String> cfg;
+    private final int port;
+    private final Path dir;
+    private final ObjectMapper json = new ObjectMapper();
+
+    private StartupReport(Map<String, String> cfg) {
+        this.cfg = cfg;
+        this.port = Integer.parseInt(cfg.getOrDefault("port", "18095"));
+        this.dir = Path.of(cfg.getOrDefault("dir", "target/fast-startup")).toAbsolutePath();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> cfg = new HashMap<>();
+        for (String a : args) {
+            int eq = a.indexOf('=');
+            if (eq <= 0 || !CLAVES.contains(a.substring(0, eq))) {
+                throw new IllegalArgumentException("Argumento no reconocido: '" + a + "'. Claves válidas: " + CLAVES);
+            }
+            cfg.put(a.substring(0, eq), a.substring(eq + 1));
+        }
+        new StartupReport(cfg).ejecutar();
+    }
+
+    private void ejecutar() throws Exception {
+        Path fatJar = Path.of(cfg.getOrDefault("fatJar", "target/inventario-db-microservice-0.0.1-SNAPSHOT.jar"))
+                .toAbsolutePath();
+        Path extraido = dir.resolve(fatJar.getFileName());
+        Path archivo = dir.resolve("application.jsa");
+        for (Path p : List.of(fatJar, extraido, archivo)) {
+            if (!Files.isRegularFile(p)) {
+                throw new IllegalStateException("Falta " + p + " (se genera con mvn -Pfast-startup package)");
+            }
+        }
+        List<String> jvm = AppInstance.separar(cfg.getOrDefault("jvmArgs", "-Xmx512m"));
+        List<String> jvmRapida = new ArrayList<>(jvm);
+        jvmRapida.add("-XX:SharedArchiveFile=" + archivo);
+        jvmRapida.add("-Dspring.aot.enabled=true");
+        List<String> calentar = List.of("--inventario.warmup.iterations=" + cfg.getOrDefault("warmup", "50"));
+        List<Modo> modos = List.of(
+                new Modo("jar", jvm, fatJar, List.of()),
+                new Modo("jar + calentamiento", jvm, fatJar, calentar),
+                new Modo("aot + cds", jvmRapida, extraido, List.of()),
+                new Modo("aot + cds + calentamiento", jvmRapida, extraido, calentar));
+
+        int rondas = Integer.parseInt(cfg.getOrDefault("runs", "3"));
+        Map<String, List<Map<String, Double>>> mediciones = new LinkedHashMap<>();
+        modos.forEach(m -> mediciones.put(m.nombre(), new ArrayList<>()));
+        for (int r = 1; r <= rondas; r++) {
+            for (Modo m : modos) {
+                System.out.printf("Ronda %d/%d, %s%n", r, rondas, m.nombre());
+                Path log = dir.resolve("arranque-" + m.nombre().replaceAll("[^a-z]+", "-") + "-" + r + ".log");
+                mediciones.get(m.nombre()).add(medir(m, log));
+            }
+        }
+
+        Map<String, Object> porModo = new LinkedHashMap<>();
+        System.out.printf("%n%-26s %9s %12s %10s %12s %12s %14s%n", "modo", "lista s", "1.ª pet. s",
+                "1.ª pet. ms", "p99 1.er s", "p99 estable", "hasta estable s");
+        for (Map.Entry<String, List<Map<String, Double>>> e : mediciones.entrySet()) {
+            Map<String, Double> mediana = new LinkedHashMap<>();
+            for (String k : METRICAS) {
+                mediana.put(k, mediana(e.getValue().stream().mapToDouble(x -> x.get(k)).toArray()));
+            }
+            System.out.printf("%-26s %9.2f %12.2f %10.1f %12.1f %12.1f %14.2f%n", e.getKey(),
+                    mediana.get("listaS"), mediana.get("primeraPeticionS"), mediana.get("primeraPeticionMs"),
+                    mediana.get("p99PrimerSegundoMs"), mediana.get("p99EstableMs"), mediana.get("hastaP99EstableS"));
+            porModo.put(e.getKey(), Map.of("mediana", mediana, "ejecuciones", e.getValue()));
+        }
+
+        Map<String, Object> resultado = new LinkedHashMap<>();
+        resultado.put("fecha", LocalDateTime.now().toString());
+        resultado.put("rondas", rondas);
+        resultado.put("duracionS", Integer.parseInt(cfg.getOrDefault("duration", "30")));
+        resultado.put("ritmo", Integer.parseInt(cfg.getOrDefault("rate", "50")));
+        resultado.put("modos", porModo);
+        Path salida = dir.resolve("arranque.json");
+        json.writerWithDefaultPrettyPrinter().writeValue(salida.toFile(), resultado);
+        System.out.println("\nResultado en " + salida);
+    }
+
+    private Map<String, Double> medir(Modo modo, Path log) throws Exception {
+        try (AppInstance app = AppInstance.lanzar(modo.jvm(), modo.jar(), port, modo.appArgs(), log)) {
+            long lista = app.esperarLista();
+
+            HttpRequest primera = HttpRequest.newBuilder(app.uri("/api/v1/semillas?limit=50"))
+                    .timeout(Duration.ofSeconds(30)).build();
+            long t0 = System.nanoTime();
+            HttpResponse<String> r = AppInstance.HTTP.send(primera, HttpResponse.BodyHandlers.ofString());
+            long t1 = System.nanoTime();
+            if (r.statusCode() != 200) {
+                throw new IllegalStateException("La primera petición respondió " + r.statusCode() + ": " + r.body());
+            }
+
+            Map<String, Double> m = new LinkedHashMap<>();
+            m.put("listaS", lista / 1e9);
+            m.put("primeraPeticionS", (t1 - app.inicio()) / 1e9);
+            m.put("primeraPeticionMs", (t1 - t0) / 1e6);
+            sostenida(app, mezcla(app, json.readTree(r.body())), t1, m);
+            return m;
+        }
+    }
+
+    /** Las lecturas de la carga sostenida, con claves tomadas del primer listado. */
+    private static List<HttpRequest> mezcla(AppInstance app, JsonNode semillas) {
+        List<String> rutas = new ArrayList<>(List.of(
+                "/api/v1/semillas?limit=50",
+                "/api/v1/proveedores?limit=50",
+                "/api/v1/semillas/sugerencias?q=ma",
+                "/api/v1/semillas/analytics?agrupar=tipo,mes"));
+        if (semillas.isArray() && !semillas.isEmpty()) {
+            JsonNode s = semillas.get(0);
+            String nit = codificar(s.path("proveedorNit").asText());
+            rutas.add("/api/v1/semillas/" + codificar(s.path("codigo").asText()));
+            rutas.add("/api/v1/semillas?tipo=" + codificar(s.path("tipoSemilla").asText()) + "&limit=20");
+            rutas.add("/api/v1/proveedores/" + nit);
+            rutas.add("/api/v1/proveedores/" + nit + "/top2");
+        }
+        return rutas.stream()
+                .map(ruta -> HttpRequest.newBuilder(app.uri(ruta)).timeout(Duration.ofSeconds(10)).build())
+                .toList();
+    }
+
+    private void sostenida(AppInstance app, List<HttpRequest> mezcla, long desde, Map<String, Double> m)
+            throws InterruptedException {
+        int segundos = Integer.parseInt(cfg.getOrDefault("duration", "30"));
+        long intervalo = 1_000_000_000L / Integer.parseInt(cfg.getOrDefault("rate", "50"));
+        int total = (int) (segundos * 1_000_000_000L / intervalo);
+        long[] latencias = new long[total];
+        int errores = 0;
+        for (int i = 0; i < total; i++) {
+            long programada = desde + i * intervalo;
+            long espera = programada - System.nanoTime();
+            if (espera > 0) {
+                LockSupport.parkNanos(espera);
+            }
+            try {
+                int status = AppInstance.HTTP.send(mezcla.get(i % mezcla.size()),
+                        HttpResponse.BodyHandlers.discarding()).statusCode();
+                if (status >= 400) {
+                    errores++;
+                }
+            } catch (IOException e) {
+                errores++;
+            }
+            latencias[i] = System.nanoTime() - programada;
+        }
+        if (errores > 0) {
+            throw new IllegalStateException(errores + " de " + total + " peticiones fallaron; ver el registro");
+        }
+
+        int porSegundo = (int) (1_000_000_000L / intervalo);
+        double estable = p99(latencias, total * 2 / 3, total);
+        // como mucho hasta el comienzo del último tercio, que define el p99 estable
+        int desdeSegundo = 0;
+        while ((desdeSegundo + 1) * porSegundo <= total * 2 / 3
+                && p99(latencias, desdeSegundo * porSegundo, total) > estable * TOLERANCIA) {
+            desdeSegundo++;
+        }
+        m.put("p99PrimerSegundoMs", p99(latencias, 0, Math.min(porSegundo, total)) / 1e6);
+        m.put("p99EstableMs", estable / 1e6);
+        m.put("hastaP99EstableS", (desde - app.inicio()) / 1e9 + desdeSegundo);
+    }
+
+    private static double p99(long[] valores, int desde, int hasta) {
+        long[] v = Arrays.copyOfRange(valores, desde, hasta);
+        Arrays.sort(v);
+        return v[Math.max(0, (int) Math.ceil(v.length * 0.99) - 1)];
+    }
+
+    private static double mediana(double[] v) {
+        double[] s = v.clone();
+        Arrays.sort(s);
+        return s.length % 2 == 1 ? s[s.length / 2] : (s[s.length / 2 - 1] + s[s.length / 2]) / 2;
+    }
+
+    private static String codificar(String valor) {
+        return URLEncoder.encode(valor, StandardCharsets.UTF_8);
+    }
+}
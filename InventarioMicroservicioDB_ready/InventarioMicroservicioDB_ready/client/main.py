@@ -400,11 +400,22 @@ def semillas_list_window():
             except ValueError as ve:
                 return show_error("Fecha 'Hasta' inválida", str(ve))
 
+        estado["params"] = params
+        cargar(params, limpiar=True)
+
+    # El servicio pagina de a 50 filas: "Cargar más" pide la página siguiente con
+    # el cursor de X-Next-Cursor y los mismos filtros, y la añade a la tabla.
+    estado = {"params": None, "cursor": None}
+
+    def cargar(params, limpiar):
         try:
             r = requests.get(BASE_URL_SEMILLAS, params=params, timeout=TIMEOUT)
             data = safe_json(r) if r.status_code == 200 else []
-            for it in tree.get_children():
-                tree.delete(it)
+            estado["cursor"] = r.headers.get("X-Next-Cursor") if r.status_code == 200 else None
+            btn_mas.config(state=tk.NORMAL if estado["cursor"] else tk.DISABLED)
+            if limpiar:
+                for it in tree.get_children():
+                    tree.delete(it)
             for s in data:
                 tree.insert("", tk.END, values=(
                     s.get("codigo"), s.get("nombre"), s.get("precio"), s.get("stock"),
@@ -414,7 +425,14 @@ def semillas_list_window():
         except Exception as e:
             show_error("Error", str(e))
 
-    tk.Button(win, text="Listar", command=listar).grid(row=2, column=0, columnspan=6, pady=6)
+    def cargar_mas():
+        if estado["params"] is None or not estado["cursor"]:
+            return
+        cargar(dict(estado["params"], after=estado["cursor"]), limpiar=False)
+
+    tk.Button(win, text="Listar", command=listar).grid(row=2, column=0, columnspan=3, pady=6)
+    btn_mas = tk.Button(win, text="Cargar más", command=cargar_mas, state=tk.DISABLED)
+    btn_mas.grid(row=2, column=3, columnspan=3, pady=6)
 
 # ========================= PROVEEDORES (CRUD) =========================
 def proveedores_create_window():
@@ -610,11 +628,21 @@ def proveedores_list_window():
                 params["ciudad"] = ciudad
             if var_act.get():
                 params["activo"] = "true"
+        estado["params"] = params
+        cargar(params, limpiar=True)
+
+    # Igual que en semillas: páginas de 50 filas encadenadas por X-Next-Cursor.
+    estado = {"params": None, "cursor": None}
+
+    def cargar(params, limpiar):
         try:
             r = requests.get(BASE_URL_PROVEEDORES, params=params, timeout=TIMEOUT)
             data = safe_json(r) if r.status_code == 200 else []
-            for it in tree.get_children():
-                tree.delete(it)
+            estado["cursor"] = r.headers.get("X-Next-Cursor") if r.status_code == 200 else None
+            btn_mas.config(state=tk.NORMAL if estado["cursor"] else tk.DISABLED)
+            if limpiar:
+                for it in tree.get_children():
+                    tree.delete(it)
             for p in data:
                 tree.insert("", tk.END, values=(
                     p.get("nit"), p.get("nombre"), p.get("ciudad"),
@@ -624,7 +652,14 @@ def proveedores_list_window():
         except Exception as ex:
             show_error("Error", str(ex))
 
-    tk.Button(win, text="Listar", command=listar).grid(row=2, column=0, columnspan=5, pady=6)
+    def cargar_mas():
+        if estado["params"] is None or not estado["cursor"]:
+            return
+        cargar(dict(estado["params"], after=estado["cursor"]), limpiar=False)
+
+    tk.Button(win, text="Listar", command=listar).grid(row=2, column=0, columnspan=3, pady=6)
+    btn_mas = tk.Button(win, text="Cargar más", command=cargar_mas, state=tk.DISABLED)
+    btn_mas.grid(row=2, column=3, columnspan=2, pady=6)
 
 # ============================ UI ROOT ============================
 def main():
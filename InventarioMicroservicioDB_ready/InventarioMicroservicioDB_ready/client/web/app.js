@@ -122,6 +122,21 @@ async function eliminarProveedor(){
   }catch(err){ handleError("pd_out", err.message) }
 }
 
+/* El listado llega paginado (50 filas por defecto): se guardan los filtros de la
+ * última consulta y el cursor de X-Next-Cursor para pedir la página siguiente. */
+let plParams = null;
+let plCursor = null;
+
+async function cargarPaginaProveedores(params){
+  const url = params.toString() ? `${BASE_PROVEEDORES}?${params.toString()}` : BASE_PROVEEDORES;
+  try{
+    const res = await fetch(url);
+    plCursor = res.ok ? res.headers.get("X-Next-Cursor") : null;
+    document.getElementById("pl_next").disabled = !plCursor;
+    await handleResponse(res, "pl_out");
+  }catch(err){ handleError("pl_out", err.message) }
+}
+
 async function listarProveedores(){
   const nombre = document.getElementById("pl_nombre").value.trim();
   const ciudad = document.getElementById("pl_ciudad").value.trim();
@@ -132,11 +147,15 @@ async function listarProveedores(){
   if(!nombre && ciudad) params.append("ciudad", ciudad);
   if(!nombre && activo) params.append("activo", "true");
 
-  const url = params.toString() ? `${BASE_PROVEEDORES}?${params.toString()}` : BASE_PROVEEDORES;
-  try{
-    const res = await fetch(url);
-    await handleResponse(res, "pl_out");
-  }catch(err){ handleError("pl_out", err.message) }
+  plParams = params;
+  await cargarPaginaProveedores(params);
+}
+
+async function siguientePaginaProveedores(){
+  if(!plParams || !plCursor) return;
+  const params = new URLSearchParams(plParams);
+  params.set("after", plCursor);
+  await cargarPaginaProveedores(params);
 }
 
 /* Exponer funciones a window (para onclick de HTML) */
@@ -145,3 +164,4 @@ window.buscarProveedor = buscarProveedor;
 window.actualizarProveedor = actualizarProveedor;
 window.eliminarProveedor = eliminarProveedor;
 window.listarProveedores = listarProveedores;
+window.siguientePaginaProveedores = siguientePaginaProveedores;